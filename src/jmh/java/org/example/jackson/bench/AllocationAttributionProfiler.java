@@ -0,0 +1,226 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordedFrame;
+import jdk.jfr.consumer.RecordedStackTrace;
+import jdk.jfr.consumer.RecordedThread;
+import jdk.jfr.consumer.RecordingFile;
+import org.openjdk.jmh.infra.BenchmarkParams;
+import org.openjdk.jmh.infra.IterationParams;
+import org.openjdk.jmh.profile.InternalProfiler;
+import org.openjdk.jmh.results.AggregationPolicy;
+import org.openjdk.jmh.results.IterationResult;
+import org.openjdk.jmh.results.Result;
+import org.openjdk.jmh.results.ScalarResult;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+
+/**
+ * Profiler that breaks down bytes allocated per operation by origin, using JFR
+ * allocation samples ({@code jdk.ObjectAllocationSample}, JDK 16+) taken on
+ * benchmark threads; each sample is attributed to the first frame of its stack
+ * trace (innermost first) that matches an {@link Origin}. Since every benchmark
+ * method parses with one parser variant, results are per variant.
+ *<p>
+ * Reported as {@code alloc.<origin>.norm} in bytes per operation, along with
+ * {@code alloc.total.norm}; for benchmarks with {@code shape} and {@code depth}
+ * parameters (see {@link JsonUtil#createNestedDoc}) also {@code alloc.total.perToken}.
+ * Figures are estimates from sampling: use them for the breakdown, and
+ * {@code gc.alloc.rate.norm} of the GC profiler for totals. Sampling is set to a
+ * high rate, which slows benchmarks down, so throughput measured along with this
+ * profiler should not be compared with that of plain runs.
+ *<p>
+ * Use with {@code -prof org.example.jackson.bench.AllocationAttributionProfiler}
+ * or see {@link NestingBench#launchAllocationProfile()}.
+ */
+public class AllocationAttributionProfiler implements InternalProfiler {
+
+    private final static String ALLOCATION_EVENT = "jdk.ObjectAllocationSample";
+    private final static String THROTTLE = "10000/s";
+
+    /**
+     * Origins allocations are attributed to, in order reported.
+     */
+    enum Origin {
+        /**
+         * Parsing context objects: {@code JsonReadContext} children (and snapshots of
+         * {@link PooledJsonReadContext}), along with their {@code DupDetector}s
+         */
+        PARSING_CONTEXT("parsingContext"),
+
+        /**
+         * Segments allocated by {@code TextBuffer} as it grows, beyond the initial
+         * buffer it gets from its {@code BufferRecycler}
+         */
+        TEXT_BUFFER("textBuffer"),
+
+        /**
+         * Growth of {@code _quadBuffer} of byte-based parsers, for long names
+         */
+        QUAD_BUFFER("quadBuffer"),
+
+        /**
+         * {@code IOContext}, {@code BufferRecycler} and buffers from it: as
+         * {@link JsonUtil#createContext} takes the recycler of the thread from
+         * {@code BufferRecyclers}, this is mostly the contexts themselves, plus
+         * buffers the recycler has none of to hand out (such as on first use)
+         */
+        IO_CONTEXT("ioContext"),
+
+        /**
+         * Child symbol tables and names added to them
+         */
+        SYMBOLS("symbols"),
+
+        /**
+         * Anything else: the parser itself, input streams, values and so on
+         */
+        OTHER("other");
+
+        final String label;
+
+        Origin(String label) {
+            this.label = label;
+        }
+
+        /**
+         * @return Origin if given frame is one that identifies it, {@code null} if not
+         */
+        static Origin of(RecordedFrame frame) {
+            if (!frame.isJavaFrame()) {
+                return null;
+            }
+            final String type = frame.getMethod().getType().getName();
+            final String method = frame.getMethod().getName();
+            if (type.endsWith("JsonReadContext") || type.startsWith(PooledJsonReadContext.class.getName())
+                    || type.endsWith(".DupDetector")) {
+                return PARSING_CONTEXT;
+            }
+            if (type.endsWith(".TextBuffer")) {
+                return TEXT_BUFFER;
+            }
+            // only used for quad buffers by byte-based parsers
+            if (method.equals("growArrayBy") || method.equals("_growArrayBy")) {
+                return QUAD_BUFFER;
+            }
+            if (type.endsWith(".IOContext") || type.endsWith(".BufferRecycler")
+                    || type.endsWith(".BufferRecyclers")) {
+                return IO_CONTEXT;
+            }
+            if (type.startsWith("com.fasterxml.jackson.core.sym.")) {
+                return SYMBOLS;
+            }
+            return null;
+        }
+    }
+
+    private Recording _recording;
+
+    @Override
+    public String getDescription() {
+        return "Bytes allocated per operation by origin (parsing context, buffers, symbols), from JFR samples";
+    }
+
+    @Override
+    public void beforeIteration(BenchmarkParams benchmarkParams, IterationParams iterationParams) {
+        _recording = new Recording();
+        _recording.enable(ALLOCATION_EVENT).withStackTrace().with("throttle", THROTTLE);
+        _recording.start();
+    }
+
+    @Override
+    public Collection<? extends Result<?>> afterIteration(BenchmarkParams benchmarkParams,
+            IterationParams iterationParams, IterationResult result) {
+        final long[] bytes = new long[Origin.values().length];
+        try {
+            _recording.stop();
+            Path file = Files.createTempFile("alloc-attribution", ".jfr");
+            try {
+                _recording.dump(file);
+                for (RecordedEvent event : RecordingFile.readAllEvents(file)) {
+                    if (isBenchmarkThread(event.getThread())) {
+                        bytes[attribute(event.getStackTrace()).ordinal()] += event.getLong("weight");
+                    }
+                }
+            } finally {
+                Files.deleteIfExists(file);
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            _recording.close();
+            _recording = null;
+        }
+
+        final long ops = Math.max(1L, result.getMetadata().getAllOps());
+        List<Result<?>> results = new ArrayList<>();
+        long total = 0L;
+        for (Origin origin : Origin.values()) {
+            total += bytes[origin.ordinal()];
+            results.add(new ScalarResult("alloc." + origin.label + ".norm",
+                    (double) bytes[origin.ordinal()] / ops, "B/op", AggregationPolicy.AVG));
+        }
+        results.add(new ScalarResult("alloc.total.norm", (double) total / ops, "B/op", AggregationPolicy.AVG));
+        final long tokens = tokensPerOperation(benchmarkParams);
+        if (tokens > 0) {
+            results.add(new ScalarResult("alloc.total.perToken", (double) total / ops / tokens,
+                    "B/token", AggregationPolicy.AVG));
+        }
+        return results;
+    }
+
+    static Origin attribute(RecordedStackTrace stackTrace) {
+        if (stackTrace != null) {
+            for (RecordedFrame frame : stackTrace.getFrames()) {
+                Origin origin = Origin.of(frame);
+                if (origin != null) {
+                    return origin;
+                }
+            }
+        }
+        return Origin.OTHER;
+    }
+
+    private static boolean isBenchmarkThread(RecordedThread thread) {
+        if (thread == null) {
+            return false;
+        }
+        String name = thread.getJavaName();
+        return (name != null) && name.contains("-jmh-worker-");
+    }
+
+    /**
+     * @return Number of tokens in the document parsed by each operation, if benchmark
+     *   has {@code shape} and {@code depth} parameters; 0 if not
+     */
+    private static long tokensPerOperation(BenchmarkParams benchmarkParams) {
+        final String shape = benchmarkParams.getParam("shape");
+        final String depth = benchmarkParams.getParam("depth");
+        if (shape == null || depth == null) {
+            return 0L;
+        }
+        final String doc = JsonUtil.createNestedDoc(JsonUtil.NestingShape.valueOf(shape),
+                Integer.parseInt(depth));
+        JsonFactory factory = JsonFactory.builder()
+                .streamReadConstraints(JsonUtil.STREAM_READ_CONSTRAINTS)
+                .build();
+        long count = 0L;
+        try (JsonParser p = factory.createParser(doc)) {
+            while (p.nextToken() != null) {
+                ++count;
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return count;
+    }
+}
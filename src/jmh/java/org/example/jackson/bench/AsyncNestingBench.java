@@ -0,0 +1,64 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Non-blocking variant of {@link NestingBench}: the document is handed to the
+ * parser through {@code feedInput} in chunks of {@link #chunkSize} bytes, on the
+ * benchmark thread, as network frames would be.
+ */
+public class AsyncNestingBench extends BenchmarkLauncher {
+
+    private static String DOC;
+    private static byte[] DOC_BYTES;
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    static {
+        DOC = JsonUtil.createDeepNestedDoc(1000);
+        DOC_BYTES = DOC.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Param({"1", "64", "4096", "65536"})
+    public int chunkSize;
+
+    @Benchmark
+    public void nestedAsyncParse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(DOC_BYTES), true);
+        try (JsonParser jp = new NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            ChunkedInputFeeder feeder = new ChunkedInputFeeder(jp, DOC_BYTES, chunkSize);
+            JsonToken jt;
+            while ((jt = feeder.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+
+    @Benchmark
+    public void v1NestedAsyncParse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(DOC_BYTES), true);
+        try (JsonParser jp = new V1NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            ChunkedInputFeeder feeder = new ChunkedInputFeeder(jp, DOC_BYTES, chunkSize);
+            JsonToken jt;
+            while ((jt = feeder.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+}
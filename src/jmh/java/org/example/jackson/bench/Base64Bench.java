@@ -0,0 +1,97 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Reading a document of binary values (like embedded images or serialized
+ * messages) with blocking in-tree parsers and their stock counterparts: as byte
+ * arrays, streamed to an {@link OutputStream} that drops them, and into a direct
+ * {@link ByteBuffer} (stock parsers writing to it through a stream). In-tree
+ * parsers use {@link Base64Decoder#defaultDecoder()}: set system property
+ * {@value Base64Decoder#DECODER_PROPERTY} to compare decoders.
+ */
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class Base64Bench extends BenchmarkLauncher {
+
+    private final static int DOC_LENGTH = 8 * 1024 * 1024;
+
+    private final static OutputStream NULL_STREAM = OutputStream.nullOutputStream();
+
+    @Param({"READER", "V1_READER", "UTF8_STREAM", "V1_UTF8_STREAM", "DATA_INPUT", "V1_DATA_INPUT"})
+    public ParserVariant variant;
+
+    /**
+     * Length of binary values, in bytes
+     */
+    @Param({"100", "10000", "4000000"})
+    public int length;
+
+    private byte[] docBytes;
+
+    private ByteBuffer buffer;
+
+    @Setup
+    public void setup() {
+        final Random rnd = new Random(length);
+        final StringBuilder sb = new StringBuilder("[");
+        final byte[] value = new byte[length];
+        while (sb.length() < DOC_LENGTH) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            rnd.nextBytes(value);
+            sb.append(Base64Variants.getDefaultVariant().encode(value, true));
+        }
+        docBytes = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        buffer = ByteBuffer.allocateDirect(length);
+    }
+
+    @Benchmark
+    public void binaryValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            while (jp.nextToken().isScalarValue()) {
+                blackhole.consume(jp.getBinaryValue());
+            }
+        }
+    }
+
+    @Benchmark
+    public void streamedValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            while (jp.nextToken().isScalarValue()) {
+                blackhole.consume(jp.readBinaryValue(NULL_STREAM));
+            }
+        }
+    }
+
+    @Benchmark
+    public void bufferValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            while (jp.nextToken().isScalarValue()) {
+                buffer.clear();
+                if (jp instanceof V1ParserBase) {
+                    ((V1ParserBase) jp).readBinaryValue(buffer);
+                } else if (jp instanceof V2ParserBase) {
+                    ((V2ParserBase) jp).readBinaryValue(buffer);
+                } else {
+                    ByteBufferOutputStream.readBinaryValue(jp, Base64Variants.getDefaultVariant(), buffer);
+                }
+                blackhole.consume(buffer.position());
+            }
+        }
+    }
+}
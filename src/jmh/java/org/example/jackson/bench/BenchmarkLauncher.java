@@ -12,7 +12,7 @@ import org.openjdk.jmh.annotations.Warmup;
 import org.openjdk.jmh.results.format.ResultFormatType;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
-import org.openjdk.jmh.runner.options.Options;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
 import java.util.concurrent.TimeUnit;
@@ -28,14 +28,21 @@ public abstract class BenchmarkLauncher {
 
     @Test
     public void launchBenchmarks() throws RunnerException {
-        Options options = new OptionsBuilder()
+        new Runner(options(getClass().getSimpleName()).build()).run();
+    }
+
+    /**
+     * @param resultName Name of the CSV result file (without extension) within {@code target}
+     *
+     * @return Options for running benchmarks of this class, for subclasses to add to
+     */
+    protected ChainedOptionsBuilder options(String resultName) {
+        return new OptionsBuilder()
                 .include(Pattern.quote(getClass().getName()))
                 .measurementIterations(15)
                 .shouldFailOnError(true)
-                .result("target/" + getClass().getSimpleName() + ".csv")
-                .resultFormat(ResultFormatType.CSV)
-                .build();
-        new Runner(options).run();
+                .result("target/" + resultName + ".csv")
+                .resultFormat(ResultFormatType.CSV);
     }
 
 }
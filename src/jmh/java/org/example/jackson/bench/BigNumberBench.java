@@ -0,0 +1,66 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.io.NumberInput;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+/**
+ * Decoding long numbers to {@link BigInteger} or {@link BigDecimal}: JDK
+ * constructors, Jackson with {@code USE_FAST_BIG_NUMBER_PARSER} (FastDoubleParser
+ * library), and {@link BigNumberParser} in calling thread and with common pool.
+ */
+public class BigNumberBench extends BenchmarkLauncher {
+
+    @Param({"20", "100", "1000", "10000", "100000"})
+    public int digits;
+
+    /**
+     * Whether number is an integer (decoded to BigInteger), rather than a decimal
+     * with exponent (decoded to BigDecimal)
+     */
+    @Param({"false", "true"})
+    public boolean integer;
+
+    private String text;
+
+    @Setup
+    public void setup() {
+        final Random rnd = new Random(digits);
+        final StringBuilder sb = new StringBuilder(digits + 10);
+        sb.append((char) ('1' + rnd.nextInt(9)));
+        for (int i = 1; i < digits; ++i) {
+            sb.append((char) ('0' + rnd.nextInt(10)));
+        }
+        if (!integer) {
+            sb.insert(digits / 3, '.').append("e-12");
+        }
+        text = sb.toString();
+    }
+
+    @Benchmark
+    public Object jdk() {
+        return integer ? new BigInteger(text) : new BigDecimal(text);
+    }
+
+    @Benchmark
+    public Object jacksonFast() {
+        return integer ? NumberInput.parseBigInteger(text, true) : NumberInput.parseBigDecimal(text, true);
+    }
+
+    @Benchmark
+    public Object inTree() {
+        return integer ? BigNumberParser.parseBigInteger(text, null) : BigNumberParser.parseBigDecimal(text, null);
+    }
+
+    @Benchmark
+    public Object inTreeParallel() {
+        final ForkJoinPool pool = ForkJoinPool.commonPool();
+        return integer ? BigNumberParser.parseBigInteger(text, pool) : BigNumberParser.parseBigDecimal(text, pool);
+    }
+}
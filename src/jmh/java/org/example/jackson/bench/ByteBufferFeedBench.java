@@ -0,0 +1,130 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Non-blocking parsing of content received as {@link ByteBuffer} frames, like pooled
+ * network buffers: copying each frame to a {@code byte[]} for
+ * {@link V1NonBlockingJsonParser}, versus feeding frames as they are to
+ * {@link V1NonBlockingByteBufferJsonParser}: one at a time when more input is
+ * needed, or all at once, as a read batch would be handed over.
+ */
+public class ByteBufferFeedBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static int DOC_LENGTH = 1024 * 1024;
+
+    /**
+     * Whether frames are direct buffers, or heap buffers
+     */
+    @Param({"true", "false"})
+    public boolean direct;
+
+    /**
+     * Size of frames, in bytes
+     */
+    @Param({"512", "8192", "65536"})
+    public int chunkSize;
+
+    private byte[] docBytes;
+    private ByteBuffer[] frames;
+    private byte[] copyBuffer;
+
+    @Setup
+    public void setup() {
+        final String record = JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 30);
+        final StringBuilder sb = new StringBuilder("[");
+        while (sb.length() < DOC_LENGTH) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append(record);
+        }
+        docBytes = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+
+        frames = new ByteBuffer[(docBytes.length + chunkSize - 1) / chunkSize];
+        for (int i = 0; i < frames.length; ++i) {
+            final int offset = i * chunkSize;
+            final int len = Math.min(chunkSize, docBytes.length - offset);
+            final ByteBuffer frame = direct ? ByteBuffer.allocateDirect(len) : ByteBuffer.allocate(len);
+            frame.put(docBytes, offset, len).flip();
+            frames[i] = frame;
+        }
+        copyBuffer = new byte[chunkSize];
+    }
+
+    @Benchmark
+    public void copyToByteArray(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        try (V1NonBlockingJsonParser jp = new V1NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            int frame = 0;
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.NOT_AVAILABLE) {
+                    if (frame < frames.length) {
+                        final ByteBuffer buffer = frames[frame++].duplicate();
+                        final int len = buffer.remaining();
+                        buffer.get(copyBuffer, 0, len);
+                        jp.feedInput(copyBuffer, 0, len);
+                    } else {
+                        jp.endOfInput();
+                    }
+                } else {
+                    blackhole.consume(jt);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void feedByteBuffer(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        try (V1NonBlockingByteBufferJsonParser jp = new V1NonBlockingByteBufferJsonParser(ctxt,
+                FACTORY.getParserFeatures(), _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            int frame = 0;
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.NOT_AVAILABLE) {
+                    if (frame < frames.length) {
+                        jp.feedInput(frames[frame++]);
+                    } else {
+                        jp.endOfInput();
+                    }
+                } else {
+                    blackhole.consume(jt);
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void feedByteBuffersAtOnce(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        try (V1NonBlockingByteBufferJsonParser jp = new V1NonBlockingByteBufferJsonParser(ctxt,
+                FACTORY.getParserFeatures(), _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            jp.feedInput(frames);
+            jp.endOfInput();
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+}
@@ -0,0 +1,71 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+import java.util.Random;
+
+/**
+ * Reading all coordinates of a GeoJSON-like document as doubles: in-tree parsers
+ * (which decode with {@link EiselLemireDoubleParser}) next to their stock
+ * counterparts (which use {@code Double.parseDouble}).
+ */
+public class CoordinateBench extends BenchmarkLauncher {
+
+    private final static int FEATURES = 100;
+
+    private final static int POINTS_PER_FEATURE = 100;
+
+    @Param({"READER", "V1_READER",
+            "UTF8_STREAM", "V1_UTF8_STREAM", "V1_UTF8_STREAM_LAZY",
+            "DATA_INPUT", "V1_DATA_INPUT"})
+    public ParserVariant variant;
+
+    /**
+     * Whether coordinates are written as shortest representations of doubles (up
+     * to 17 digits), rather than with 6 decimals
+     */
+    @Param({"false", "true"})
+    public boolean shortest;
+
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() {
+        final Random rnd = new Random(42);
+        final StringBuilder sb = new StringBuilder("{\"type\":\"FeatureCollection\",\"features\":[");
+        for (int i = 0; i < FEATURES; ++i) {
+            sb.append((i > 0) ? "," : "").append("{\"type\":\"Feature\",\"properties\":{\"id\":").append(i)
+                    .append("},\"geometry\":{\"type\":\"LineString\",\"coordinates\":[");
+            for (int j = 0; j < POINTS_PER_FEATURE; ++j) {
+                sb.append((j > 0) ? ",[" : "[");
+                appendCoordinate(sb, rnd.nextDouble() * 360.0 - 180.0).append(',');
+                appendCoordinate(sb, rnd.nextDouble() * 180.0 - 90.0).append(']');
+            }
+            sb.append("]}}");
+        }
+        docBytes = sb.append("]}").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private StringBuilder appendCoordinate(StringBuilder sb, double value) {
+        return shortest ? sb.append(value) : sb.append(String.format(Locale.ROOT, "%.6f", value));
+    }
+
+    @Benchmark
+    public void readDoubles(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.VALUE_NUMBER_FLOAT) {
+                    blackhole.consume(jp.getDoubleValue());
+                }
+            }
+        }
+    }
+}
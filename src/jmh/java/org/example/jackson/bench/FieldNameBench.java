@@ -0,0 +1,107 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Compares field name handling with and without interning (see {@link FieldNameMode}).
+ * Each invocation parses the next of a set of documents with {@link #NAMES_PER_DOC}
+ * fields each; names come from a pool of {@link #distinctNames} UUIDs, so with a
+ * small pool names are found in the symbol table, and with a large one most names
+ * are new to the (bounded) root table and have to be added, and possibly interned.
+ */
+public class FieldNameBench extends BenchmarkLauncher {
+
+    private final static int NAMES_PER_DOC = 100;
+
+    @Param({"INTERN", "CANONICALIZE"})
+    public FieldNameMode mode;
+
+    @Param({"100", "100000"})
+    public int distinctNames;
+
+    private String[] docs;
+    private byte[][] docBytes;
+    private int docIndex;
+
+    // per trial, so that modes do not share symbols
+    private CharsToNameCanonicalizer rootCharSymbols;
+    private ByteQuadsCanonicalizer rootByteSymbols;
+
+    @Setup
+    public void setup() {
+        String[] names = new String[distinctNames];
+        for (int i = 0; i < distinctNames; ++i) {
+            names[i] = UUID.randomUUID().toString();
+        }
+        final int docCount = Math.max(1, distinctNames / NAMES_PER_DOC);
+        docs = new String[docCount];
+        docBytes = new byte[docCount][];
+        int nameIndex = 0;
+        for (int i = 0; i < docCount; ++i) {
+            StringBuilder sb = new StringBuilder("{");
+            for (int j = 0; j < NAMES_PER_DOC; ++j) {
+                if (j > 0) {
+                    sb.append(',');
+                }
+                sb.append('"').append(names[nameIndex++ % distinctNames]).append("\":").append(j);
+            }
+            docs[i] = sb.append('}').toString();
+            docBytes[i] = docs[i].getBytes(StandardCharsets.UTF_8);
+        }
+        rootCharSymbols = mode.createCharsRoot();
+        rootByteSymbols = mode.createBytesRoot();
+    }
+
+    @Benchmark
+    public void v1Utf8Parse(Blackhole blackhole) throws Exception {
+        final byte[] doc = docBytes[_nextDoc()];
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (JsonParser jp = new V1UTF8StreamJsonParser(ctxt, mode.getFactory().getParserFeatures(),
+                new ByteArrayInputStream(doc), null,
+                mode.makeChild(rootByteSymbols), new byte[1024], 0, 0, false)) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.FIELD_NAME) {
+                    blackhole.consume(jp.getCurrentName());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void v1ReaderParse(Blackhole blackhole) throws Exception {
+        final String doc = docs[_nextDoc()];
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (JsonParser jp = new V1ReaderBasedJsonParser(ctxt, mode.getFactory().getParserFeatures(),
+                new StringReader(doc), null, mode.makeChild(rootCharSymbols))) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.FIELD_NAME) {
+                    blackhole.consume(jp.getCurrentName());
+                }
+            }
+        }
+    }
+
+    private int _nextDoc() {
+        int ix = docIndex;
+        docIndex = (ix + 1 == docs.length) ? 0 : ix + 1;
+        return ix;
+    }
+}
@@ -1,6 +1,12 @@
 package org.example.jackson.bench;
 
+import org.openjdk.jmh.annotations.AuxCounters;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.infra.Blackhole;
 
 import com.fasterxml.jackson.core.util.InternCache;
@@ -19,6 +25,44 @@ public class InternCacheBench extends BenchmarkLauncher {
         }
     }
 
+    @State(Scope.Benchmark)
+    public static class StripedCache {
+        @Param({"180", "4096", "16384"})
+        public int capacity;
+
+        StripedInternCache cache;
+
+        @Setup
+        public void setup() {
+            cache = new StripedInternCache(capacity);
+        }
+    }
+
+    /**
+     * Hits and misses (that is, fallbacks to {@link String#intern()}) seen by the
+     * {@code *HitRatio} benchmarks; hit ratio is {@code hits / (hits + misses)}.
+     */
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class HitCounters {
+        public long hits;
+        public long misses;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            hits = 0;
+            misses = 0;
+        }
+
+        void record(boolean hit) {
+            if (hit) {
+                ++hits;
+            } else {
+                ++misses;
+            }
+        }
+    }
+
     @Benchmark
     public void intern(Blackhole blackhole) throws Exception {
         for (String UUID : UUIDs) {
@@ -32,4 +76,40 @@ public class InternCacheBench extends BenchmarkLauncher {
             blackhole.consume(InternCacheNewLock.instance.intern(UUID));
         }
     }
+
+    @Benchmark
+    public void internStriped(Blackhole blackhole, StripedCache striped) throws Exception {
+        final StripedInternCache cache = striped.cache;
+        for (String UUID : UUIDs) {
+            blackhole.consume(cache.intern(UUID));
+        }
+    }
+
+    // Hit ratio variants: extra lookup before each call skews throughput, so kept separate
+
+    @Benchmark
+    public void internHitRatio(Blackhole blackhole, HitCounters counters) throws Exception {
+        for (String UUID : UUIDs) {
+            counters.record(InternCache.instance.containsKey(UUID));
+            blackhole.consume(InternCache.instance.intern(UUID));
+        }
+    }
+
+    @Benchmark
+    public void internNewLockHitRatio(Blackhole blackhole, HitCounters counters) throws Exception {
+        for (String UUID : UUIDs) {
+            counters.record(InternCacheNewLock.instance.containsKey(UUID));
+            blackhole.consume(InternCacheNewLock.instance.intern(UUID));
+        }
+    }
+
+    @Benchmark
+    public void internStripedHitRatio(Blackhole blackhole, StripedCache striped, HitCounters counters)
+            throws Exception {
+        final StripedInternCache cache = striped.cache;
+        for (String UUID : UUIDs) {
+            counters.record(cache.contains(UUID));
+            blackhole.consume(cache.intern(UUID));
+        }
+    }
 }
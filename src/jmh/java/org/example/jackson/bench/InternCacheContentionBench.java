@@ -0,0 +1,197 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.util.InternCache;
+import org.openjdk.jmh.annotations.AuxCounters;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+
+import java.util.Random;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Contended variant of {@link InternCacheBench}: one {@code intern} call per
+ * operation, from 1, 4, 16 or 64 threads sharing a cache, with keys drawn from
+ * a {@link KeyDistribution}. Sample-time mode reports latency percentiles
+ * (p99 included) alongside throughput.
+ *<p>
+ * With {@code countFallbacks=true} each call is preceded by a lookup to count
+ * how often the cache falls back to {@link String#intern()}, reported as the
+ * {@code fallbacks} (out of {@code lookups}) aux counter; that lookup skews
+ * timings, so use {@code countFallbacks=false} results for those.
+ */
+@BenchmarkMode({Mode.Throughput, Mode.SampleTime})
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+public class InternCacheContentionBench extends BenchmarkLauncher {
+
+    private final static int SEQUENCE_LENGTH = 1 << 20;
+
+    @State(Scope.Benchmark)
+    public static class Keys {
+        @Param({"UNIFORM", "ZIPFIAN", "HOT_SET"})
+        public KeyDistribution distribution;
+
+        @Param({"10000"})
+        public int keyCount;
+
+        @Param({"false", "true"})
+        public boolean countFallbacks;
+
+        String[] keys;
+        int[] sequence;
+
+        // fresh caches for each trial, shared by all threads
+        InternCache internCache;
+        InternCacheNewLock newLockCache;
+        StripedInternCache stripedCache;
+
+        @Setup
+        public void setup() {
+            keys = new String[keyCount];
+            for (int i = 0; i < keyCount; ++i) {
+                keys[i] = UUID.randomUUID().toString();
+            }
+            sequence = distribution.sample(keyCount, SEQUENCE_LENGTH, new Random(42));
+            internCache = new InternCache();
+            newLockCache = new InternCacheNewLock();
+            stripedCache = new StripedInternCache();
+        }
+    }
+
+    @State(Scope.Thread)
+    public static class Cursor {
+        private int ptr;
+
+        @Setup
+        public void setup() {
+            // threads start at different points of the same sequence
+            ptr = ThreadLocalRandom.current().nextInt(SEQUENCE_LENGTH);
+        }
+
+        String next(Keys keys) {
+            return keys.keys[keys.sequence[ptr++ & (SEQUENCE_LENGTH - 1)]];
+        }
+    }
+
+    @AuxCounters(AuxCounters.Type.EVENTS)
+    @State(Scope.Thread)
+    public static class Fallbacks {
+        public long lookups;
+        public long fallbacks;
+
+        @Setup(Level.Iteration)
+        public void reset() {
+            lookups = 0;
+            fallbacks = 0;
+        }
+
+        void record(boolean hit) {
+            ++lookups;
+            if (!hit) {
+                ++fallbacks;
+            }
+        }
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String internThreads1(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.internCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String internThreads4(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.internCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String internThreads16(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.internCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String internThreads64(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.internCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String internNewLockThreads1(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.newLockCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String internNewLockThreads4(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.newLockCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String internNewLockThreads16(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.newLockCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String internNewLockThreads64(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.newLockCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(1)
+    public String internStripedThreads1(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.stripedCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public String internStripedThreads4(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.stripedCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(16)
+    public String internStripedThreads16(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.stripedCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    @Benchmark
+    @Threads(64)
+    public String internStripedThreads64(Keys keys, Cursor cursor, Fallbacks fallbacks) {
+        return intern(keys.stripedCache, cursor.next(keys), keys, fallbacks);
+    }
+
+    private static String intern(InternCache cache, String key, Keys keys, Fallbacks fallbacks) {
+        if (keys.countFallbacks) {
+            fallbacks.record(cache.containsKey(key));
+        }
+        return cache.intern(key);
+    }
+
+    private static String intern(InternCacheNewLock cache, String key, Keys keys, Fallbacks fallbacks) {
+        if (keys.countFallbacks) {
+            fallbacks.record(cache.containsKey(key));
+        }
+        return cache.intern(key);
+    }
+
+    private static String intern(StripedInternCache cache, String key, Keys keys, Fallbacks fallbacks) {
+        if (keys.countFallbacks) {
+            fallbacks.record(cache.contains(key));
+        }
+        return cache.intern(key);
+    }
+}
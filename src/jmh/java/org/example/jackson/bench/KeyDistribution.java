@@ -0,0 +1,71 @@
+package org.example.jackson.bench;
+
+import java.util.Arrays;
+import java.util.Random;
+
+/**
+ * Distributions of key accesses used by the intern cache benchmarks. Access
+ * sequences are generated up front so that random number generation is not
+ * part of what is measured.
+ */
+public enum KeyDistribution {
+    /**
+     * Every key equally likely
+     */
+    UNIFORM {
+        @Override
+        public int[] sample(int keyCount, int samples, Random rnd) {
+            int[] result = new int[samples];
+            for (int i = 0; i < samples; ++i) {
+                result[i] = rnd.nextInt(keyCount);
+            }
+            return result;
+        }
+    },
+
+    /**
+     * Zipf distribution with exponent 0.99 (as used by YCSB): a few keys
+     * are very common, with a long tail of rare ones
+     */
+    ZIPFIAN {
+        @Override
+        public int[] sample(int keyCount, int samples, Random rnd) {
+            final double[] cdf = new double[keyCount];
+            double sum = 0.0;
+            for (int i = 0; i < keyCount; ++i) {
+                sum += 1.0 / Math.pow(i + 1, ZIPF_EXPONENT);
+                cdf[i] = sum;
+            }
+            int[] result = new int[samples];
+            for (int i = 0; i < samples; ++i) {
+                int ix = Arrays.binarySearch(cdf, rnd.nextDouble() * sum);
+                result[i] = Math.min((ix < 0) ? -ix - 1 : ix, keyCount - 1);
+            }
+            return result;
+        }
+    },
+
+    /**
+     * 90% of accesses go to a hot set of 1% of the keys (at least one),
+     * the rest are uniform over all keys
+     */
+    HOT_SET {
+        @Override
+        public int[] sample(int keyCount, int samples, Random rnd) {
+            final int hotCount = Math.max(1, keyCount / 100);
+            int[] result = new int[samples];
+            for (int i = 0; i < samples; ++i) {
+                result[i] = (rnd.nextInt(10) < 9) ? rnd.nextInt(hotCount) : rnd.nextInt(keyCount);
+            }
+            return result;
+        }
+    };
+
+    private final static double ZIPF_EXPONENT = 0.99;
+
+    /**
+     * @return Sequence of {@code samples} key indexes between 0 (inclusive) and
+     *   {@code keyCount} (exclusive)
+     */
+    public abstract int[] sample(int keyCount, int samples, Random rnd);
+}
@@ -0,0 +1,95 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Routing records by two header entries, skipping their (nested) payload, with
+ * eager versus on-demand decoding of names and numbers of
+ * {@link V1UTF8StreamJsonParser} and {@link V1ReaderBasedJsonParser}.
+ */
+public class LazyDecodingBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static CharsToNameCanonicalizer _rootCharSymbols = CharsToNameCanonicalizer.createRoot();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static int RECORDS = 100;
+
+    /**
+     * Number of containers in payload of each record
+     */
+    @Param({"10", "100"})
+    public int depth;
+
+    @Param({"false", "true"})
+    public boolean lazy;
+
+    private String doc;
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() {
+        final String payload = JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, depth);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RECORDS; ++i) {
+            sb.append("{\"type\":\"").append((i % 3 == 0) ? "order" : "quote").append("\",\"id\":")
+                    .append(1000000 + i).append(",\"payload\":").append(payload).append("}\n");
+        }
+        doc = sb.toString();
+        docBytes = doc.getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void utf8Route(Blackhole blackhole) throws Exception {
+        try (V1UTF8StreamJsonParser jp = new V1UTF8StreamJsonParser(createContext(createContentReference(docBytes), true),
+                FACTORY.getParserFeatures(), new ByteArrayInputStream(docBytes), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false)) {
+            jp.setLazyDecoding(lazy);
+            route(jp, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void readerRoute(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (V1ReaderBasedJsonParser jp = new V1ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new StringReader(doc), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            jp.setLazyDecoding(lazy);
+            route(jp, blackhole);
+        }
+    }
+
+    private static void route(JsonParser jp, Blackhole blackhole) throws Exception {
+        while (jp.nextToken() == JsonToken.START_OBJECT) {
+            String type = null;
+            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                final JsonToken t = jp.nextToken();
+                if (t == JsonToken.VALUE_STRING && type == null) {
+                    type = jp.getText();
+                } else if (t == JsonToken.VALUE_NUMBER_INT && "id".equals(jp.currentName())) {
+                    blackhole.consume(jp.getLongValue());
+                } else {
+                    jp.skipChildren();
+                }
+            }
+            blackhole.consume(type);
+        }
+    }
+}
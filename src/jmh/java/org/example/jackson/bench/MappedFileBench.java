@@ -0,0 +1,200 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.runner.options.ChainedOptionsBuilder;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Time to parse large files (an array of small records) with the stream parser,
+ * which copies content to its input buffer as it reads it, versus
+ * {@link V1MappedFileJsonParser}, which reads memory mappings of the file. Two more
+ * variants separate the costs involved: the stream parser reading from mappings
+ * (no read calls, but still copying), and the non-blocking parser fed from a
+ * stream (the decoding the mapped parser shares, plus reading and copying).
+ *<p>
+ * Files are written to {@code java.io.tmpdir} once per trial, so there must be room
+ * for the largest size there; runs of the largest sizes are slow, and it is best to
+ * select them explicitly, with {@code -p sizeMb=...}.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 1)
+public class MappedFileBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static int CHUNK_SIZE = 8000;
+
+    /**
+     * Size of file, in megabytes
+     */
+    @Param({"100", "1000", "10000"})
+    public int sizeMb;
+
+    private Path file;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        final byte[] record = JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 30)
+                .getBytes(StandardCharsets.UTF_8);
+        final long size = sizeMb * 1024L * 1024L;
+        file = Files.createTempFile("mapped-file-bench", ".json");
+        try (OutputStream out = new BufferedOutputStream(Files.newOutputStream(file), 1 << 16)) {
+            out.write('[');
+            for (long written = 1; written < size; written += record.length + 1) {
+                if (written > 1) {
+                    out.write(',');
+                }
+                out.write(record);
+            }
+            out.write(']');
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        Files.deleteIfExists(file);
+    }
+
+    @Override
+    protected ChainedOptionsBuilder options(String resultName) {
+        // a few iterations are enough, as each operation reads a whole file
+        return super.options(resultName).measurementIterations(3);
+    }
+
+    @Benchmark
+    public long streamParser() throws Exception {
+        IOContext ctxt = createContext(createContentReference(file), true);
+        InputStream in = Files.newInputStream(file);
+        try (JsonParser jp = new V1UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(), in, null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS),
+                ctxt.allocReadIOBuffer(), 0, 0, true)) {
+            return countTokens(jp);
+        }
+    }
+
+    @Benchmark
+    public long mappedParser() throws Exception {
+        IOContext ctxt = createContext(createContentReference(file), true);
+        try (JsonParser jp = new V1MappedFileJsonParser(ctxt, FACTORY.getParserFeatures(),
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS),
+                FileChannel.open(file, StandardOpenOption.READ))) {
+            return countTokens(jp);
+        }
+    }
+
+    @Benchmark
+    public long mappedStreamParser() throws Exception {
+        IOContext ctxt = createContext(createContentReference(file), true);
+        try (JsonParser jp = new V1UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new MappedInputStream(FileChannel.open(file, StandardOpenOption.READ)), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS),
+                ctxt.allocReadIOBuffer(), 0, 0, true)) {
+            return countTokens(jp);
+        }
+    }
+
+    @Benchmark
+    public long streamFedAsyncParser() throws Exception {
+        IOContext ctxt = createContext(createContentReference(file), true);
+        try (InputStream in = Files.newInputStream(file);
+             V1NonBlockingJsonParser jp = new V1NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
+                     _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            final byte[] chunk = new byte[CHUNK_SIZE];
+            long count = 0;
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.NOT_AVAILABLE) {
+                    final int len = in.read(chunk);
+                    if (len < 0) {
+                        jp.endOfInput();
+                    } else {
+                        jp.feedInput(chunk, 0, len);
+                    }
+                } else {
+                    ++count;
+                }
+            }
+            return count;
+        }
+    }
+
+    /**
+     * Stream over memory mappings of a file: saves read calls, but still copies
+     * content to the buffer of the parser.
+     */
+    private static class MappedInputStream extends InputStream {
+        private final FileChannel _channel;
+        private long _mappedEnd;
+        private ByteBuffer _buffer = ByteBuffer.allocate(0);
+
+        MappedInputStream(FileChannel channel) {
+            _channel = channel;
+        }
+
+        @Override
+        public int read() throws IOException {
+            byte[] b = new byte[1];
+            return (read(b, 0, 1) < 0) ? -1 : (b[0] & 0xFF);
+        }
+
+        @Override
+        public int read(byte[] b, int off, int len) throws IOException {
+            if (!_buffer.hasRemaining()) {
+                final long size = _channel.size();
+                if (_mappedEnd >= size) {
+                    return -1;
+                }
+                final int segmentLen = (int) Math.min(V1MappedFileJsonParser.DEFAULT_SEGMENT_SIZE,
+                        size - _mappedEnd);
+                _buffer = _channel.map(FileChannel.MapMode.READ_ONLY, _mappedEnd, segmentLen);
+                _mappedEnd += segmentLen;
+            }
+            len = Math.min(len, _buffer.remaining());
+            _buffer.get(b, off, len);
+            return len;
+        }
+
+        @Override
+        public void close() throws IOException {
+            _channel.close();
+        }
+    }
+
+    private static long countTokens(JsonParser jp) throws IOException {
+        long count = 0;
+        while (jp.nextToken() != null) {
+            ++count;
+        }
+        return count;
+    }
+}
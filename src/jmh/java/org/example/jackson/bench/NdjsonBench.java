@@ -0,0 +1,109 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Time to read an in-memory NDJSON log (records of {@link NestingBench} documents,
+ * one per line) with a single parser, versus with {@link ParallelNdjsonReader} on a
+ * pool of {@link #threads} threads, with results delivered in record order or not.
+ * Each record is mapped to its token count.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+public class NdjsonBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static ParallelNdjsonReader.RecordMapper<Integer> TOKEN_COUNT = p -> {
+        int count = 1;
+        if (p.currentToken().isStructStart()) {
+            int depth = 1;
+            while (depth > 0) {
+                final JsonToken t = p.nextToken();
+                if (t.isStructStart()) {
+                    ++depth;
+                } else if (t.isStructEnd()) {
+                    --depth;
+                }
+                ++count;
+            }
+        }
+        return count;
+    };
+
+    @Param({"10000", "100000"})
+    public int records;
+
+    /**
+     * Number of containers in each record
+     */
+    @Param({"30"})
+    public int depth;
+
+    @Param({"2", "8", "32"})
+    public int threads;
+
+    private byte[] docBytes;
+    private ForkJoinPool pool;
+    private ParallelNdjsonReader reader;
+
+    @Setup
+    public void setup() {
+        final String record = JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, depth);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < records; ++i) {
+            sb.append(record).append('\n');
+        }
+        docBytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+        pool = new ForkJoinPool(threads);
+        reader = new ParallelNdjsonReader(pool, FACTORY.getParserFeatures());
+    }
+
+    @TearDown
+    public void tearDown() {
+        pool.shutdown();
+    }
+
+    @Benchmark
+    public void singleParser(Blackhole blackhole) throws IOException {
+        try (JsonParser jp = new V1UTF8StreamJsonParser(createContext(createContentReference(docBytes), true),
+                FACTORY.getParserFeatures(), new ByteArrayInputStream(docBytes), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[8000], 0, 0, false)) {
+            while (jp.nextToken() != null) {
+                blackhole.consume(TOKEN_COUNT.map(jp));
+            }
+        }
+    }
+
+    @Benchmark
+    public long parallelOrdered(Blackhole blackhole) throws IOException {
+        return reader.read(docBytes, 0, docBytes.length, true, TOKEN_COUNT, blackhole::consume);
+    }
+
+    @Benchmark
+    public long parallelUnordered(Blackhole blackhole) throws IOException {
+        return reader.read(docBytes, 0, docBytes.length, false, TOKEN_COUNT, blackhole::consume);
+    }
+}
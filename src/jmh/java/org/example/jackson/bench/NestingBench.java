@@ -7,43 +7,71 @@ import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.json.ReaderBasedJsonParser;
 import com.fasterxml.jackson.core.json.UTF8DataInputJsonParser;
 import com.fasterxml.jackson.core.json.UTF8StreamJsonParser;
-import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
 import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
 import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import org.junit.jupiter.api.Test;
 import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.infra.Blackhole;
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
 
 import java.io.ByteArrayInputStream;
 import java.io.DataInputStream;
-import java.io.IOException;
 import java.io.StringReader;
 import java.nio.charset.StandardCharsets;
-import java.util.concurrent.ExecutorService;
-import java.util.concurrent.Executors;
 
 import static org.example.jackson.bench.JsonUtil.createContentReference;
 import static org.example.jackson.bench.JsonUtil.createContext;
 
 public class NestingBench extends BenchmarkLauncher {
 
-    private static String DOC;
-    private static byte[] DOC_BYTES;
     private final static JsonFactory FACTORY = new JsonFactory();
     private final static CharsToNameCanonicalizer _rootCharSymbols = CharsToNameCanonicalizer.createRoot();
     private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
     private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
-    private final static ExecutorService THREAD_POOL_EXECUTOR = Executors.newFixedThreadPool(10);
 
-    static {
-        DOC = JsonUtil.createDeepNestedDoc(1000);
-        DOC_BYTES = DOC.getBytes(StandardCharsets.UTF_8);
+    /**
+     * Number of containers in the document; nesting depth for all but the
+     * {@code WIDE} shape. Parsers are created without a nesting depth limit
+     * (see {@link JsonUtil#STREAM_READ_CONSTRAINTS}), so all depths are parsed.
+     */
+    @Param({"1", "10", "100", "1000", "5000"})
+    public int depth;
+
+    @Param({"ARRAYS", "OBJECTS", "ALTERNATING", "WIDE"})
+    public JsonUtil.NestingShape shape;
+
+    private String doc;
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() throws Exception {
+        doc = JsonUtil.createNestedDoc(shape, depth);
+        docBytes = doc.getBytes(StandardCharsets.UTF_8);
+    }
+
+    /**
+     * Allocation profiling mode: runs the benchmarks with the GC profiler, for bytes
+     * allocated per parse ({@code gc.alloc.rate.norm}), and
+     * {@link AllocationAttributionProfiler} for a breakdown by origin and bytes per
+     * token. Throughput from these runs is skewed by the profilers.
+     */
+    @Test
+    public void launchAllocationProfile() throws RunnerException {
+        new Runner(options(getClass().getSimpleName() + "-alloc")
+                .addProfiler(GCProfiler.class)
+                .addProfiler(AllocationAttributionProfiler.class)
+                .build()).run();
     }
 
     @Benchmark
     public void nestedDocReaderParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
+        IOContext ctxt = createContext(createContentReference(doc), true);
         try (JsonParser jp = new ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new StringReader(DOC), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+                new StringReader(doc), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -53,9 +81,9 @@ public class NestingBench extends BenchmarkLauncher {
 
     @Benchmark
     public void v1NestedDocReaderParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
+        IOContext ctxt = createContext(createContentReference(doc), true);
         try (JsonParser jp = new V1ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new StringReader(DOC), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+                new StringReader(doc), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -65,9 +93,9 @@ public class NestingBench extends BenchmarkLauncher {
 
     @Benchmark
     public void v2NestedDocReaderParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
+        IOContext ctxt = createContext(createContentReference(doc), true);
         try (JsonParser jp = new V2ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new StringReader(DOC), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+                new StringReader(doc), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -75,12 +103,16 @@ public class NestingBench extends BenchmarkLauncher {
         }
     }
 
+    /**
+     * Same as {@link #v2NestedDocReaderParse} with pooled parsing contexts, so that
+     * only the context differs
+     */
     @Benchmark
-    public void nestedDocUtf8Parse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
-        try (JsonParser jp = new UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new ByteArrayInputStream(DOC_BYTES), null,
-                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false)) {
+    public void v2PooledNestedDocReaderParse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (V2ReaderBasedJsonParser jp = new V2ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new StringReader(doc), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            jp.setPooledContexts(true);
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -89,10 +121,10 @@ public class NestingBench extends BenchmarkLauncher {
     }
 
     @Benchmark
-    public void v1NestedDocUtf8Parse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
+    public void nestedDocUtf8Parse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
         try (JsonParser jp = new UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new ByteArrayInputStream(DOC_BYTES), null,
+                new ByteArrayInputStream(docBytes), null,
                 _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false)) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
@@ -102,11 +134,11 @@ public class NestingBench extends BenchmarkLauncher {
     }
 
     @Benchmark
-    public void nestedDocDataInputParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
-        try (JsonParser jp = new UTF8DataInputJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new DataInputStream(new ByteArrayInputStream(DOC_BYTES)), null,
-                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), 0)) {
+    public void v1NestedDocUtf8Parse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (JsonParser jp = new V1UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new ByteArrayInputStream(docBytes), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false)) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -115,11 +147,10 @@ public class NestingBench extends BenchmarkLauncher {
     }
 
     @Benchmark
-    public void v1NestedDocDataInputParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
-        try (JsonParser jp = new V1UTF8DataInputJsonParser(ctxt, FACTORY.getParserFeatures(),
-                new DataInputStream(new ByteArrayInputStream(DOC_BYTES)), null,
-                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), 0)) {
+    public void v1NestedDocStructuralIndexParse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (JsonParser jp = new V1StructuralIndexJsonParser(ctxt, FACTORY.getParserFeatures(), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), docBytes, 0, docBytes.length)) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -127,19 +158,12 @@ public class NestingBench extends BenchmarkLauncher {
         }
     }
 
-    //@Benchmark -- currently hangs
-    public void nestedAsyncParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
-        try (NonBlockingJsonParser jp = new NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
-                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
-            final Runnable r = () -> {
-                try {
-                    jp.feedInput(DOC_BYTES, 0, DOC_BYTES.length);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            };
-            THREAD_POOL_EXECUTOR.submit(r);
+    @Benchmark
+    public void nestedDocDataInputParse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (JsonParser jp = new UTF8DataInputJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new DataInputStream(new ByteArrayInputStream(docBytes)), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), 0)) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -147,19 +171,12 @@ public class NestingBench extends BenchmarkLauncher {
         }
     }
 
-    //@Benchmark -- currently hangs
-    public void v1NestedAsyncParse(Blackhole blackhole) throws Exception {
-        IOContext ctxt = createContext(createContentReference(DOC), true);
-        try (V1NonBlockingJsonParser jp = new V1NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
-                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
-            final Runnable r = () -> {
-                try {
-                    jp.feedInput(DOC_BYTES, 0, DOC_BYTES.length);
-                } catch (IOException e) {
-                    throw new RuntimeException(e);
-                }
-            };
-            THREAD_POOL_EXECUTOR.submit(r);
+    @Benchmark
+    public void v1NestedDocDataInputParse(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        try (JsonParser jp = new V1UTF8DataInputJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new DataInputStream(new ByteArrayInputStream(docBytes)), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), 0)) {
             JsonToken jt;
             while ((jt = jp.nextToken()) != null) {
                 blackhole.consume(jt);
@@ -0,0 +1,217 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Random;
+
+/**
+ * Reading Arrays of numbers of one kind (see {@link Corpus}) with every in-tree
+ * parser and its stock counterpart: with the accessor matching the kind, with
+ * {@code nextIntValue}/{@code nextLongValue} where they apply, and as doubles and
+ * BigDecimals, which for most kinds means conversion from another type.
+ */
+public class NumberBench extends BenchmarkLauncher {
+
+    /**
+     * Kinds of numbers: how they are generated and read
+     */
+    public enum Corpus {
+        SMALL_INTS(20_000) {
+            @Override
+            void append(StringBuilder sb, Random rnd) {
+                sb.append(rnd.nextInt(2000) - 1000);
+            }
+
+            @Override
+            void read(JsonParser p, Blackhole blackhole) throws IOException {
+                blackhole.consume(p.getIntValue());
+            }
+
+            @Override
+            void readNext(JsonParser p, Blackhole blackhole) throws IOException {
+                int value;
+                while ((value = p.nextIntValue(Integer.MIN_VALUE)) != Integer.MIN_VALUE
+                        || p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    blackhole.consume(value);
+                }
+            }
+        },
+
+        LONG_IDS(20_000) {
+            @Override
+            void append(StringBuilder sb, Random rnd) {
+                sb.append(1_000_000_000_000L + (rnd.nextLong() & 0x3FFFFFFFFFFFFFFL));
+            }
+
+            @Override
+            void read(JsonParser p, Blackhole blackhole) throws IOException {
+                blackhole.consume(p.getLongValue());
+            }
+
+            @Override
+            void readNext(JsonParser p, Blackhole blackhole) throws IOException {
+                long value;
+                while ((value = p.nextLongValue(Long.MIN_VALUE)) != Long.MIN_VALUE
+                        || p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    blackhole.consume(value);
+                }
+            }
+        },
+
+        /**
+         * Decimals with more digits than a double holds
+         */
+        DECIMALS(10_000) {
+            @Override
+            void append(StringBuilder sb, Random rnd) {
+                sb.append(rnd.nextInt(1_000_000)).append('.');
+                for (int i = 0; i < 24; ++i) {
+                    sb.append((char) ('0' + rnd.nextInt(10)));
+                }
+            }
+
+            @Override
+            void read(JsonParser p, Blackhole blackhole) throws IOException {
+                blackhole.consume(p.getDecimalValue());
+            }
+        },
+
+        EXPONENTS(10_000) {
+            @Override
+            void append(StringBuilder sb, Random rnd) {
+                sb.append(rnd.nextInt(19) - 9).append('.').append(10_000_000 + rnd.nextInt(90_000_000))
+                        .append(rnd.nextBoolean() ? 'e' : 'E').append(rnd.nextInt(600) - 300);
+            }
+
+            @Override
+            void read(JsonParser p, Blackhole blackhole) throws IOException {
+                blackhole.consume(p.getDoubleValue());
+            }
+        },
+
+        /**
+         * Integers and decimals just within {@link StreamReadConstraints#DEFAULT_MAX_NUM_LEN}
+         */
+        MAX_LENGTH(100) {
+            @Override
+            void append(StringBuilder sb, Random rnd) {
+                final int len = StreamReadConstraints.DEFAULT_MAX_NUM_LEN - 10;
+                sb.append((char) ('1' + rnd.nextInt(9)));
+                for (int i = 1; i < len; ++i) {
+                    sb.append((char) ('0' + rnd.nextInt(10)));
+                }
+                if (rnd.nextBoolean()) {
+                    sb.insert(sb.length() - (len >> 1), '.');
+                }
+            }
+
+            @Override
+            void read(JsonParser p, Blackhole blackhole) throws IOException {
+                if (p.currentToken() == JsonToken.VALUE_NUMBER_INT) {
+                    blackhole.consume(p.getBigIntegerValue());
+                } else {
+                    blackhole.consume(p.getDecimalValue());
+                }
+            }
+        };
+
+        final int count;
+
+        Corpus(int count) {
+            this.count = count;
+        }
+
+        abstract void append(StringBuilder sb, Random rnd);
+
+        /**
+         * Reads current number with the accessor matching its kind
+         */
+        abstract void read(JsonParser p, Blackhole blackhole) throws IOException;
+
+        /**
+         * Reads all numbers of an Array (positioned at its start) with
+         * {@code nextIntValue}/{@code nextLongValue}, or where those do not apply,
+         * with {@code nextToken} and {@link #read}
+         */
+        void readNext(JsonParser p, Blackhole blackhole) throws IOException {
+            while (p.nextToken().isNumeric()) {
+                read(p, blackhole);
+            }
+        }
+
+        String createDoc() {
+            final Random rnd = new Random(ordinal());
+            final StringBuilder sb = new StringBuilder("[");
+            for (int i = 0; i < count; ++i) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                append(sb, rnd);
+            }
+            return sb.append(']').toString();
+        }
+    }
+
+    @Param({"READER", "V1_READER", "V1_READER_LAZY", "V2_READER",
+            "UTF8_STREAM", "V1_UTF8_STREAM", "V1_UTF8_STREAM_LAZY",
+            "DATA_INPUT", "V1_DATA_INPUT",
+            "ASYNC", "V1_ASYNC",
+            "ASYNC_BYTE_BUFFER", "V1_ASYNC_BYTE_BUFFER"})
+    public ParserVariant variant;
+
+    @Param({"SMALL_INTS", "LONG_IDS", "DECIMALS", "EXPONENTS", "MAX_LENGTH"})
+    public Corpus corpus;
+
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() {
+        docBytes = corpus.createDoc().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void typedValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            while (jp.nextToken().isNumeric()) {
+                corpus.read(jp, blackhole);
+            }
+        }
+    }
+
+    @Benchmark
+    public void nextValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            corpus.readNext(jp, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void doubleValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            while (jp.nextToken().isNumeric()) {
+                blackhole.consume(jp.getDoubleValue());
+            }
+        }
+    }
+
+    @Benchmark
+    public void decimalValues(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            jp.nextToken();
+            while (jp.nextToken().isNumeric()) {
+                blackhole.consume(jp.getDecimalValue());
+            }
+        }
+    }
+}
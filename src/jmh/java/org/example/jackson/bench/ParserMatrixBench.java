@@ -0,0 +1,49 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Runs every in-tree parser next to its stock Jackson counterpart (see
+ * {@link ParserVariant}) over the same documents. {@code V1_STRUCTURAL_INDEX}
+ * is left out, being slower than the stream parser throughout: add it with
+ * {@code -p variant=V1_STRUCTURAL_INDEX}.
+ */
+public class ParserMatrixBench extends BenchmarkLauncher {
+
+    @Param({"READER", "V1_READER", "V1_READER_LAZY", "V2_READER", "V2_READER_POOLED",
+            "UTF8_STREAM", "V1_UTF8_STREAM", "V1_UTF8_STREAM_LAZY",
+            "DATA_INPUT", "V1_DATA_INPUT",
+            "ASYNC", "V1_ASYNC",
+            "ASYNC_BYTE_BUFFER", "V1_ASYNC_BYTE_BUFFER"})
+    public ParserVariant variant;
+
+    @Param({"ALTERNATING", "WIDE"})
+    public JsonUtil.NestingShape shape;
+
+    @Param({"100"})
+    public int depth;
+
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() {
+        docBytes = JsonUtil.createNestedDoc(shape, depth).getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void parse(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = variant.createParser(docBytes)) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+}
@@ -0,0 +1,133 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Per-message cost of parsing small documents with a new parser for each message
+ * (new {@link IOContext}, symbol table child and parser, as {@link NestingBench}
+ * does) versus one parser per thread reused through its {@code reset} method.
+ * Content is passed directly (as {@code byte[]} or {@code char[]}) where parsers
+ * allow it; for the {@code DataInput} parsers, a stream rewound for each message.
+ */
+public class ParserReuseBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    // created for the factory, as without one names are not canonicalized
+    private final static CharsToNameCanonicalizer _rootCharSymbols = CharsToNameCanonicalizer.createRoot(FACTORY);
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    /**
+     * Number of small objects in each message: 30 make about 1 KB, 60 about 2 KB.
+     */
+    @Param({"30", "60"})
+    public int objects;
+
+    private byte[] docBytes;
+    private char[] docChars;
+    private ByteArrayInputStream docStream;
+    private DataInputStream docDataInput;
+
+    private V1UTF8StreamJsonParser utf8Parser;
+    private V1ReaderBasedJsonParser readerParser;
+    private V1UTF8DataInputJsonParser dataInputParser;
+
+    @Setup
+    public void setup() throws Exception {
+        final String doc = JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, objects);
+        docBytes = doc.getBytes(StandardCharsets.UTF_8);
+        docChars = doc.toCharArray();
+        docStream = new ByteArrayInputStream(docBytes);
+        docDataInput = new DataInputStream(docStream);
+
+        utf8Parser = new V1UTF8StreamJsonParser(createContext(createContentReference(docBytes), true),
+                FACTORY.getParserFeatures(), null, null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), docBytes, 0, 0, false);
+        readerParser = new V1ReaderBasedJsonParser(createContext(createContentReference(docChars), true),
+                FACTORY.getParserFeatures(), null, null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS),
+                docChars, 0, 0, false);
+        dataInputParser = new V1UTF8DataInputJsonParser(createContext(createContentReference(docBytes), true),
+                FACTORY.getParserFeatures(), docDataInput, null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), -1);
+    }
+
+    @TearDown
+    public void tearDown() throws Exception {
+        utf8Parser.close();
+        readerParser.close();
+        dataInputParser.close();
+    }
+
+    @Benchmark
+    public void newUtf8Parser(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        try (JsonParser jp = new V1UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(), null, null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS),
+                docBytes, 0, docBytes.length, false)) {
+            consume(jp, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void reusedUtf8Parser(Blackhole blackhole) throws Exception {
+        utf8Parser.reset(docBytes, 0, docBytes.length);
+        consume(utf8Parser, blackhole);
+    }
+
+    @Benchmark
+    public void newReaderParser(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(docChars), true);
+        try (JsonParser jp = new V1ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(), null, null,
+                _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), docChars, 0, docChars.length, false)) {
+            consume(jp, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void reusedReaderParser(Blackhole blackhole) throws Exception {
+        readerParser.reset(docChars, 0, docChars.length);
+        consume(readerParser, blackhole);
+    }
+
+    @Benchmark
+    public void newDataInputParser(Blackhole blackhole) throws Exception {
+        docStream.reset();
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        try (JsonParser jp = new V1UTF8DataInputJsonParser(ctxt, FACTORY.getParserFeatures(), docDataInput, null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), -1)) {
+            consume(jp, blackhole);
+        }
+    }
+
+    @Benchmark
+    public void reusedDataInputParser(Blackhole blackhole) throws Exception {
+        docStream.reset();
+        dataInputParser.reset(docDataInput);
+        consume(dataInputParser, blackhole);
+    }
+
+    private static void consume(JsonParser jp, Blackhole blackhole) throws IOException {
+        JsonToken jt;
+        while ((jt = jp.nextToken()) != null) {
+            blackhole.consume(jt);
+        }
+    }
+}
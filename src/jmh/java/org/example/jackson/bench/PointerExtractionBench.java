@@ -0,0 +1,128 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Extracting {@code /meta/id} and {@code /items/*}{@code /price} from event records
+ * with a {@link NestingBench} document as payload: with {@link JsonPointerExtractor}
+ * (skipped values validated or not), versus navigating the same paths by hand with a
+ * {@code nextToken()} loop (names compared as Strings, other values skipped with
+ * {@code skipChildren()}).
+ */
+public class PointerExtractionBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static int RECORDS = 20;
+
+    private final static JsonPointerExtractor EXTRACTOR = new JsonPointerExtractor(
+            Arrays.asList("/meta/id", "/items/*/price"));
+
+    private final static JsonPointerExtractor UNVALIDATED_EXTRACTOR = new JsonPointerExtractor(
+            Arrays.asList("/meta/id", "/items/*/price"), false);
+
+    /**
+     * Number of containers in payload of each record; nesting depth for all but
+     * the {@code WIDE} shape.
+     */
+    @Param({"100", "1000"})
+    public int depth;
+
+    @Param({"OBJECTS", "WIDE"})
+    public JsonUtil.NestingShape shape;
+
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() {
+        final String payload = JsonUtil.createNestedDoc(shape, depth);
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < RECORDS; ++i) {
+            sb.append("{\"meta\":{\"type\":\"order\",\"id\":").append(1000000 + i)
+                    .append(",\"source\":\"bench\"},\"items\":[");
+            for (int j = 0; j < 3; ++j) {
+                sb.append((j > 0) ? "," : "").append("{\"sku\":\"sku-").append(j).append("\",\"price\":")
+                        .append(j * 10 + i).append(".25,\"qty\":").append(j + 1).append('}');
+            }
+            sb.append("],\"payload\":").append(payload).append("}\n");
+        }
+        docBytes = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void extractor(Blackhole blackhole) throws Exception {
+        try (V1UTF8StreamJsonParser jp = createParser()) {
+            EXTRACTOR.extract(jp, (ix, p) -> blackhole.consume(p.getDoubleValue()));
+        }
+    }
+
+    @Benchmark
+    public void extractorUnvalidated(Blackhole blackhole) throws Exception {
+        try (V1UTF8StreamJsonParser jp = createParser()) {
+            UNVALIDATED_EXTRACTOR.extract(jp, (ix, p) -> blackhole.consume(p.getDoubleValue()));
+        }
+    }
+
+    @Benchmark
+    public void handWritten(Blackhole blackhole) throws Exception {
+        try (V1UTF8StreamJsonParser jp = createParser()) {
+            while (jp.nextToken() == JsonToken.START_OBJECT) {
+                while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                    final String name = jp.getCurrentName();
+                    final JsonToken t = jp.nextToken();
+                    if ("meta".equals(name) && t == JsonToken.START_OBJECT) {
+                        while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                            final String metaName = jp.getCurrentName();
+                            jp.nextToken();
+                            if ("id".equals(metaName)) {
+                                blackhole.consume(jp.getDoubleValue());
+                            } else {
+                                jp.skipChildren();
+                            }
+                        }
+                    } else if ("items".equals(name) && t == JsonToken.START_ARRAY) {
+                        JsonToken item;
+                        while ((item = jp.nextToken()) != JsonToken.END_ARRAY) {
+                            if (item != JsonToken.START_OBJECT) {
+                                jp.skipChildren();
+                                continue;
+                            }
+                            while (jp.nextToken() == JsonToken.FIELD_NAME) {
+                                final String itemName = jp.getCurrentName();
+                                jp.nextToken();
+                                if ("price".equals(itemName)) {
+                                    blackhole.consume(jp.getDoubleValue());
+                                } else {
+                                    jp.skipChildren();
+                                }
+                            }
+                        }
+                    } else {
+                        jp.skipChildren();
+                    }
+                }
+            }
+        }
+    }
+
+    private V1UTF8StreamJsonParser createParser() {
+        return new V1UTF8StreamJsonParser(createContext(createContentReference(docBytes), true),
+                FACTORY.getParserFeatures(), new ByteArrayInputStream(docBytes), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[8000], 0, 0, false);
+    }
+}
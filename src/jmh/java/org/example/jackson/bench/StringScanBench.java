@@ -0,0 +1,161 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.Random;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Compares {@link StringScanner} implementations used by {@link V1UTF8StreamJsonParser}
+ * on documents dominated by long ASCII String values, both when values are read
+ * ({@code _finishString}) and skipped ({@code _skipString}); and by
+ * {@link V1NonBlockingJsonParser}, fed the whole document at once, when values are read.
+ */
+@Fork(value = 1, jvmArgsAppend = {"--add-modules", "jdk.incubator.vector"})
+public class StringScanBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static int DOC_LENGTH = 64 * 1024;
+
+    public enum Content {
+        /**
+         * Log lines: words and punctuation, with an escaped tab now and then
+         */
+        LOG_LINES,
+
+        /**
+         * Base64 encoded random bytes, like ids and tokens
+         */
+        BASE64_IDS
+    }
+
+    @Param({"scalar", "swar", "vector"})
+    public String scanner;
+
+    @Param({"LOG_LINES", "BASE64_IDS"})
+    public Content content;
+
+    /**
+     * Length of String values, in characters
+     */
+    @Param({"16", "128", "1024"})
+    public int length;
+
+    private StringScanner stringScanner;
+    private byte[] docBytes;
+
+    @Setup
+    public void setup() {
+        switch (scanner) {
+            case "vector":
+                stringScanner = StringScanner.vector();
+                break;
+            case "swar":
+                stringScanner = StringScanner.swar();
+                break;
+            default:
+                stringScanner = StringScanner.scalar();
+        }
+        if (stringScanner == null) {
+            throw new IllegalStateException("Vector scanner not available: needs Java 17+ and"
+                    + " --add-modules jdk.incubator.vector");
+        }
+        final Random rnd = new Random(length);
+        final StringBuilder sb = new StringBuilder("[");
+        while (sb.length() < DOC_LENGTH) {
+            if (sb.length() > 1) {
+                sb.append(',');
+            }
+            sb.append('"').append(content == Content.LOG_LINES ? logLine(rnd, length) : base64(rnd, length))
+                    .append('"');
+        }
+        docBytes = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    @Benchmark
+    public void readStrings(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = createParser()) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.VALUE_STRING) {
+                    blackhole.consume(jp.getTextCharacters());
+                }
+            }
+        }
+    }
+
+    @Benchmark
+    public void skipStrings(Blackhole blackhole) throws Exception {
+        try (JsonParser jp = createParser()) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+
+    @Benchmark
+    public void readStringsAsync(Blackhole blackhole) throws Exception {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        try (V1NonBlockingJsonParser jp = new V1NonBlockingJsonParser(ctxt, FACTORY.getParserFeatures(),
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS))) {
+            jp.setStringScanner(stringScanner);
+            jp.feedInput(docBytes, 0, docBytes.length);
+            jp.endOfInput();
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                if (jt == JsonToken.VALUE_STRING) {
+                    blackhole.consume(jp.getTextCharacters());
+                }
+            }
+        }
+    }
+
+    private JsonParser createParser() {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        V1UTF8StreamJsonParser jp = new V1UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new ByteArrayInputStream(docBytes), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false);
+        jp.setStringScanner(stringScanner);
+        return jp;
+    }
+
+    private static String logLine(Random rnd, int length) {
+        final String[] words = { "INFO", "request", "completed", "in", "ms", "user=42", "GET", "/api/v1/items",
+                "status=200", "cache", "miss", "[main]", "-", "retry", "after" };
+        StringBuilder sb = new StringBuilder(length + 16);
+        while (sb.length() < length) {
+            sb.append(words[rnd.nextInt(words.length)]);
+            sb.append(rnd.nextInt(20) == 0 ? "\\t" : " ");
+        }
+        sb.setLength(length);
+        // do not cut an escape in half
+        if (sb.charAt(length - 1) == '\\') {
+            sb.setCharAt(length - 1, '.');
+        }
+        return sb.toString();
+    }
+
+    private static String base64(Random rnd, int length) {
+        byte[] bytes = new byte[length];
+        rnd.nextBytes(bytes);
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(bytes).substring(0, length);
+    }
+}
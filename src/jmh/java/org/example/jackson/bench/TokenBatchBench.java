@@ -0,0 +1,113 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Reading the structure of {@link NestingBench} documents with a {@code nextToken()}
+ * loop, versus in batches of {@link #batchSize} tokens with {@code nextTokens}, for
+ * {@link V1UTF8StreamJsonParser} and {@link V1ReaderBasedJsonParser}.
+ */
+public class TokenBatchBench extends BenchmarkLauncher {
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static CharsToNameCanonicalizer _rootCharSymbols = CharsToNameCanonicalizer.createRoot();
+    private final static ByteQuadsCanonicalizer _byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    /**
+     * Number of containers in the document; nesting depth for all but the
+     * {@code WIDE} shape.
+     */
+    @Param({"100", "1000"})
+    public int depth;
+
+    @Param({"OBJECTS", "WIDE"})
+    public JsonUtil.NestingShape shape;
+
+    /**
+     * Maximum number of tokens per {@code nextTokens} call
+     */
+    @Param({"16", "256"})
+    public int batchSize;
+
+    private String doc;
+    private byte[] docBytes;
+    private int[] tokenIds;
+    private int[] offsets;
+    private int[] lengths;
+
+    @Setup
+    public void setup() {
+        doc = JsonUtil.createNestedDoc(shape, depth);
+        docBytes = doc.getBytes(StandardCharsets.UTF_8);
+        tokenIds = new int[batchSize];
+        offsets = new int[batchSize];
+        lengths = new int[batchSize];
+    }
+
+    @Benchmark
+    public void utf8NextToken(Blackhole blackhole) throws Exception {
+        try (V1UTF8StreamJsonParser jp = createUtf8Parser()) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+
+    @Benchmark
+    public void utf8NextTokens(Blackhole blackhole) throws Exception {
+        try (V1UTF8StreamJsonParser jp = createUtf8Parser()) {
+            while (jp.nextTokens(tokenIds, offsets, lengths, batchSize) > 0) {
+                blackhole.consume(tokenIds);
+            }
+        }
+    }
+
+    @Benchmark
+    public void readerNextToken(Blackhole blackhole) throws Exception {
+        try (V1ReaderBasedJsonParser jp = createReaderParser()) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                blackhole.consume(jt);
+            }
+        }
+    }
+
+    @Benchmark
+    public void readerNextTokens(Blackhole blackhole) throws Exception {
+        try (V1ReaderBasedJsonParser jp = createReaderParser()) {
+            while (jp.nextTokens(tokenIds, offsets, lengths, batchSize) > 0) {
+                blackhole.consume(tokenIds);
+            }
+        }
+    }
+
+    private V1UTF8StreamJsonParser createUtf8Parser() {
+        IOContext ctxt = createContext(createContentReference(docBytes), true);
+        return new V1UTF8StreamJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new ByteArrayInputStream(docBytes), null,
+                _byteQuadsCanonicalizer.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false);
+    }
+
+    private V1ReaderBasedJsonParser createReaderParser() {
+        IOContext ctxt = createContext(createContentReference(doc), true);
+        return new V1ReaderBasedJsonParser(ctxt, FACTORY.getParserFeatures(),
+                new StringReader(doc), null, _rootCharSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS));
+    }
+}
@@ -0,0 +1,194 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.Base64Variant;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Decoder used by {@link V1UTF8StreamJsonParser} and {@link V1ReaderBasedJsonParser}
+ * for the bulk of base64 encoded binary values: runs of complete units of four
+ * characters of the alphabet of a {@link Base64Variant}, decoded from the input
+ * buffer straight to an output buffer. Anything else (padding, white space,
+ * escapes, the closing quote, invalid characters and units split across input
+ * buffers) stops the decoder, and is left to the character-at-a-time code of
+ * the parsers, which also reports errors.
+ *<p>
+ * Two implementations exist: {@link #table()}, which decodes a unit with four
+ * lookups in per-variant tables of pre-shifted 6-bit values, and a single check
+ * of the combined result; and {@link #vector()}, which decodes a whole vector of
+ * bytes per step using the {@code jdk.incubator.vector} module (for the standard
+ * and URL-safe alphabets and byte input only, otherwise it decodes like the
+ * table one). As with {@link StringScanner}, the latter is only available on
+ * Java 17+ when that module is added; parsers use {@link #defaultDecoder()}, the
+ * one named by system property {@value #DECODER_PROPERTY} ({@code table} or
+ * {@code vector}) if set and available, otherwise the vector decoder if available,
+ * the table one if not.
+ */
+public abstract class Base64Decoder
+{
+    public final static String DECODER_PROPERTY = "org.example.jackson.bench.base64";
+
+    private final static String VECTOR_DECODER_CLASS = "org.example.jackson.bench.VectorBase64Decoder";
+
+    private final static Base64Decoder TABLE = new Table();
+
+    private final static Base64Decoder VECTOR = _loadVectorDecoder();
+
+    private final static Base64Decoder DEFAULT = _defaultDecoder(System.getProperty(DECODER_PROPERTY));
+
+    protected Base64Decoder() { }
+
+    public static Base64Decoder table() {
+        return TABLE;
+    }
+
+    /**
+     * @return Vector API based decoder; {@code null} if not available
+     */
+    public static Base64Decoder vector() {
+        return VECTOR;
+    }
+
+    public static Base64Decoder defaultDecoder() {
+        return DEFAULT;
+    }
+
+    /**
+     * Method for decoding complete units of base64 content from a range of input,
+     * up to the first unit with a character that is not in the alphabet of
+     * {@code variant}, or the first one that does not fit in the output.
+     *<p>
+     * Note that bytes of {@code output} after those decoded (but before
+     * {@code outEnd}) may be overwritten.
+     *
+     * @param input Buffer with content to decode
+     * @param ptr Offset of the first byte to decode
+     * @param end Offset after the last byte that may be decoded
+     * @param output Buffer for decoded bytes
+     * @param outPtr Offset of the first decoded byte in {@code output}
+     * @param outEnd Offset after the last byte that may be written
+     *
+     * @return Number of input bytes decoded, a multiple of 4 (with 3 bytes of
+     *   output for each unit)
+     */
+    public abstract int decode(Base64Variant variant, byte[] input, int ptr, int end,
+            byte[] output, int outPtr, int outEnd);
+
+    /**
+     * Method similar to {@link #decode(Base64Variant, byte[], int, int, byte[], int, int)},
+     * for input of chars.
+     *
+     * @return Number of input chars decoded, a multiple of 4 (with 3 bytes of
+     *   output for each unit)
+     */
+    public abstract int decode(Base64Variant variant, char[] input, int ptr, int end,
+            byte[] output, int outPtr, int outEnd);
+
+    /**
+     * @param name Name of decoder to use, if any
+     *
+     * @return Decoder with given name, if available; best one available otherwise
+     */
+    private static Base64Decoder _defaultDecoder(String name) {
+        if ("table".equals(name) || VECTOR == null) {
+            return TABLE;
+        }
+        return VECTOR;
+    }
+
+    private static Base64Decoder _loadVectorDecoder() {
+        try {
+            return (Base64Decoder) Class.forName(VECTOR_DECODER_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not on Java 17+, or module not added
+            return null;
+        }
+    }
+
+    /**
+     * Decoder that looks up each character in a table of its 6-bit value shifted
+     * to its place in the unit, so a unit is the OR of four lookups; characters
+     * not in the alphabet map to -1, so any of them makes the unit negative. Also
+     * used by the vector decoder for partial vectors and other alphabets.
+     */
+    final static class Table extends Base64Decoder
+    {
+        /**
+         * Tables by variant, built when variant is first used; there are rarely
+         * more than a few
+         */
+        private final static Map<Base64Variant, int[][]> TABLES = new ConcurrentHashMap<>();
+
+        @Override
+        public int decode(Base64Variant variant, byte[] input, int ptr, int end,
+                byte[] output, int outPtr, int outEnd) {
+            final int[][] tables = tables(variant);
+            final int[] t0 = tables[0], t1 = tables[1], t2 = tables[2], t3 = tables[3];
+            final int start = ptr;
+            final int last = Math.min(end - 4, ptr + ((outEnd - outPtr) / 3 - 1) * 4);
+            while (ptr <= last) {
+                final int bits = t0[input[ptr] & 0xFF] | t1[input[ptr + 1] & 0xFF]
+                        | t2[input[ptr + 2] & 0xFF] | t3[input[ptr + 3] & 0xFF];
+                if (bits < 0) {
+                    break;
+                }
+                output[outPtr] = (byte) (bits >> 16);
+                output[outPtr + 1] = (byte) (bits >> 8);
+                output[outPtr + 2] = (byte) bits;
+                ptr += 4;
+                outPtr += 3;
+            }
+            return ptr - start;
+        }
+
+        @Override
+        public int decode(Base64Variant variant, char[] input, int ptr, int end,
+                byte[] output, int outPtr, int outEnd) {
+            final int[][] tables = tables(variant);
+            final int[] t0 = tables[0], t1 = tables[1], t2 = tables[2], t3 = tables[3];
+            final int start = ptr;
+            final int last = Math.min(end - 4, ptr + ((outEnd - outPtr) / 3 - 1) * 4);
+            while (ptr <= last) {
+                final int c0 = input[ptr], c1 = input[ptr + 1], c2 = input[ptr + 2], c3 = input[ptr + 3];
+                if ((c0 | c1 | c2 | c3) > 0xFF) {
+                    break;
+                }
+                final int bits = t0[c0] | t1[c1] | t2[c2] | t3[c3];
+                if (bits < 0) {
+                    break;
+                }
+                output[outPtr] = (byte) (bits >> 16);
+                output[outPtr + 1] = (byte) (bits >> 8);
+                output[outPtr + 2] = (byte) bits;
+                ptr += 4;
+                outPtr += 3;
+            }
+            return ptr - start;
+        }
+
+        /**
+         * @return Tables for the four characters of a unit, indexed by byte value
+         */
+        static int[][] tables(Base64Variant variant) {
+            int[][] tables = TABLES.get(variant);
+            if (tables == null) {
+                tables = new int[4][256];
+                for (int c = 0; c < 256; ++c) {
+                    final int bits = (c < 128) ? variant.decodeBase64Char(c) : Base64Variant.BASE64_VALUE_INVALID;
+                    for (int i = 0; i < 4; ++i) {
+                        // padding is negative too, so also ends the run
+                        tables[i][c] = (bits < 0) ? -1 : (bits << (18 - 6 * i));
+                    }
+                }
+                TABLES.putIfAbsent(variant, tables);
+            }
+            return tables;
+        }
+
+        @Override
+        public String toString() {
+            return "table";
+        }
+    }
+}
@@ -0,0 +1,191 @@
+package org.example.jackson.bench;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+
+/**
+ * Decoder of long decimal numbers to {@link BigInteger} and {@link BigDecimal}
+ * in sub-quadratic time. JDK constructors convert digits to binary one chunk at a
+ * time, each step multiplying the whole value so far, which is quadratic in the
+ * number of digits; here digits are split in two, both halves converted
+ * (recursively) and combined as {@code high * 10^n + low}, so cost is that of the
+ * (Karatsuba or Toom-Cook) multiplications of {@link BigInteger}. Halves of very
+ * long numbers may be converted in parallel, in a given {@link ForkJoinPool}.
+ *<p>
+ * Shorter numbers, and text not in plain number syntax, are left to the JDK
+ * constructors; results (and exceptions) are always the same as theirs.
+ */
+public final class BigNumberParser
+{
+    /**
+     * Numbers of at most this many digits are converted by the JDK: below
+     * Karatsuba multiplication sizes, splitting gains nothing
+     */
+    final static int RECURSION_THRESHOLD = 400;
+
+    /**
+     * Numbers of at least this many digits have their halves converted in
+     * parallel, if a pool is given
+     */
+    final static int PARALLEL_THRESHOLD = 20_000;
+
+    /**
+     * Powers of ten used for combining halves: {@code 10^(RECURSION_THRESHOLD << i)}
+     * at index {@code i}, calculated when first needed
+     */
+    private final static AtomicReferenceArray<BigInteger> POWERS_OF_TEN = new AtomicReferenceArray<>(32);
+
+    private BigNumberParser() { }
+
+    /**
+     * @param pool Pool for converting very long numbers in parallel; or null to
+     *   always convert in calling thread
+     *
+     * @throws NumberFormatException if text is not a valid number (as per
+     *   {@link BigInteger#BigInteger(String)})
+     */
+    public static BigInteger parseBigInteger(String s, ForkJoinPool pool) {
+        final int len = s.length();
+        if (len <= RECURSION_THRESHOLD) {
+            return new BigInteger(s);
+        }
+        final char[] chars = s.toCharArray();
+        final int start = (chars[0] == '-' || chars[0] == '+') ? 1 : 0;
+        for (int i = start; i < len; ++i) {
+            if (chars[i] < '0' || chars[i] > '9') {
+                return new BigInteger(s);
+            }
+        }
+        final BigInteger value = _parse(chars, start, len, pool);
+        return (chars[0] == '-') ? value.negate() : value;
+    }
+
+    /**
+     * @param pool Pool for converting very long numbers in parallel; or null to
+     *   always convert in calling thread
+     *
+     * @throws NumberFormatException if text is not a valid number (as per
+     *   {@link BigDecimal#BigDecimal(String)})
+     */
+    public static BigDecimal parseBigDecimal(String s, ForkJoinPool pool) {
+        final int len = s.length();
+        if (len <= RECURSION_THRESHOLD) {
+            return new BigDecimal(s);
+        }
+        // digits of unscaled value, without decimal point
+        final char[] digits = new char[len];
+        int digitCount = 0;
+        int ptr = (s.charAt(0) == '-' || s.charAt(0) == '+') ? 1 : 0;
+        char c = 0;
+        for (; ptr < len && (c = s.charAt(ptr)) >= '0' && c <= '9'; ++ptr) {
+            digits[digitCount++] = c;
+        }
+        int fractLen = 0;
+        if (ptr < len && c == '.') {
+            for (++ptr; ptr < len && (c = s.charAt(ptr)) >= '0' && c <= '9'; ++ptr) {
+                digits[digitCount++] = c;
+                ++fractLen;
+            }
+        }
+        long exp = 0L;
+        if (ptr < len && (c == 'e' || c == 'E') && digitCount > 0) {
+            boolean negativeExp = false;
+            if (++ptr < len && ((c = s.charAt(ptr)) == '-' || c == '+')) {
+                negativeExp = (c == '-');
+                ++ptr;
+            }
+            final int expStart = ptr;
+            for (; ptr < len && (c = s.charAt(ptr)) >= '0' && c <= '9' && exp <= Integer.MAX_VALUE; ++ptr) {
+                exp = exp * 10 + (c - '0');
+            }
+            if (ptr == expStart) {
+                return new BigDecimal(s);
+            }
+            if (negativeExp) {
+                exp = -exp;
+            }
+        }
+        final long scale = fractLen - exp;
+        if (ptr != len || digitCount <= RECURSION_THRESHOLD
+                || scale < Integer.MIN_VALUE || scale > Integer.MAX_VALUE) {
+            return new BigDecimal(s);
+        }
+        final BigInteger unscaled = _parse(digits, 0, digitCount, pool);
+        return new BigDecimal((s.charAt(0) == '-') ? unscaled.negate() : unscaled, (int) scale);
+    }
+
+    private static BigInteger _parse(char[] digits, int start, int end, ForkJoinPool pool) {
+        if (pool != null && (end - start) >= PARALLEL_THRESHOLD) {
+            return pool.invoke(new ParseTask(digits, start, end));
+        }
+        return _parse(digits, start, end);
+    }
+
+    private static BigInteger _parse(char[] digits, int start, int end) {
+        final int len = end - start;
+        if (len <= RECURSION_THRESHOLD) {
+            return new BigInteger(new String(digits, start, len));
+        }
+        final int level = _level(len);
+        final int mid = end - (RECURSION_THRESHOLD << level);
+        return _combine(_parse(digits, start, mid), _parse(digits, mid, end), level);
+    }
+
+    /**
+     * @return Level of split for number of given length: low half has
+     *   {@code RECURSION_THRESHOLD << level} digits, high half at most as many
+     */
+    private static int _level(int len) {
+        int level = 0;
+        while ((RECURSION_THRESHOLD << (level + 1)) < len) {
+            ++level;
+        }
+        return level;
+    }
+
+    private static BigInteger _combine(BigInteger high, BigInteger low, int level) {
+        return high.multiply(_powerOfTen(level)).add(low);
+    }
+
+    private static BigInteger _powerOfTen(int level) {
+        BigInteger power = POWERS_OF_TEN.get(level);
+        if (power == null) {
+            // may be calculated by more than one thread, but the result is the same
+            power = (level == 0) ? BigInteger.TEN.pow(RECURSION_THRESHOLD) : _powerOfTen(level - 1).pow(2);
+            POWERS_OF_TEN.set(level, power);
+        }
+        return power;
+    }
+
+    private final static class ParseTask extends RecursiveTask<BigInteger>
+    {
+        private static final long serialVersionUID = 1L;
+
+        private final char[] _digits;
+
+        private final int _start, _end;
+
+        ParseTask(char[] digits, int start, int end) {
+            _digits = digits;
+            _start = start;
+            _end = end;
+        }
+
+        @Override
+        protected BigInteger compute() {
+            final int len = _end - _start;
+            if (len < PARALLEL_THRESHOLD) {
+                return _parse(_digits, _start, _end);
+            }
+            final int level = _level(len);
+            final int mid = _end - (RECURSION_THRESHOLD << level);
+            final ParseTask high = new ParseTask(_digits, _start, mid);
+            high.fork();
+            final BigInteger low = new ParseTask(_digits, mid, _end).compute();
+            return _combine(high.join(), low, level);
+        }
+    }
+}
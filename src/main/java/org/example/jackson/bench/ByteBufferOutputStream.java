@@ -0,0 +1,59 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.JsonParser;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+
+/**
+ * {@link OutputStream} that puts bytes written to a {@link ByteBuffer}, from its
+ * position on; used by parsers to decode binary values to a buffer in chunks,
+ * as they would to any stream (see {@link #readBinaryValue}).
+ */
+final class ByteBufferOutputStream extends OutputStream
+{
+    private final ByteBuffer _buffer;
+
+    ByteBufferOutputStream(ByteBuffer buffer) {
+        _buffer = buffer;
+    }
+
+    /**
+     * Method behind {@code readBinaryValue(Base64Variant, ByteBuffer)} of
+     * {@link V1ParserBase} and {@link V2ParserBase}: similar to
+     * {@link JsonParser#readBinaryValue(Base64Variant, OutputStream)}, but puts
+     * decoded bytes to given buffer, from its position on. As with a stream,
+     * parsers that can decode incrementally do so in chunks, without building the
+     * whole value.
+     *
+     * @param out Buffer to put decoded bytes to; its position is advanced past them
+     *
+     * @return Number of bytes decoded and put to buffer
+     *
+     * @throws BufferOverflowException if buffer does not have room for the whole
+     *   value; parser is then left within it
+     */
+    static int readBinaryValue(JsonParser p, Base64Variant b64variant, ByteBuffer out) throws IOException {
+        return p.readBinaryValue(b64variant, new ByteBufferOutputStream(out));
+    }
+
+    /**
+     * @throws BufferOverflowException if there is no room left in buffer
+     */
+    @Override
+    public void write(int b) {
+        _buffer.put((byte) b);
+    }
+
+    /**
+     * @throws BufferOverflowException if there is not enough room left in buffer
+     *   (in which case nothing is written)
+     */
+    @Override
+    public void write(byte[] b, int off, int len) {
+        _buffer.put(b, off, len);
+    }
+}
@@ -0,0 +1,67 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+
+import java.io.IOException;
+
+/**
+ * Helper for driving a non-blocking parser (one whose
+ * {@link JsonParser#getNonBlockingInputFeeder()} is a {@link ByteArrayFeeder})
+ * from a single in-memory document, handing the content over in chunks of
+ * fixed size, the way it would arrive from the network.
+ *<p>
+ * {@link #nextToken()} hides {@link JsonToken#NOT_AVAILABLE}: whenever the parser
+ * runs out of input the next chunk is fed, and once the whole document has been
+ * fed {@link ByteArrayFeeder#endOfInput()} is signalled so that the parser
+ * eventually returns {@code null}.
+ */
+public class ChunkedInputFeeder
+{
+    private final JsonParser _parser;
+
+    private final ByteArrayFeeder _feeder;
+
+    private final byte[] _input;
+
+    private final int _chunkSize;
+
+    /**
+     * Offset of the first byte not yet fed to the parser
+     */
+    private int _inputPtr;
+
+    public ChunkedInputFeeder(JsonParser parser, byte[] input, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        _parser = parser;
+        _feeder = (ByteArrayFeeder) parser.getNonBlockingInputFeeder();
+        _input = input;
+        _chunkSize = chunkSize;
+    }
+
+    public JsonParser getParser() {
+        return _parser;
+    }
+
+    /**
+     * Method for fetching the next complete token, feeding more input as needed.
+     *
+     * @return Next token; {@code null} once end of input has been reached
+     */
+    public JsonToken nextToken() throws IOException {
+        JsonToken t;
+        while ((t = _parser.nextToken()) == JsonToken.NOT_AVAILABLE) {
+            if (_inputPtr < _input.length) {
+                final int end = Math.min(_inputPtr + _chunkSize, _input.length);
+                _feeder.feedInput(_input, _inputPtr, end);
+                _inputPtr = end;
+            } else {
+                _feeder.endOfInput();
+            }
+        }
+        return t;
+    }
+}
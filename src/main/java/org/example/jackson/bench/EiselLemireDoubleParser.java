@@ -0,0 +1,386 @@
+package org.example.jackson.bench;
+
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * Decoder of decimal numbers to {@code double}, working directly on characters,
+ * (ASCII) bytes or an existing {@link String}, without constructing one. Up to 19 significant digits
+ * are accumulated into a 64-bit mantissa, which is converted exactly with a
+ * single floating-point operation if small enough (Clinger's fast path), and
+ * otherwise with the Eisel-Lemire algorithm (as in Go's {@code strconv}): the
+ * mantissa is multiplied with a 128-bit approximation of the power of ten, which
+ * is all that is needed to round correctly except for rare ambiguous cases.
+ *<p>
+ * Those cases, as well as subnormal values, overflow, mantissas of more than 19
+ * digits that can not be rounded either way, and text not in number syntax, go
+ * to {@link Double#parseDouble}; so results are always exactly those of it.
+ */
+public final class EiselLemireDoubleParser
+{
+    private final static int MIN_POWER_OF_TEN = -348;
+
+    private final static int MAX_POWER_OF_TEN = 347;
+
+    /**
+     * Mantissas of powers of ten from {@link #MIN_POWER_OF_TEN}, normalized to 128
+     * bits and rounded down: high 64 bits
+     */
+    private final static long[] POWERS_OF_TEN_HI = new long[MAX_POWER_OF_TEN - MIN_POWER_OF_TEN + 1];
+
+    /**
+     * Low 64 bits of {@link #POWERS_OF_TEN_HI}
+     */
+    private final static long[] POWERS_OF_TEN_LO = new long[POWERS_OF_TEN_HI.length];
+    static {
+        for (int q = MIN_POWER_OF_TEN; q <= MAX_POWER_OF_TEN; ++q) {
+            BigInteger m;
+            if (q >= 0) {
+                m = BigInteger.TEN.pow(q);
+                final int bits = m.bitLength();
+                m = (bits > 128) ? m.shiftRight(bits - 128) : m.shiftLeft(128 - bits);
+            } else {
+                final BigInteger divisor = BigInteger.TEN.pow(-q);
+                m = BigInteger.ONE.shiftLeft(127 + divisor.bitLength()).divide(divisor);
+            }
+            POWERS_OF_TEN_HI[q - MIN_POWER_OF_TEN] = m.shiftRight(64).longValue();
+            POWERS_OF_TEN_LO[q - MIN_POWER_OF_TEN] = m.longValue();
+        }
+    }
+
+    private final static double[] EXACT_POWERS_OF_TEN = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22
+    };
+
+    private final static int MAX_MANTISSA_DIGITS = 19;
+
+    /**
+     * Exponents are not accumulated beyond this: no longer matters for the result
+     */
+    private final static int MAX_EXPONENT = 100_000;
+
+    private EiselLemireDoubleParser() { }
+
+    /**
+     * @throws NumberFormatException if text is not a valid number (as per
+     *   {@link Double#parseDouble})
+     */
+    public static double parseDouble(char[] buf, int offset, int len) {
+        final int end = offset + len;
+        int ptr = offset;
+        boolean negative = false;
+        if (ptr < end && (buf[ptr] == '-' || buf[ptr] == '+')) {
+            negative = (buf[ptr++] == '-');
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exp10 = 0;
+        boolean truncated = false;
+        final int intStart = ptr;
+        int c;
+        for (; ptr < end && (c = buf[ptr] - '0') >= 0 && c <= 9; ++ptr) {
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + c;
+                if (mantissa != 0L) { // leading zeroes do not count
+                    ++digits;
+                }
+            } else {
+                ++exp10;
+                truncated |= (c != 0);
+            }
+        }
+        int digitCount = ptr - intStart;
+        if (ptr < end && buf[ptr] == '.') {
+            final int fractStart = ++ptr;
+            for (; ptr < end && (c = buf[ptr] - '0') >= 0 && c <= 9; ++ptr) {
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + c;
+                    if (mantissa != 0L) {
+                        ++digits;
+                    }
+                    --exp10;
+                } else {
+                    truncated |= (c != 0);
+                }
+            }
+            digitCount += ptr - fractStart;
+        }
+        if (digitCount == 0) {
+            return _fallback(buf, offset, len);
+        }
+        if (ptr < end && (buf[ptr] == 'e' || buf[ptr] == 'E')) {
+            boolean negativeExp = false;
+            if (++ptr < end && (buf[ptr] == '-' || buf[ptr] == '+')) {
+                negativeExp = (buf[ptr++] == '-');
+            }
+            final int expStart = ptr;
+            int exp = 0;
+            for (; ptr < end && (c = buf[ptr] - '0') >= 0 && c <= 9; ++ptr) {
+                if (exp < MAX_EXPONENT) {
+                    exp = exp * 10 + c;
+                }
+            }
+            if (ptr == expStart) {
+                return _fallback(buf, offset, len);
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+        if (ptr != end) {
+            return _fallback(buf, offset, len);
+        }
+        final double d = _toDouble(negative, mantissa, exp10, truncated);
+        return Double.isNaN(d) ? _fallback(buf, offset, len) : d;
+    }
+
+    /**
+     * Variant of {@link #parseDouble(char[], int, int)} for bytes of ASCII (or
+     * UTF-8) encoded text.
+     *
+     * @throws NumberFormatException if text is not a valid number (as per
+     *   {@link Double#parseDouble})
+     */
+    public static double parseDouble(byte[] buf, int offset, int len) {
+        final int end = offset + len;
+        int ptr = offset;
+        boolean negative = false;
+        if (ptr < end && (buf[ptr] == '-' || buf[ptr] == '+')) {
+            negative = (buf[ptr++] == '-');
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exp10 = 0;
+        boolean truncated = false;
+        final int intStart = ptr;
+        int c;
+        for (; ptr < end && (c = buf[ptr] - '0') >= 0 && c <= 9; ++ptr) {
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + c;
+                if (mantissa != 0L) {
+                    ++digits;
+                }
+            } else {
+                ++exp10;
+                truncated |= (c != 0);
+            }
+        }
+        int digitCount = ptr - intStart;
+        if (ptr < end && buf[ptr] == '.') {
+            final int fractStart = ++ptr;
+            for (; ptr < end && (c = buf[ptr] - '0') >= 0 && c <= 9; ++ptr) {
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + c;
+                    if (mantissa != 0L) {
+                        ++digits;
+                    }
+                    --exp10;
+                } else {
+                    truncated |= (c != 0);
+                }
+            }
+            digitCount += ptr - fractStart;
+        }
+        if (digitCount == 0) {
+            return _fallback(buf, offset, len);
+        }
+        if (ptr < end && (buf[ptr] == 'e' || buf[ptr] == 'E')) {
+            boolean negativeExp = false;
+            if (++ptr < end && (buf[ptr] == '-' || buf[ptr] == '+')) {
+                negativeExp = (buf[ptr++] == '-');
+            }
+            final int expStart = ptr;
+            int exp = 0;
+            for (; ptr < end && (c = buf[ptr] - '0') >= 0 && c <= 9; ++ptr) {
+                if (exp < MAX_EXPONENT) {
+                    exp = exp * 10 + c;
+                }
+            }
+            if (ptr == expStart) {
+                return _fallback(buf, offset, len);
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+        if (ptr != end) {
+            return _fallback(buf, offset, len);
+        }
+        final double d = _toDouble(negative, mantissa, exp10, truncated);
+        return Double.isNaN(d) ? _fallback(buf, offset, len) : d;
+    }
+
+    /**
+     * Variant of {@link #parseDouble(char[], int, int)} for text already in a
+     * {@link String}, as kept by parsers for numbers decoded on demand.
+     *
+     * @throws NumberFormatException if text is not a valid number (as per
+     *   {@link Double#parseDouble})
+     */
+    public static double parseDouble(String text) {
+        final int end = text.length();
+        int ptr = 0;
+        boolean negative = false;
+        if (ptr < end && (text.charAt(ptr) == '-' || text.charAt(ptr) == '+')) {
+            negative = (text.charAt(ptr++) == '-');
+        }
+        long mantissa = 0L;
+        int digits = 0;
+        int exp10 = 0;
+        boolean truncated = false;
+        final int intStart = ptr;
+        int c;
+        for (; ptr < end && (c = text.charAt(ptr) - '0') >= 0 && c <= 9; ++ptr) {
+            if (digits < MAX_MANTISSA_DIGITS) {
+                mantissa = mantissa * 10 + c;
+                if (mantissa != 0L) {
+                    ++digits;
+                }
+            } else {
+                ++exp10;
+                truncated |= (c != 0);
+            }
+        }
+        int digitCount = ptr - intStart;
+        if (ptr < end && text.charAt(ptr) == '.') {
+            final int fractStart = ++ptr;
+            for (; ptr < end && (c = text.charAt(ptr) - '0') >= 0 && c <= 9; ++ptr) {
+                if (digits < MAX_MANTISSA_DIGITS) {
+                    mantissa = mantissa * 10 + c;
+                    if (mantissa != 0L) {
+                        ++digits;
+                    }
+                    --exp10;
+                } else {
+                    truncated |= (c != 0);
+                }
+            }
+            digitCount += ptr - fractStart;
+        }
+        if (digitCount == 0) {
+            return Double.parseDouble(text);
+        }
+        if (ptr < end && (text.charAt(ptr) == 'e' || text.charAt(ptr) == 'E')) {
+            boolean negativeExp = false;
+            if (++ptr < end && (text.charAt(ptr) == '-' || text.charAt(ptr) == '+')) {
+                negativeExp = (text.charAt(ptr++) == '-');
+            }
+            final int expStart = ptr;
+            int exp = 0;
+            for (; ptr < end && (c = text.charAt(ptr) - '0') >= 0 && c <= 9; ++ptr) {
+                if (exp < MAX_EXPONENT) {
+                    exp = exp * 10 + c;
+                }
+            }
+            if (ptr == expStart) {
+                return Double.parseDouble(text);
+            }
+            exp10 += negativeExp ? -exp : exp;
+        }
+        if (ptr != end) {
+            return Double.parseDouble(text);
+        }
+        final double d = _toDouble(negative, mantissa, exp10, truncated);
+        return Double.isNaN(d) ? Double.parseDouble(text) : d;
+    }
+
+    /**
+     * @param mantissa Unsigned mantissa
+     * @param truncated Whether there were non-zero digits after those of mantissa
+     *
+     * @return Value of {@code mantissa * 10^exp10}; or NaN if it could not be
+     *   determined here
+     */
+    private static double _toDouble(boolean negative, long mantissa, int exp10, boolean truncated) {
+        if (!truncated) {
+            // Clinger's fast path: both mantissa and power of ten exact as doubles
+            if ((mantissa >>> 53) == 0L && exp10 >= -22 && exp10 <= 22) {
+                double d = (double) mantissa;
+                d = (exp10 < 0) ? (d / EXACT_POWERS_OF_TEN[-exp10]) : (d * EXACT_POWERS_OF_TEN[exp10]);
+                return negative ? -d : d;
+            }
+            return _eiselLemire(negative, mantissa, exp10);
+        }
+        // Actual value is between mantissa and mantissa + 1 (exclusive): both must
+        // round the same way
+        final double d = _eiselLemire(negative, mantissa, exp10);
+        if (Double.isNaN(d) || Double.compare(d, _eiselLemire(negative, mantissa + 1, exp10)) != 0) {
+            return Double.NaN;
+        }
+        return d;
+    }
+
+    private static double _eiselLemire(boolean negative, long mantissa, int exp10) {
+        if (mantissa == 0L) {
+            return negative ? -0.0 : 0.0;
+        }
+        if (exp10 < MIN_POWER_OF_TEN || exp10 > MAX_POWER_OF_TEN) {
+            return Double.NaN;
+        }
+        // Normalization
+        final int clz = Long.numberOfLeadingZeros(mantissa);
+        mantissa <<= clz;
+        long exp2 = ((217706 * exp10) >> 16) + 64 + 1023 - clz;
+
+        // Multiplication
+        final int index = exp10 - MIN_POWER_OF_TEN;
+        long hi = _unsignedMultiplyHigh(mantissa, POWERS_OF_TEN_HI[index]);
+        long lo = mantissa * POWERS_OF_TEN_HI[index];
+
+        // Wider approximation, if low bits of product could still carry
+        if ((hi & 0x1FF) == 0x1FF && Long.compareUnsigned(lo + mantissa, mantissa) < 0) {
+            final long yHi = _unsignedMultiplyHigh(mantissa, POWERS_OF_TEN_LO[index]);
+            final long yLo = mantissa * POWERS_OF_TEN_LO[index];
+            long mergedHi = hi;
+            final long mergedLo = lo + yHi;
+            if (Long.compareUnsigned(mergedLo, lo) < 0) {
+                ++mergedHi;
+            }
+            if ((mergedHi & 0x1FF) == 0x1FF && mergedLo == -1L
+                    && Long.compareUnsigned(yLo + mantissa, mantissa) < 0) {
+                return Double.NaN;
+            }
+            hi = mergedHi;
+            lo = mergedLo;
+        }
+
+        // Shifting to 54 bits
+        final long msb = hi >>> 63;
+        long bits = hi >>> (msb + 9);
+        exp2 -= 1 ^ msb;
+
+        // Half-way ambiguity
+        if (lo == 0L && (hi & 0x1FF) == 0 && (bits & 3) == 1) {
+            return Double.NaN;
+        }
+
+        // From 54 to 53 bits
+        bits += bits & 1;
+        bits >>>= 1;
+        if ((bits >>> 53) > 0) {
+            bits >>>= 1;
+            ++exp2;
+        }
+        // Subnormal, infinite: left to fallback
+        if (exp2 <= 0 || exp2 >= 0x7FF) {
+            return Double.NaN;
+        }
+        bits = (exp2 << 52) | (bits & 0x000FFFFFFFFFFFFFL);
+        if (negative) {
+            bits |= 0x8000000000000000L;
+        }
+        return Double.longBitsToDouble(bits);
+    }
+
+    /**
+     * Same as {@code Math.unsignedMultiplyHigh} of Java 18
+     */
+    private static long _unsignedMultiplyHigh(long x, long y) {
+        return Math.multiplyHigh(x, y) + ((x >> 63) & y) + ((y >> 63) & x);
+    }
+
+    private static double _fallback(char[] buf, int offset, int len) {
+        return Double.parseDouble(new String(buf, offset, len));
+    }
+
+    private static double _fallback(byte[] buf, int offset, int len) {
+        return Double.parseDouble(new String(buf, offset, len, StandardCharsets.ISO_8859_1));
+    }
+}
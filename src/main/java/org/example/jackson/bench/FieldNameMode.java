@@ -0,0 +1,78 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+
+/**
+ * How parsers handle field names, selected by the symbol table passed to them:
+ * the in-tree parsers (like stock ones) never intern names themselves, but the
+ * symbol table interns names it adds if {@link JsonFactory.Feature#INTERN_FIELD_NAMES}
+ * is enabled for it.
+ *<p>
+ * Note that {@link CharsToNameCanonicalizer} takes its features from the factory
+ * its root is created for ({@code makeChild(int)} ignores its argument), so use
+ * {@link #createCharsRoot()} for roots of char-based parsers; byte-based ones
+ * get features when making children.
+ */
+public enum FieldNameMode
+{
+    /**
+     * Names are canonicalized by the symbol table, and new names interned via
+     * {@link com.fasterxml.jackson.core.util.InternCache} and {@link String#intern()}:
+     * the Jackson default.
+     */
+    INTERN(true),
+
+    /**
+     * Names are canonicalized by the symbol table only: child tables are merged
+     * back to the shared (per-factory) root table when parser is closed, so
+     * names are deduplicated across parsers, but never go through the JVM string
+     * table. Root tables are bounded; they are cleared if they grow too big.
+     */
+    CANONICALIZE(false);
+
+    private final JsonFactory _factory;
+
+    FieldNameMode(boolean intern) {
+        _factory = JsonFactory.builder()
+                .configure(JsonFactory.Feature.INTERN_FIELD_NAMES, intern)
+                .build();
+    }
+
+    /**
+     * @return Factory configured for this mode
+     */
+    public JsonFactory getFactory() {
+        return _factory;
+    }
+
+    /**
+     * @return {@link JsonFactory.Feature} flags to pass to {@code makeChild} of symbol tables
+     */
+    public int getFactoryFeatures() {
+        return _factory.getFactoryFeatures();
+    }
+
+    /**
+     * @return New root table, to be shared by all char-based parsers using this mode
+     */
+    public CharsToNameCanonicalizer createCharsRoot() {
+        return CharsToNameCanonicalizer.createRoot(_factory);
+    }
+
+    /**
+     * @return New root table, to be shared by all byte-based parsers using this mode
+     */
+    public ByteQuadsCanonicalizer createBytesRoot() {
+        return ByteQuadsCanonicalizer.createRoot();
+    }
+
+    public ByteQuadsCanonicalizer makeChild(ByteQuadsCanonicalizer root) {
+        return root.makeChild(getFactoryFeatures());
+    }
+
+    public CharsToNameCanonicalizer makeChild(CharsToNameCanonicalizer root) {
+        return root.makeChild();
+    }
+}
@@ -0,0 +1,270 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Extracts values at given JSON Pointers from content read with
+ * {@link V1UTF8StreamJsonParser}, skipping all other values. Parser is driven with
+ * on-demand decoding (see {@link V1UTF8StreamJsonParser#setLazyDecoding}): names
+ * are matched as quads with {@link QuadNameSet}, so names of skipped entries are
+ * never decoded, nor are skipped numbers and String values. Skipped content is
+ * still tokenized, so it is validated as usual; unless the extractor is created
+ * not to, in which case skipped Arrays and Objects are skipped with
+ * {@link V1UTF8StreamJsonParser#skipChildrenUnvalidated}, much faster but with
+ * their content only validated as far as that method does.
+ *<p>
+ * In addition to standard JSON Pointer syntax, a {@code *} segment matches any
+ * entry of an Object and any element of an Array: {@code /items/*}{@code /price}.
+ * A segment that is a valid index matches both an Array element and an Object
+ * entry of that name, as per JSON Pointer specification.
+ * If a value matches more than one pointer, the handler is called once, with the
+ * first of them (in given order); values within a matched value are not matched.
+ */
+public final class JsonPointerExtractor
+{
+    /**
+     * Handler for matched values.
+     */
+    public interface MatchHandler
+    {
+        /**
+         * Called with parser positioned at the first token of a matched value.
+         * Handler may read the value, but an Array or an Object must be read either
+         * up to and including its end token, or not at all (in which case it is
+         * skipped).
+         *
+         * @param pointerIndex Index of matched pointer (in the order given)
+         * @param p Parser positioned at the value
+         */
+        void matched(int pointerIndex, JsonParser p) throws IOException;
+    }
+
+    private final List<JsonPointer> _pointers;
+
+    private final Node _root;
+
+    private final boolean _validateSkipped;
+
+    /**
+     * @param pointers Pointers to extract values of
+     *
+     * @throws IllegalArgumentException if a pointer is not valid
+     */
+    public JsonPointerExtractor(List<String> pointers) {
+        this(pointers, true);
+    }
+
+    /**
+     * @param pointers Pointers to extract values of
+     * @param validateSkipped Whether skipped Arrays and Objects are to be
+     *   tokenized (and thereby validated), rather than only scanned for their end
+     *
+     * @throws IllegalArgumentException if a pointer is not valid
+     */
+    public JsonPointerExtractor(List<String> pointers, boolean validateSkipped) {
+        _validateSkipped = validateSkipped;
+        _pointers = new ArrayList<>(pointers.size());
+        final Segments root = new Segments();
+        for (int i = 0; i < pointers.size(); ++i) {
+            final JsonPointer pointer = JsonPointer.compile(pointers.get(i));
+            _pointers.add(pointer);
+            root.add(pointer, i);
+        }
+        _root = new Node(root);
+    }
+
+    public JsonPointer pointer(int index) {
+        return _pointers.get(index);
+    }
+
+    /**
+     * Method for reading all content (which may have multiple root-level values)
+     * from given parser, calling handler for matched values. Enables on-demand
+     * decoding of parser.
+     */
+    public void extract(V1UTF8StreamJsonParser p, MatchHandler handler) throws IOException {
+        p.setLazyDecoding(true);
+        JsonToken t;
+        while ((t = p.nextToken()) != null) {
+            _visit(_root, t, p, handler);
+        }
+    }
+
+    private void _skip(V1UTF8StreamJsonParser p) throws IOException {
+        if (_validateSkipped) {
+            p.skipChildren();
+        } else {
+            p.skipChildrenUnvalidated();
+        }
+    }
+
+    private void _visit(Node node, JsonToken t, V1UTF8StreamJsonParser p, MatchHandler handler)
+        throws IOException
+    {
+        if (node._match >= 0) {
+            handler.matched(node._match, p);
+            if (t.isStructStart() && p.currentToken() == t) {
+                _skip(p);
+            }
+        } else if (t == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                final Node child = node.entry(p);
+                final JsonToken value = p.nextToken();
+                if (child != null) {
+                    _visit(child, value, p, handler);
+                } else if (value.isStructStart()) {
+                    _skip(p);
+                }
+            }
+        } else if (t == JsonToken.START_ARRAY) {
+            int index = 0;
+            JsonToken value;
+            while ((value = p.nextToken()) != JsonToken.END_ARRAY) {
+                final Node child = node.element(index++);
+                if (child != null) {
+                    _visit(child, value, p, handler);
+                } else if (value.isStructStart()) {
+                    _skip(p);
+                }
+            }
+        }
+    }
+
+    /**
+     * Matching state for values at one path: for which pointer (if any) they are
+     * extracted, or which of their entries and elements are to be visited.
+     * Wildcard children are merged into named and indexed ones, so that exactly one
+     * node applies to each value.
+     */
+    private final static class Node
+    {
+        final int _match;
+
+        final QuadNameSet _names;
+
+        final Node[] _nameChildren;
+
+        /**
+         * Sorted indexes of elements with children of their own
+         */
+        final int[] _indexes;
+
+        final Node[] _indexChildren;
+
+        final Node _any;
+
+        Node(Segments s) {
+            _match = s._match;
+            _any = (s._any == null) ? null : new Node(s._any);
+            if (s._names.isEmpty()) {
+                _names = null;
+                _nameChildren = null;
+            } else {
+                _names = new QuadNameSet(new ArrayList<>(s._names.keySet()));
+                _nameChildren = new Node[_names.size()];
+                int i = 0;
+                for (Segments child : s._names.values()) {
+                    _nameChildren[i++] = new Node(Segments.merge(child, s._any));
+                }
+            }
+            _indexes = new int[s._indexes.size()];
+            _indexChildren = new Node[_indexes.length];
+            int i = 0;
+            for (Map.Entry<Integer, Segments> entry : s._indexes.entrySet()) {
+                _indexes[i] = entry.getKey();
+                _indexChildren[i++] = new Node(Segments.merge(entry.getValue(), s._any));
+            }
+        }
+
+        Node entry(V1UTF8StreamJsonParser p) throws IOException {
+            if (_names != null) {
+                final int ix = p.matchCurrentName(_names);
+                if (ix >= 0) {
+                    return _nameChildren[ix];
+                }
+            }
+            return _any;
+        }
+
+        Node element(int index) {
+            if (_indexes.length > 0) {
+                final int ix = Arrays.binarySearch(_indexes, index);
+                if (ix >= 0) {
+                    return _indexChildren[ix];
+                }
+            }
+            return _any;
+        }
+    }
+
+    /**
+     * Mutable tree of pointer segments, from which {@link Node}s are built.
+     */
+    private final static class Segments
+    {
+        int _match = -1;
+
+        final Map<String, Segments> _names = new LinkedHashMap<>();
+
+        final Map<Integer, Segments> _indexes = new TreeMap<>();
+
+        Segments _any;
+
+        void add(JsonPointer pointer, int index) {
+            if (pointer.matches()) {
+                if (_match < 0) {
+                    _match = index;
+                }
+                return;
+            }
+            final JsonPointer tail = pointer.tail();
+            final String name = pointer.getMatchingProperty();
+            if ("*".equals(name)) {
+                if (_any == null) {
+                    _any = new Segments();
+                }
+                _any.add(tail, index);
+                return;
+            }
+            _names.computeIfAbsent(name, n -> new Segments()).add(tail, index);
+            if (pointer.getMatchingIndex() >= 0) {
+                _indexes.computeIfAbsent(pointer.getMatchingIndex(), n -> new Segments()).add(tail, index);
+            }
+        }
+
+        /**
+         * @return Segments matching everything either of given ones match
+         */
+        static Segments merge(Segments a, Segments b) {
+            if (b == null) {
+                return a;
+            }
+            final Segments merged = new Segments();
+            merged._match = (a._match < 0) ? b._match : ((b._match < 0) ? a._match : Math.min(a._match, b._match));
+            merged._any = (a._any == null) ? b._any : merge(a._any, b._any);
+            for (Map.Entry<String, Segments> entry : a._names.entrySet()) {
+                merged._names.put(entry.getKey(), merge(entry.getValue(), b._names.get(entry.getKey())));
+            }
+            for (Map.Entry<String, Segments> entry : b._names.entrySet()) {
+                merged._names.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            for (Map.Entry<Integer, Segments> entry : a._indexes.entrySet()) {
+                merged._indexes.put(entry.getKey(), merge(entry.getValue(), b._indexes.get(entry.getKey())));
+            }
+            for (Map.Entry<Integer, Segments> entry : b._indexes.entrySet()) {
+                merged._indexes.putIfAbsent(entry.getKey(), entry.getValue());
+            }
+            return merged;
+        }
+    }
+}
@@ -6,6 +6,13 @@ import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.util.BufferRecyclers;
 
 public class JsonUtil {
+    /**
+     * Constraints used for the stock Jackson parsers: nesting depth is not limited,
+     * to match the in-tree parsers, so that deeply nested documents can be compared.
+     */
+    public final static StreamReadConstraints STREAM_READ_CONSTRAINTS =
+            StreamReadConstraints.builder().maxNestingDepth(Integer.MAX_VALUE).build();
+
     public final static String createDeepNestedDoc(final int depth) {
         StringBuilder sb = new StringBuilder();
         sb.append("[");
@@ -20,8 +27,91 @@ public class JsonUtil {
         return sb.toString();
     }
 
+    /**
+     * Shapes of generated documents, see {@link #createNestedDoc(NestingShape, int)}.
+     */
+    public enum NestingShape {
+        /**
+         * Arrays only: {@code [[[ "val" ]]]}
+         */
+        ARRAYS,
+
+        /**
+         * Objects only: {@code {"a":{"a":{"a":"val"}}}}
+         */
+        OBJECTS,
+
+        /**
+         * Array and object levels alternating, starting with an array:
+         * {@code [{"a":[ "val" ]}]}; like {@link #createDeepNestedDoc(int)}, except
+         * that nesting depth is the given one, where that method nests
+         * {@code 2 * depth + 1} levels
+         */
+        ALTERNATING,
+
+        /**
+         * Root array of small flat objects: nesting never goes past 2, but the
+         * number of containers opened is the same as for the deep shapes.
+         */
+        WIDE
+    }
+
+    /**
+     * Creates a document of given shape with {@code depth} containers: for the deep
+     * shapes that is also the nesting depth; for {@link NestingShape#WIDE} it is the
+     * number of objects within the root array.
+     */
+    public final static String createNestedDoc(final NestingShape shape, final int depth) {
+        StringBuilder sb = new StringBuilder();
+        switch (shape) {
+        case WIDE:
+            sb.append('[');
+            for (int i = 0; i < depth; i++) {
+                if (i > 0) {
+                    sb.append(',');
+                }
+                sb.append("{\"id\":").append(i).append(",\"name\":\"val\",\"flag\":true}");
+            }
+            sb.append(']');
+            return sb.toString();
+        case ARRAYS:
+            for (int i = 0; i < depth; i++) {
+                sb.append('[');
+            }
+            sb.append("\"val\"");
+            for (int i = 0; i < depth; i++) {
+                sb.append(']');
+            }
+            return sb.toString();
+        case OBJECTS:
+            for (int i = 0; i < depth; i++) {
+                sb.append("{\"a\":");
+            }
+            sb.append("\"val\"");
+            for (int i = 0; i < depth; i++) {
+                sb.append('}');
+            }
+            return sb.toString();
+        case ALTERNATING:
+        default:
+            for (int i = 0; i < depth; i++) {
+                sb.append(((i & 1) == 0) ? "[" : "{\"a\":");
+            }
+            sb.append("\"val\"");
+            for (int i = depth - 1; i >= 0; i--) {
+                sb.append(((i & 1) == 0) ? ']' : '}');
+            }
+            return sb.toString();
+        }
+    }
+
     public final static IOContext createContext(ContentReference contentRef, boolean resourceManaged) {
-        return new IOContext(StreamReadConstraints.defaults(), BufferRecyclers.getBufferRecycler(), contentRef, resourceManaged);
+        return createContext(contentRef, resourceManaged, STREAM_READ_CONSTRAINTS);
+    }
+
+    public final static IOContext createContext(ContentReference contentRef, boolean resourceManaged,
+            StreamReadConstraints constraints) {
+        return new IOContext(constraints, BufferRecyclers.getBufferRecycler(), contentRef, resourceManaged);
     }
 
     public final static ContentReference createContentReference(Object contentAccessor) {
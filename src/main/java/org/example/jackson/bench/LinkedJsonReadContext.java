@@ -0,0 +1,181 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.json.DupDetector;
+
+/**
+ * Copy of {@link com.fasterxml.jackson.core.json.JsonReadContext} on top of
+ * {@link ReadContextBase}: one instance per level, linked to its parent, with
+ * the child of each level kept for reuse by the next sibling. Not recycled across
+ * parsers. Default context of {@link V2ParserBase}, and the baseline for
+ * {@link PooledJsonReadContext}.
+ */
+public final class LinkedJsonReadContext extends ReadContextBase
+{
+    private final LinkedJsonReadContext _parent;
+
+    private DupDetector _dups;
+
+    private LinkedJsonReadContext _child;
+
+    private String _currentName;
+
+    private Object _currentValue;
+
+    private int _lineNr;
+
+    private int _columnNr;
+
+    private LinkedJsonReadContext(LinkedJsonReadContext parent, int nestingDepth, DupDetector dups,
+            int type, int lineNr, int colNr) {
+        super(type, -1);
+        _parent = parent;
+        _dups = dups;
+        _nestingDepth = nestingDepth;
+        _lineNr = lineNr;
+        _columnNr = colNr;
+    }
+
+    public static LinkedJsonReadContext createRootContext(DupDetector dups) {
+        return new LinkedJsonReadContext(null, 0, dups, TYPE_ROOT, 1, 0);
+    }
+
+    private void _reset(int type, int lineNr, int colNr) {
+        _type = type;
+        _index = -1;
+        _lineNr = lineNr;
+        _columnNr = colNr;
+        _currentName = null;
+        _currentValue = null;
+        if (_dups != null) {
+            _dups.reset();
+        }
+    }
+
+    @Override
+    public LinkedJsonReadContext withDupDetector(DupDetector dups) {
+        _dups = dups;
+        return this;
+    }
+
+    @Override
+    public LinkedJsonReadContext createChildArrayContext(int lineNr, int colNr) {
+        return _child(TYPE_ARRAY, lineNr, colNr);
+    }
+
+    @Override
+    public LinkedJsonReadContext createChildObjectContext(int lineNr, int colNr) {
+        return _child(TYPE_OBJECT, lineNr, colNr);
+    }
+
+    private LinkedJsonReadContext _child(int type, int lineNr, int colNr) {
+        LinkedJsonReadContext ctxt = _child;
+        if (ctxt == null) {
+            _child = ctxt = new LinkedJsonReadContext(this, _nestingDepth + 1,
+                    (_dups == null) ? null : _dups.child(), type, lineNr, colNr);
+        } else {
+            ctxt._reset(type, lineNr, colNr);
+        }
+        return ctxt;
+    }
+
+    @Override
+    public LinkedJsonReadContext clearAndGetParent() {
+        _currentValue = null;
+        // could also clear the current name, but seems cheap enough to leave?
+        return _parent;
+    }
+
+    @Override
+    public void release() {
+        // nothing shared: instances are simply dropped with the parser
+    }
+
+    @Override
+    public LinkedJsonReadContext rewindToRoot() {
+        // children are kept by their parents for reuse, so rewind instead of recreating
+        LinkedJsonReadContext root = this;
+        while (root._parent != null) {
+            root = root._parent;
+        }
+        root._reset(TYPE_ROOT, 1, 0);
+        return root;
+    }
+
+    /*
+    /**********************************************************
+    /* Abstract method implementations, overrides
+    /**********************************************************
+     */
+
+    @Override
+    public Object getCurrentValue() {
+        return _currentValue;
+    }
+
+    @Override
+    public void setCurrentValue(Object v) {
+        _currentValue = v;
+    }
+
+    @Override
+    public String getCurrentName() {
+        return _currentName;
+    }
+
+    @Override
+    public boolean hasCurrentName() {
+        return _currentName != null;
+    }
+
+    @Override
+    public LinkedJsonReadContext getParent() {
+        return _parent;
+    }
+
+    @Override
+    public JsonLocation startLocation(ContentReference srcRef) {
+        // We don't keep track of offsets at this level (only reader does)
+        long totalChars = -1L;
+        return new JsonLocation(srcRef, totalChars, _lineNr, _columnNr);
+    }
+
+    @Override
+    @Deprecated // since 2.13
+    public JsonLocation getStartLocation(Object rawSrc) {
+        return startLocation(ContentReference.rawReference(rawSrc));
+    }
+
+    /*
+    /**********************************************************
+    /* Extended API
+    /**********************************************************
+     */
+
+    @Override
+    public DupDetector getDupDetector() {
+        return _dups;
+    }
+
+    @Override
+    public void setCurrentName(String name) throws JsonProcessingException {
+        _currentName = name;
+        if (_dups != null) {
+            _checkDup(_dups, name);
+        }
+    }
+
+    @Override
+    public String getParentName() {
+        return (_parent == null) ? null : _parent._currentName;
+    }
+
+    @Override
+    public void setParentName(String name) {
+        if (_parent != null) {
+            _parent._currentName = name;
+        }
+    }
+}
@@ -0,0 +1,397 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorCompletionService;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.Future;
+import java.util.function.Consumer;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+
+/**
+ * Reader for newline-delimited JSON (NDJSON, JSON lines) that parses records in
+ * parallel: content is split into chunks of about {@link #chunkSize()} bytes at
+ * line ends, and chunks are parsed by tasks on a {@link ForkJoinPool}. Each task
+ * borrows a worker: a {@link V1UTF8StreamJsonParser} with its own child symbol
+ * table (of a root table shared by all workers), reused for chunk after chunk
+ * through {@link V1UTF8StreamJsonParser#reset(byte[], int, int)}.
+ *<p>
+ * Each record (root-level value) is passed to a {@link RecordMapper} on a worker
+ * thread; results are passed to a consumer on the calling thread, either in record
+ * order, or chunk by chunk as chunks are done. Only a few chunks per thread of the
+ * pool are in progress at a time, so results of large inputs need not all be
+ * held in memory.
+ *<p>
+ * Since content is split at line ends, records must not span lines (which valid
+ * NDJSON records do not). Locations of parse errors are relative to the start
+ * of the chunk.
+ */
+public final class ParallelNdjsonReader
+{
+    public final static int DEFAULT_CHUNK_SIZE = 256 * 1024;
+
+    /**
+     * Maximum size of file segments mapped at a time by
+     * {@link #read(FileChannel, boolean, RecordMapper, Consumer)}: 1 GB.
+     */
+    public final static int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final static byte[] NO_BYTES = new byte[0];
+
+    /**
+     * Function applied to each record.
+     */
+    public interface RecordMapper<T>
+    {
+        /**
+         * Called with parser positioned at the first token of a record. Mapper may
+         * read the record, but an Array or an Object must be read either up to and
+         * including its end token, or not at all (in which case it is skipped).
+         * Parser must not be used after the call.
+         *
+         * @return Result for record; {@code null} for none (nothing is passed to
+         *    consumer)
+         */
+        T map(JsonParser p) throws IOException;
+    }
+
+    private final ForkJoinPool _pool;
+
+    private final int _parserFeatures;
+
+    private final int _chunkSize;
+
+    private final ByteQuadsCanonicalizer _rootSymbols = ByteQuadsCanonicalizer.createRoot();
+
+    private final ConcurrentLinkedQueue<Worker> _idleWorkers = new ConcurrentLinkedQueue<>();
+
+    public ParallelNdjsonReader(ForkJoinPool pool, int parserFeatures) {
+        this(pool, parserFeatures, DEFAULT_CHUNK_SIZE);
+    }
+
+    /**
+     * @param pool Pool to parse chunks on
+     * @param parserFeatures Parser features, as per {@link JsonFactory#getParserFeatures()}
+     * @param chunkSize Minimum size of chunks (a chunk extends to the end of the
+     *   line it would end within)
+     */
+    public ParallelNdjsonReader(ForkJoinPool pool, int parserFeatures, int chunkSize) {
+        if (chunkSize <= 0) {
+            throw new IllegalArgumentException("Chunk size must be positive, was " + chunkSize);
+        }
+        _pool = pool;
+        _parserFeatures = parserFeatures;
+        _chunkSize = chunkSize;
+    }
+
+    public int chunkSize() {
+        return _chunkSize;
+    }
+
+    /**
+     * Method for reading records of given content, parsed in place.
+     *
+     * @param ordered Whether results are to be passed to consumer in record order;
+     *   if not, results of each chunk are passed (in order) as soon as all are ready
+     *
+     * @return Number of records read
+     */
+    public <T> long read(byte[] data, int offset, int len, boolean ordered,
+            RecordMapper<T> mapper, Consumer<? super T> consumer) throws IOException {
+        return _read(new ArraySplitter(data, offset, offset + len), ordered, mapper, consumer);
+    }
+
+    /**
+     * Method for reading records of given content (from its position to its limit,
+     * neither of which are changed): workers copy chunks to their own buffers.
+     *
+     * @see #read(byte[], int, int, boolean, RecordMapper, Consumer)
+     */
+    public <T> long read(ByteBuffer content, boolean ordered,
+            RecordMapper<T> mapper, Consumer<? super T> consumer) throws IOException {
+        return _read(new BufferSplitter(content), ordered, mapper, consumer);
+    }
+
+    /**
+     * Method for reading records of given file (from its current position on), with
+     * memory mappings of segments of at most {@link #DEFAULT_SEGMENT_SIZE} bytes;
+     * each segment is read as with {@link #read(ByteBuffer, boolean, RecordMapper, Consumer)}.
+     * Channel is not closed.
+     *
+     * @see #read(byte[], int, int, boolean, RecordMapper, Consumer)
+     */
+    public <T> long read(FileChannel channel, boolean ordered,
+            RecordMapper<T> mapper, Consumer<? super T> consumer) throws IOException {
+        return read(channel, DEFAULT_SEGMENT_SIZE, ordered, mapper, consumer);
+    }
+
+    /**
+     * @param segmentSize Maximum size of mapped segments: segments end at the last
+     *   line end within them, so no line may be longer than this
+     *
+     * @see #read(FileChannel, boolean, RecordMapper, Consumer)
+     */
+    public <T> long read(FileChannel channel, int segmentSize, boolean ordered,
+            RecordMapper<T> mapper, Consumer<? super T> consumer) throws IOException {
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive, was " + segmentSize);
+        }
+        final long size = channel.size();
+        long position = channel.position();
+        long count = 0;
+        while (position < size) {
+            final int len = (int) Math.min(segmentSize, size - position);
+            final ByteBuffer segment = channel.map(FileChannel.MapMode.READ_ONLY, position, len);
+            int end = len;
+            if (position + len < size) {
+                while (end > 0 && segment.get(end - 1) != '\n') {
+                    --end;
+                }
+                if (end == 0) {
+                    throw new IOException("No line end within " + len + " bytes from offset " + position);
+                }
+                segment.limit(end);
+            }
+            count += _read(new BufferSplitter(segment), ordered, mapper, consumer);
+            position += end;
+        }
+        return count;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods
+    /**********************************************************
+     */
+
+    private <T> long _read(Splitter splitter, boolean ordered, RecordMapper<T> mapper,
+            Consumer<? super T> consumer) throws IOException {
+        final int maxInFlight = Math.max(2, _pool.getParallelism() * 2);
+        final ArrayDeque<Future<List<T>>> inFlight = new ArrayDeque<>(maxInFlight);
+        final ExecutorCompletionService<List<T>> completed = ordered ? null
+                : new ExecutorCompletionService<>(_pool);
+        long count = 0;
+        try {
+            while (true) {
+                while (inFlight.size() < maxInFlight && splitter.hasNext()) {
+                    final Callable<List<T>> task = splitter.next(this, mapper);
+                    inFlight.add(ordered ? _pool.submit(task) : completed.submit(task));
+                }
+                final Future<List<T>> done;
+                if (ordered) {
+                    done = inFlight.poll();
+                    if (done == null) {
+                        break;
+                    }
+                } else {
+                    if (inFlight.isEmpty()) {
+                        break;
+                    }
+                    done = completed.take();
+                    inFlight.remove(done);
+                }
+                final List<T> results = _results(done);
+                count += results.size();
+                for (T result : results) {
+                    if (result != null) {
+                        consumer.accept(result);
+                    }
+                }
+            }
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new InterruptedIOException("Interrupted while waiting for chunks to be parsed");
+        } finally {
+            for (Future<List<T>> future : inFlight) {
+                future.cancel(false);
+            }
+        }
+        return count;
+    }
+
+    private static <T> List<T> _results(Future<List<T>> future) throws IOException, InterruptedException {
+        try {
+            return future.get();
+        } catch (ExecutionException e) {
+            final Throwable cause = e.getCause();
+            if (cause instanceof UncheckedIOException) {
+                throw ((UncheckedIOException) cause).getCause();
+            }
+            if (cause instanceof RuntimeException) {
+                throw (RuntimeException) cause;
+            }
+            if (cause instanceof Error) {
+                throw (Error) cause;
+            }
+            throw new IOException(cause);
+        }
+    }
+
+    /**
+     * Method called by tasks to parse records of a chunk, with a borrowed worker.
+     */
+    <T> List<T> _parseChunk(byte[] data, int offset, int len, ByteBuffer content,
+            RecordMapper<T> mapper) {
+        Worker worker = _idleWorkers.poll();
+        if (worker == null) {
+            worker = new Worker(this);
+        }
+        try {
+            if (content != null) {
+                data = worker.buffer(len);
+                // (relative get on a view: absolute bulk get needs Java 13)
+                ByteBuffer chunk = content.duplicate();
+                chunk.position(offset);
+                chunk.get(data, 0, len);
+                offset = 0;
+            }
+            final V1UTF8StreamJsonParser p = worker._parser;
+            p.reset(data, offset, len);
+            final List<T> results = new ArrayList<>();
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                results.add(mapper.map(p));
+                if (t.isStructStart() && p.currentToken() == t) {
+                    p.skipChildren();
+                }
+            }
+            return results;
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } finally {
+            _idleWorkers.offer(worker);
+        }
+    }
+
+    /**
+     * Parser (and input buffer, for content copied from a {@link ByteBuffer}) used
+     * by one task at a time.
+     */
+    private final static class Worker
+    {
+        final V1UTF8StreamJsonParser _parser;
+
+        private byte[] _buffer = NO_BYTES;
+
+        Worker(ParallelNdjsonReader reader) {
+            _parser = new V1UTF8StreamJsonParser(createContext(createContentReference(null), true),
+                    reader._parserFeatures, null, null,
+                    reader._rootSymbols.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), NO_BYTES, 0, 0, false);
+        }
+
+        byte[] buffer(int len) {
+            if (_buffer.length < len) {
+                _buffer = new byte[Math.max(len, _buffer.length << 1)];
+            }
+            return _buffer;
+        }
+    }
+
+    /**
+     * Source of chunk parsing tasks, splitting content at line ends.
+     */
+    private abstract static class Splitter
+    {
+        protected int _start;
+
+        protected final int _end;
+
+        protected Splitter(int start, int end) {
+            _start = start;
+            _end = end;
+        }
+
+        boolean hasNext() {
+            return _start < _end;
+        }
+
+        <T> Callable<List<T>> next(ParallelNdjsonReader reader, RecordMapper<T> mapper) {
+            final int start = _start;
+            int end = _end;
+            if (end - start > reader._chunkSize) {
+                end = _lineEnd(start + reader._chunkSize);
+            }
+            _start = end;
+            return _task(reader, start, end - start, mapper);
+        }
+
+        /**
+         * @return Offset after the first line end from given offset on; or end of
+         *    content if there is none
+         */
+        protected abstract int _lineEnd(int ptr);
+
+        protected abstract <T> Callable<List<T>> _task(ParallelNdjsonReader reader, int offset, int len,
+                RecordMapper<T> mapper);
+    }
+
+    private final static class ArraySplitter extends Splitter
+    {
+        private final byte[] _data;
+
+        ArraySplitter(byte[] data, int start, int end) {
+            super(start, end);
+            _data = data;
+        }
+
+        @Override
+        protected int _lineEnd(int ptr) {
+            while (ptr < _end) {
+                if (_data[ptr++] == '\n') {
+                    return ptr;
+                }
+            }
+            return _end;
+        }
+
+        @Override
+        protected <T> Callable<List<T>> _task(ParallelNdjsonReader reader, int offset, int len,
+                RecordMapper<T> mapper) {
+            return () -> reader._parseChunk(_data, offset, len, null, mapper);
+        }
+    }
+
+    private final static class BufferSplitter extends Splitter
+    {
+        private final ByteBuffer _content;
+
+        BufferSplitter(ByteBuffer content) {
+            super(content.position(), content.limit());
+            _content = content;
+        }
+
+        @Override
+        protected int _lineEnd(int ptr) {
+            while (ptr < _end) {
+                if (_content.get(ptr++) == '\n') {
+                    return ptr;
+                }
+            }
+            return _end;
+        }
+
+        @Override
+        protected <T> Callable<List<T>> _task(ParallelNdjsonReader reader, int offset, int len,
+                RecordMapper<T> mapper) {
+            return () -> reader._parseChunk(null, offset, len, _content, mapper);
+        }
+    }
+}
@@ -0,0 +1,224 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.async.ByteArrayFeeder;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.ReaderBasedJsonParser;
+import com.fasterxml.jackson.core.json.UTF8DataInputJsonParser;
+import com.fasterxml.jackson.core.json.UTF8StreamJsonParser;
+import com.fasterxml.jackson.core.json.async.NonBlockingByteBufferJsonParser;
+import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.StringReader;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * All parser implementations compared by the benchmarks: each in-tree variant
+ * along with the stock Jackson parser it was derived from, constructed the same
+ * way the benchmarks construct them.
+ *<p>
+ * Non-blocking variants are fed the whole document (those taking
+ * {@link ByteBuffer}s in a direct buffer), and end-of-input signalled,
+ * before being returned, so they never return
+ * {@link com.fasterxml.jackson.core.JsonToken#NOT_AVAILABLE}.
+ */
+public enum ParserVariant
+{
+    READER(null) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            String str = new String(doc, StandardCharsets.UTF_8);
+            return new ReaderBasedJsonParser(context(str, constraints), FACTORY.getParserFeatures(),
+                    new StringReader(str), null, ROOT_CHAR_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS));
+        }
+    },
+    V1_READER(READER) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            String str = new String(doc, StandardCharsets.UTF_8);
+            return new V1ReaderBasedJsonParser(context(str, constraints), FACTORY.getParserFeatures(),
+                    new StringReader(str), null, ROOT_CHAR_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS));
+        }
+    },
+    V1_READER_LAZY(READER) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            String str = new String(doc, StandardCharsets.UTF_8);
+            V1ReaderBasedJsonParser p = new V1ReaderBasedJsonParser(context(str, constraints),
+                    FACTORY.getParserFeatures(), new StringReader(str), null,
+                    ROOT_CHAR_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS));
+            p.setLazyDecoding(true);
+            return p;
+        }
+    },
+    V2_READER(READER) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            String str = new String(doc, StandardCharsets.UTF_8);
+            return new V2ReaderBasedJsonParser(context(str, constraints), FACTORY.getParserFeatures(),
+                    new StringReader(str), null, ROOT_CHAR_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS));
+        }
+    },
+    /**
+     * Same as {@link #V2_READER} with pooled instead of linked parsing contexts
+     */
+    V2_READER_POOLED(READER) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            String str = new String(doc, StandardCharsets.UTF_8);
+            V2ReaderBasedJsonParser p = new V2ReaderBasedJsonParser(context(str, constraints),
+                    FACTORY.getParserFeatures(), new StringReader(str), null,
+                    ROOT_CHAR_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS));
+            p.setPooledContexts(true);
+            return p;
+        }
+    },
+    UTF8_STREAM(null) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return new UTF8StreamJsonParser(context(doc, constraints), FACTORY.getParserFeatures(),
+                    new ByteArrayInputStream(doc), null,
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false);
+        }
+    },
+    V1_UTF8_STREAM(UTF8_STREAM) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return new V1UTF8StreamJsonParser(context(doc, constraints), FACTORY.getParserFeatures(),
+                    new ByteArrayInputStream(doc), null,
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false);
+        }
+    },
+    V1_UTF8_STREAM_LAZY(UTF8_STREAM) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            V1UTF8StreamJsonParser p = new V1UTF8StreamJsonParser(context(doc, constraints),
+                    FACTORY.getParserFeatures(), new ByteArrayInputStream(doc), null,
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), new byte[1024], 0, 0, false);
+            p.setLazyDecoding(true);
+            return p;
+        }
+    },
+    /**
+     * Not in default variants of parameterized benchmarks, being slower than {@link #V1_UTF8_STREAM}
+     */
+    V1_STRUCTURAL_INDEX(UTF8_STREAM) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return new V1StructuralIndexJsonParser(context(doc, constraints), FACTORY.getParserFeatures(), null,
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), doc, 0, doc.length);
+        }
+    },
+    DATA_INPUT(null) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return new UTF8DataInputJsonParser(context(doc, constraints), FACTORY.getParserFeatures(),
+                    new DataInputStream(new ByteArrayInputStream(doc)), null,
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), 0);
+        }
+    },
+    V1_DATA_INPUT(DATA_INPUT) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return new V1UTF8DataInputJsonParser(context(doc, constraints), FACTORY.getParserFeatures(),
+                    new DataInputStream(new ByteArrayInputStream(doc)), null,
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS), 0);
+        }
+    },
+    ASYNC(null) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return feedAll(new NonBlockingJsonParser(context(doc, constraints), FACTORY.getParserFeatures(),
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS)), doc);
+        }
+    },
+    V1_ASYNC(ASYNC) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return feedAll(new V1NonBlockingJsonParser(context(doc, constraints), FACTORY.getParserFeatures(),
+                    ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS)), doc);
+        }
+    },
+    ASYNC_BYTE_BUFFER(null) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return feedAll(new NonBlockingByteBufferJsonParser(context(doc, constraints),
+                    FACTORY.getParserFeatures(), ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS)),
+                    directBuffer(doc));
+        }
+    },
+    V1_ASYNC_BYTE_BUFFER(ASYNC_BYTE_BUFFER) {
+        @Override
+        public JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException {
+            return feedAll(new V1NonBlockingByteBufferJsonParser(context(doc, constraints),
+                    FACTORY.getParserFeatures(), ROOT_BYTE_SYMBOLS.makeChild(DEFAULT_FACTORY_FEATURE_FLAGS)),
+                    directBuffer(doc));
+        }
+    };
+
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static CharsToNameCanonicalizer ROOT_CHAR_SYMBOLS = CharsToNameCanonicalizer.createRoot();
+    private final static ByteQuadsCanonicalizer ROOT_BYTE_SYMBOLS = ByteQuadsCanonicalizer.createRoot();
+    private final static int DEFAULT_FACTORY_FEATURE_FLAGS = JsonFactory.Feature.collectDefaults();
+
+    private final ParserVariant _stock;
+
+    ParserVariant(ParserVariant stock) {
+        _stock = stock;
+    }
+
+    /**
+     * @return Stock Jackson parser this variant was derived from; {@code null}
+     *    if this is a stock parser itself
+     */
+    public ParserVariant stockCounterpart() {
+        return _stock;
+    }
+
+    public boolean isInTree() {
+        return _stock != null;
+    }
+
+    /**
+     * Factory method for constructing a parser of this variant over given UTF-8 encoded document,
+     * using {@link JsonUtil#STREAM_READ_CONSTRAINTS}.
+     */
+    public JsonParser createParser(byte[] doc) throws IOException {
+        return createParser(doc, JsonUtil.STREAM_READ_CONSTRAINTS);
+    }
+
+    public abstract JsonParser createParser(byte[] doc, StreamReadConstraints constraints) throws IOException;
+
+    private static IOContext context(Object content, StreamReadConstraints constraints) {
+        return JsonUtil.createContext(JsonUtil.createContentReference(content), true, constraints);
+    }
+
+    private static JsonParser feedAll(JsonParser p, byte[] doc) throws IOException {
+        ByteArrayFeeder feeder = (ByteArrayFeeder) p.getNonBlockingInputFeeder();
+        feeder.feedInput(doc, 0, doc.length);
+        feeder.endOfInput();
+        return p;
+    }
+
+    private static JsonParser feedAll(JsonParser p, ByteBuffer doc) throws IOException {
+        ByteBufferFeeder feeder = (ByteBufferFeeder) p.getNonBlockingInputFeeder();
+        feeder.feedInput(doc);
+        feeder.endOfInput();
+        return p;
+    }
+
+    private static ByteBuffer directBuffer(byte[] doc) {
+        ByteBuffer buffer = ByteBuffer.allocateDirect(doc.length);
+        buffer.put(doc).flip();
+        return buffer;
+    }
+}
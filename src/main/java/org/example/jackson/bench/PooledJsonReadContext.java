@@ -0,0 +1,433 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.io.ContentReference;
+import com.fasterxml.jackson.core.json.DupDetector;
+
+import java.lang.ref.SoftReference;
+import java.util.Arrays;
+
+/**
+ * Alternative to {@link com.fasterxml.jackson.core.json.JsonReadContext} that
+ * represents the whole stack of open contexts with a single instance: state
+ * of each level (type, index, current name, current value, start location)
+ * is kept in arrays indexed by nesting depth, and the inherited
+ * {@code _type}/{@code _index}/{@code _nestingDepth} fields always describe the
+ * innermost level. Opening and closing arrays and objects therefore never
+ * allocates, and the arrays (including those of duplicate detectors) are
+ * recycled (per thread) across parser instances. Used by {@link V2ParserBase}
+ * only if enabled with {@link V2ParserBase#setPooledContexts(boolean)}.
+ *<p>
+ * Since the instance is shared by all levels, {@link #getParent()} has to return
+ * a snapshot of the enclosing levels; parsers should use {@link #getParentName()}
+ * and {@link #setParentName(String)} instead on hot paths.
+ *<p>
+ * On {@link #release()} the instance gives its arrays back to the pool and keeps
+ * copies of the levels still open, so it can be accessed after the parser has
+ * been closed (like {@link com.fasterxml.jackson.core.json.JsonReadContext})
+ * without seeing the state of the next parser of the thread.
+ */
+public final class PooledJsonReadContext extends ReadContextBase
+{
+    /**
+     * Arrays are preallocated for up to this many levels, or the maximum
+     * depth if lower; deeper documents grow them (up to maximum depth).
+     */
+    private final static int MAX_PREALLOCATED_DEPTH = NewStreamReadConstraints.DEFAULT_MAX_DEPTH;
+
+    private final static ThreadLocal<SoftReference<Levels>> _recyclerRef
+        = new ThreadLocal<>();
+
+    private final int _maxDepth;
+
+    /**
+     * Pooled arrays this instance uses; {@code null} once released
+     */
+    private Levels _levels;
+
+    private int[] _types;
+
+    /**
+     * Indexes of enclosing levels; index of the current level is in {@link #_index}
+     */
+    private int[] _indexes;
+
+    private int[] _lineNrs;
+
+    private int[] _columnNrs;
+
+    private String[] _names;
+
+    private Object[] _values;
+
+    /**
+     * Duplicate detectors per level; {@code null} unless duplicate detection enabled
+     */
+    private DupDetector[] _dups;
+
+    /**
+     * Offset after the deepest level of {@link #_dups} filled in
+     */
+    private int _dupsEnd;
+
+    private PooledJsonReadContext(int maxDepth, Levels levels) {
+        super(TYPE_ROOT, -1);
+        _maxDepth = maxDepth;
+        _levels = levels;
+        _types = levels.types;
+        _indexes = levels.indexes;
+        _lineNrs = levels.lineNrs;
+        _columnNrs = levels.columnNrs;
+        _names = levels.names;
+        _values = levels.values;
+    }
+
+    /*
+    /**********************************************************
+    /* Life-cycle
+    /**********************************************************
+     */
+
+    /**
+     * Factory method for getting a root context, reusing one released earlier by
+     * the current thread if possible.
+     */
+    public static PooledJsonReadContext acquire(int maxDepth, DupDetector dups) {
+        SoftReference<Levels> ref = _recyclerRef.get();
+        Levels levels = (ref == null) ? null : ref.get();
+        if (levels == null || levels.inUse) {
+            levels = new Levels(Math.min(maxDepth, MAX_PREALLOCATED_DEPTH) + 1);
+            _recyclerRef.set(new SoftReference<>(levels));
+        }
+        levels.inUse = true;
+        PooledJsonReadContext ctxt = new PooledJsonReadContext(maxDepth, levels);
+        ctxt._lineNrs[0] = 1;
+        ctxt._columnNrs[0] = 0;
+        if (dups != null) {
+            ctxt.withDupDetector(dups);
+        }
+        return ctxt;
+    }
+
+    /**
+     * Method called when parser is closed, to make arrays available for
+     * reuse by the next parser constructed by the current thread. Instance
+     * switches to copies of the levels still open, no longer shared.
+     */
+    @Override
+    public void release() {
+        final Levels levels = _levels;
+        if (levels == null) {
+            return;
+        }
+        final int len = _nestingDepth + 1;
+        _types = Arrays.copyOf(_types, len);
+        _indexes = Arrays.copyOf(_indexes, len);
+        _lineNrs = Arrays.copyOf(_lineNrs, len);
+        _columnNrs = Arrays.copyOf(_columnNrs, len);
+        _names = Arrays.copyOf(_names, len);
+        _values = Arrays.copyOf(_values, len);
+        // detectors hold on to the parser, so are not kept with the arrays
+        Arrays.fill(levels.names, 0, len, null);
+        Arrays.fill(levels.values, 0, len, null);
+        if (levels.dups != null) {
+            Arrays.fill(levels.dups, 0, Math.max(_dupsEnd, len), null);
+        }
+        _dups = null;
+        _levels = null;
+        levels.inUse = false;
+    }
+
+    /**
+     * Rewinds to the root level, keeping the pooled arrays (and detectors of
+     * deeper levels) for the next content; not possible once released.
+     */
+    @Override
+    public PooledJsonReadContext rewindToRoot() {
+        if (_levels == null) {
+            return null;
+        }
+        final int len = _nestingDepth + 1;
+        Arrays.fill(_names, 0, len, null);
+        Arrays.fill(_values, 0, len, null);
+        _nestingDepth = 0;
+        _type = TYPE_ROOT;
+        _index = -1;
+        _lineNrs[0] = 1;
+        _columnNrs[0] = 0;
+        if (_dups != null && _dups[0] != null) {
+            _dups[0].reset();
+        }
+        return this;
+    }
+
+    /**
+     * @return Pooled arrays this instance uses; {@code null} once released
+     */
+    Levels levels() {
+        return _levels;
+    }
+
+    @Override
+    public PooledJsonReadContext withDupDetector(DupDetector dups) {
+        if (dups == null) {
+            _dups = null;
+        } else {
+            if (_dups == null) {
+                _dups = _levels.dups();
+            }
+            _dups[_nestingDepth] = dups;
+            _dupsEnd = Math.max(_dupsEnd, _nestingDepth + 1);
+        }
+        return this;
+    }
+
+    @Override
+    public PooledJsonReadContext createChildArrayContext(int lineNr, int colNr) {
+        _push(TYPE_ARRAY, lineNr, colNr);
+        return this;
+    }
+
+    @Override
+    public PooledJsonReadContext createChildObjectContext(int lineNr, int colNr) {
+        _push(TYPE_OBJECT, lineNr, colNr);
+        return this;
+    }
+
+    /**
+     * @return This context, now representing the parent level
+     */
+    @Override
+    public PooledJsonReadContext clearAndGetParent() {
+        int d = _nestingDepth;
+        _names[d] = null;
+        _values[d] = null;
+        _nestingDepth = --d;
+        _type = _types[d];
+        _index = _indexes[d];
+        return this;
+    }
+
+    private void _push(int type, int lineNr, int colNr) {
+        int d = _nestingDepth;
+        _indexes[d] = _index;
+        if (++d == _types.length) {
+            _grow();
+        }
+        _types[d] = type;
+        _lineNrs[d] = lineNr;
+        _columnNrs[d] = colNr;
+        _names[d] = null;
+        _values[d] = null;
+        if (_dups != null) {
+            DupDetector dups = _dups[d];
+            if (dups == null) {
+                DupDetector parentDups = _dups[d - 1];
+                _dups[d] = (parentDups == null) ? null : parentDups.child();
+                if (d >= _dupsEnd) {
+                    _dupsEnd = d + 1;
+                }
+            } else {
+                dups.reset();
+            }
+        }
+        _nestingDepth = d;
+        _type = type;
+        _index = -1;
+    }
+
+    private void _grow() {
+        final Levels levels = _levels;
+        levels.grow((int) Math.min(_types.length * 2L, _maxDepth + 1L));
+        _types = levels.types;
+        _indexes = levels.indexes;
+        _lineNrs = levels.lineNrs;
+        _columnNrs = levels.columnNrs;
+        _names = levels.names;
+        _values = levels.values;
+        if (_dups != null) {
+            _dups = levels.dups;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Abstract method implementations, overrides
+    /**********************************************************
+     */
+
+    @Override
+    public Object getCurrentValue() {
+        return _values[_nestingDepth];
+    }
+
+    @Override
+    public void setCurrentValue(Object v) {
+        _values[_nestingDepth] = v;
+    }
+
+    @Override
+    public String getCurrentName() {
+        return _names[_nestingDepth];
+    }
+
+    @Override
+    public boolean hasCurrentName() {
+        return _names[_nestingDepth] != null;
+    }
+
+    /**
+     * Returns a snapshot of the enclosing levels, or {@code null} for the root level.
+     * Unlike with {@link com.fasterxml.jackson.core.json.JsonReadContext} this
+     * allocates, so it should not be used on hot paths.
+     */
+    @Override
+    public JsonStreamContext getParent() {
+        Snapshot parent = null;
+        for (int d = 0; d < _nestingDepth; ++d) {
+            parent = new Snapshot(parent, d, _types[d], _indexes[d], _names[d], _values[d],
+                    _lineNrs[d], _columnNrs[d]);
+        }
+        return parent;
+    }
+
+    @Override
+    public JsonLocation startLocation(ContentReference srcRef) {
+        // We don't keep track of offsets at this level (only reader does)
+        long totalChars = -1L;
+        return new JsonLocation(srcRef, totalChars,
+                _lineNrs[_nestingDepth], _columnNrs[_nestingDepth]);
+    }
+
+    @Override
+    @Deprecated // since 2.13
+    public JsonLocation getStartLocation(Object rawSrc) {
+        return startLocation(ContentReference.rawReference(rawSrc));
+    }
+
+    /*
+    /**********************************************************
+    /* Extended API
+    /**********************************************************
+     */
+
+    @Override
+    public DupDetector getDupDetector() {
+        return (_dups == null) ? null : _dups[_nestingDepth];
+    }
+
+    @Override
+    public void setCurrentName(String name) throws JsonProcessingException {
+        _names[_nestingDepth] = name;
+        if (_dups != null) {
+            _checkDup(_dups[_nestingDepth], name);
+        }
+    }
+
+    @Override
+    public String getParentName() {
+        return (_nestingDepth == 0) ? null : _names[_nestingDepth - 1];
+    }
+
+    @Override
+    public void setParentName(String name) {
+        if (_nestingDepth > 0) {
+            _names[_nestingDepth - 1] = name;
+        }
+    }
+
+    /**
+     * Arrays for state of all levels, recycled per thread: owned by one context
+     * at a time, until it is released.
+     */
+    final static class Levels
+    {
+        int[] types;
+        int[] indexes;
+        int[] lineNrs;
+        int[] columnNrs;
+        String[] names;
+        Object[] values;
+
+        /**
+         * Allocated the first time duplicate detection is enabled
+         */
+        DupDetector[] dups;
+
+        boolean inUse;
+
+        Levels(int capacity) {
+            types = new int[capacity];
+            indexes = new int[capacity];
+            lineNrs = new int[capacity];
+            columnNrs = new int[capacity];
+            names = new String[capacity];
+            values = new Object[capacity];
+        }
+
+        DupDetector[] dups() {
+            if (dups == null) {
+                dups = new DupDetector[types.length];
+            }
+            return dups;
+        }
+
+        void grow(int len) {
+            types = Arrays.copyOf(types, len);
+            indexes = Arrays.copyOf(indexes, len);
+            lineNrs = Arrays.copyOf(lineNrs, len);
+            columnNrs = Arrays.copyOf(columnNrs, len);
+            names = Arrays.copyOf(names, len);
+            values = Arrays.copyOf(values, len);
+            if (dups != null) {
+                dups = Arrays.copyOf(dups, len);
+            }
+        }
+    }
+
+    /**
+     * Immutable copy of the state of one enclosing level, returned
+     * (with its own ancestors) by {@link #getParent()}.
+     */
+    private final static class Snapshot extends JsonStreamContext
+    {
+        private final Snapshot _parent;
+        private final String _currentName;
+        private final Object _currentValue;
+        private final int _lineNr;
+        private final int _columnNr;
+
+        Snapshot(Snapshot parent, int nestingDepth, int type, int index, String currentName,
+                Object currentValue, int lineNr, int colNr) {
+            super(type, index);
+            _nestingDepth = nestingDepth;
+            _parent = parent;
+            _currentName = currentName;
+            _currentValue = currentValue;
+            _lineNr = lineNr;
+            _columnNr = colNr;
+        }
+
+        @Override
+        public JsonStreamContext getParent() {
+            return _parent;
+        }
+
+        @Override
+        public String getCurrentName() {
+            return _currentName;
+        }
+
+        @Override
+        public Object getCurrentValue() {
+            return _currentValue;
+        }
+
+        @Override
+        public JsonLocation startLocation(ContentReference srcRef) {
+            return new JsonLocation(srcRef, -1L, _lineNr, _columnNr);
+        }
+    }
+}
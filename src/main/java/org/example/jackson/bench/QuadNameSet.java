@@ -0,0 +1,134 @@
+package org.example.jackson.bench;
+
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable set of names that can be matched as quads, as assembled by
+ * {@link V1UTF8StreamJsonParser} from UTF-8 encoded names: 4 bytes per quad
+ * (big-endian), with the last quad padded like {@code ByteQuadsCanonicalizer}
+ * expects. Used by {@link V1UTF8StreamJsonParser#matchCurrentName} to find a name
+ * without decoding it.
+ *<p>
+ * Quads are in an open-addressing hash table: a miss usually costs one hash
+ * calculation and one comparison of quad counts.
+ */
+public final class QuadNameSet
+{
+    private final String[] _names;
+
+    private final Map<String, Integer> _indexes;
+
+    /**
+     * Quads of names, by hash slot; null for empty slots
+     */
+    private final int[][] _quads;
+
+    /**
+     * Index of name (in {@link #_names}) by hash slot
+     */
+    private final int[] _slotIndexes;
+
+    private final int _mask;
+
+    /**
+     * @param names Names in set; duplicates (which would never be matched) are not
+     *   allowed
+     */
+    public QuadNameSet(List<String> names) {
+        _names = names.toArray(new String[0]);
+        _indexes = new HashMap<>();
+        int size = 4;
+        while (size < (_names.length << 1)) {
+            size <<= 1;
+        }
+        _quads = new int[size][];
+        _slotIndexes = new int[size];
+        _mask = size - 1;
+        for (int i = 0; i < _names.length; ++i) {
+            if (_indexes.put(_names[i], i) != null) {
+                throw new IllegalArgumentException("Duplicate name '" + _names[i] + "'");
+            }
+            final int[] quads = quads(_names[i]);
+            int slot = _hash(quads, quads.length) & _mask;
+            while (_quads[slot] != null) {
+                slot = (slot + 1) & _mask;
+            }
+            _quads[slot] = quads;
+            _slotIndexes[slot] = i;
+        }
+    }
+
+    public int size() {
+        return _names.length;
+    }
+
+    public String name(int index) {
+        return _names[index];
+    }
+
+    /**
+     * @return Index of given name; or -1 if not in set
+     */
+    public int find(String name) {
+        if (name == null) {
+            return -1;
+        }
+        final Integer index = _indexes.get(name);
+        return (index == null) ? -1 : index;
+    }
+
+    /**
+     * @param quads Quads of name (only the first {@code qlen} are used)
+     * @param qlen Number of quads; 0 for the empty name
+     *
+     * @return Index of name with given quads; or -1 if not in set
+     */
+    public int find(int[] quads, int qlen) {
+        int slot = _hash(quads, qlen) & _mask;
+        int[] candidate;
+        while ((candidate = _quads[slot]) != null) {
+            if (candidate.length == qlen && _equals(candidate, quads, qlen)) {
+                return _slotIndexes[slot];
+            }
+            slot = (slot + 1) & _mask;
+        }
+        return -1;
+    }
+
+    /**
+     * @return Quads of name as {@link V1UTF8StreamJsonParser} assembles them
+     */
+    static int[] quads(String name) {
+        final byte[] bytes = name.getBytes(StandardCharsets.UTF_8);
+        final int qlen = (bytes.length + 3) >> 2;
+        final int[] quads = new int[qlen];
+        for (int i = 0; i < bytes.length; ++i) {
+            quads[i >> 2] = (quads[i >> 2] << 8) | (bytes[i] & 0xFF);
+        }
+        final int lastBytes = bytes.length - ((qlen - 1) << 2);
+        if (qlen > 0 && lastBytes < 4) {
+            quads[qlen - 1] |= (-1 << (lastBytes << 3));
+        }
+        return quads;
+    }
+
+    private static int _hash(int[] quads, int qlen) {
+        int hash = qlen;
+        for (int i = 0; i < qlen; ++i) {
+            hash = (hash * 31) + quads[i];
+        }
+        return hash ^ (hash >>> 15);
+    }
+
+    private static boolean _equals(int[] candidate, int[] quads, int qlen) {
+        for (int i = 0; i < qlen; ++i) {
+            if (candidate[i] != quads[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
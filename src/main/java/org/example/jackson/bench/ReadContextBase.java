@@ -0,0 +1,95 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.json.DupDetector;
+
+/**
+ * Parsing context API that {@link V2ParserBase} and its sub-classes rely on,
+ * with two implementations: {@link LinkedJsonReadContext}, used by default, which
+ * keeps the linked chain of {@link com.fasterxml.jackson.core.json.JsonReadContext},
+ * and the alternative {@link PooledJsonReadContext}, so the two can be compared
+ * under the same parser (see {@link V2ParserBase#setPooledContexts(boolean)}).
+ *<p>
+ * Mutators return the context representing the new current level, which is
+ * the same instance for the pooled context.
+ */
+public abstract class ReadContextBase extends JsonStreamContext
+{
+    protected ReadContextBase(int type, int index) {
+        super(type, index);
+    }
+
+    public abstract ReadContextBase withDupDetector(DupDetector dups);
+
+    public abstract ReadContextBase createChildArrayContext(int lineNr, int colNr);
+
+    public abstract ReadContextBase createChildObjectContext(int lineNr, int colNr);
+
+    /**
+     * Method that can be used to both clear the accumulated references
+     * (specifically value set with {@link #setCurrentValue(Object)})
+     * that should not be retained, and returns parent (as would
+     * {@link #getParent()} do). Typically called when closing the active
+     * context when encountering {@link com.fasterxml.jackson.core.JsonToken#END_ARRAY} or
+     * {@link com.fasterxml.jackson.core.JsonToken#END_OBJECT}.
+     *
+     * @return Context representing the parent level
+     */
+    public abstract ReadContextBase clearAndGetParent();
+
+    /**
+     * Method called when parser is closed, after which the context
+     * is no longer updated by the parser, but may still be accessed.
+     */
+    public abstract void release();
+
+    /**
+     * Method called when parser is reset, to get back to the root level for new
+     * content, keeping state of the nested levels for reuse.
+     *
+     * @return Root context, rewound; {@code null} if this context was released
+     *    (and a new one is needed)
+     */
+    public abstract ReadContextBase rewindToRoot();
+
+    public abstract DupDetector getDupDetector();
+
+    /**
+     * Method that parser is to call before it is to return a value
+     * or field name token, to find out whether a comma is expected.
+     *
+     * @return {@code True} if a comma is expected at this point
+     */
+    public boolean expectComma() {
+        // Only one thing to do: increment index, see if it's more than zero
+        int ix = ++_index;
+        return (_type != TYPE_ROOT && ix > 0);
+    }
+
+    public abstract void setCurrentName(String name) throws JsonProcessingException;
+
+    /**
+     * Accessor for the current name of the enclosing level: needed by parsers
+     * for {@code START_OBJECT} and {@code START_ARRAY} tokens, the name of which
+     * is held by the parent.
+     *
+     * @return Current name of the parent level, or {@code null} for the root level
+     */
+    public abstract String getParentName();
+
+    /**
+     * Mutator matching {@link #getParentName()}; does not check for duplicates.
+     */
+    public abstract void setParentName(String name);
+
+    protected static void _checkDup(DupDetector dd, String name) throws JsonProcessingException {
+        if (dd != null && dd.isDup(name)) {
+            Object src = dd.getSource();
+            throw new JsonParseException(((src instanceof JsonParser) ? ((JsonParser) src) : null),
+                    "Duplicate field '"+name+"'");
+        }
+    }
+}
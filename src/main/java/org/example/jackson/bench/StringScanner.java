@@ -0,0 +1,138 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.io.CharTypes;
+
+/**
+ * Scanner used by {@link V1UTF8StreamJsonParser} to find the end of a run of plain
+ * ASCII content in UTF-8 encoded String values: that is, the first quote, backslash,
+ * control character or byte of a multi-byte character (exactly the bytes with
+ * non-zero input codes in {@link CharTypes#getInputCodeUtf8()}).
+ *<p>
+ * Three implementations exist: {@link #scalar()}, checking one byte at a time as
+ * stock parsers do; {@link #swar()}, checking 8 bytes at a time read as a {@code long};
+ * and {@link #vector()}, which classifies a whole vector (16, 32 or 64 bytes, whatever
+ * the platform prefers) per step using the {@code jdk.incubator.vector} module. The
+ * last one is only available on Java 17+ (it is in the multi-release layer of the jar)
+ * when that module is added, with {@code --add-modules jdk.incubator.vector}.
+ * Parsers use {@link #defaultScanner()}: the one named by system property
+ * {@value #SCANNER_PROPERTY} ({@code scalar}, {@code swar} or {@code vector}) if set
+ * and available; otherwise the vector scanner if available, the scalar one if not.
+ * (The SWAR scanner is mostly faster at skipping, but not clearly so at copying,
+ * see {@code StringScanBench}.)
+ */
+public abstract class StringScanner
+{
+    public final static String SCANNER_PROPERTY = "org.example.jackson.bench.scanner";
+
+    private final static String VECTOR_SCANNER_CLASS = "org.example.jackson.bench.VectorStringScanner";
+
+    private final static StringScanner SCALAR = new Scalar();
+
+    private final static StringScanner SWAR = new SwarStringScanner();
+
+    private final static StringScanner VECTOR = _loadVectorScanner();
+
+    private final static StringScanner DEFAULT = _defaultScanner(System.getProperty(SCANNER_PROPERTY));
+
+    protected StringScanner() { }
+
+    public static StringScanner scalar() {
+        return SCALAR;
+    }
+
+    public static StringScanner swar() {
+        return SWAR;
+    }
+
+    /**
+     * @return Vector API based scanner; {@code null} if not available
+     */
+    public static StringScanner vector() {
+        return VECTOR;
+    }
+
+    public static StringScanner defaultScanner() {
+        return DEFAULT;
+    }
+
+    /**
+     * @param input Buffer with content to scan
+     * @param ptr Offset of the first byte to scan
+     * @param end Offset after the last byte to scan
+     *
+     * @return Offset of the first byte from {@code ptr} on that is not plain ASCII
+     *   content; {@code end} if there is none before it
+     */
+    public abstract int scan(byte[] input, int ptr, int end);
+
+    /**
+     * Method similar to {@link #scan}, but that also copies plain ASCII content
+     * found, as chars, to {@code output}; caller must ensure there is room for
+     * {@code end - ptr} chars from {@code outPtr} on.
+     *
+     * @return Offset of the first byte from {@code ptr} on that is not plain ASCII
+     *   content; {@code end} if there is none before it
+     */
+    public abstract int scanAndCopy(byte[] input, int ptr, int end, char[] output, int outPtr);
+
+    /**
+     * @param name Name of scanner to use, if any
+     *
+     * @return Scanner with given name, if available; best one available otherwise
+     */
+    private static StringScanner _defaultScanner(String name) {
+        if ("swar".equals(name)) {
+            return SWAR;
+        }
+        if ("scalar".equals(name) || VECTOR == null) {
+            return SCALAR;
+        }
+        return VECTOR;
+    }
+
+    private static StringScanner _loadVectorScanner() {
+        try {
+            return (StringScanner) Class.forName(VECTOR_SCANNER_CLASS).getDeclaredConstructor().newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            // Not on Java 17+, or module not added
+            return null;
+        }
+    }
+
+    /**
+     * Scanner that checks one byte at a time, using the same input code table as
+     * stock parsers; also used by the other scanners for partial vectors and words.
+     */
+    final static class Scalar extends StringScanner
+    {
+        private final static int[] _icUTF8 = CharTypes.getInputCodeUtf8();
+
+        @Override
+        public int scan(byte[] input, int ptr, int end) {
+            final int[] codes = _icUTF8;
+            while (ptr < end && codes[input[ptr] & 0xFF] == 0) {
+                ++ptr;
+            }
+            return ptr;
+        }
+
+        @Override
+        public int scanAndCopy(byte[] input, int ptr, int end, char[] output, int outPtr) {
+            final int[] codes = _icUTF8;
+            while (ptr < end) {
+                int c = input[ptr] & 0xFF;
+                if (codes[c] != 0) {
+                    break;
+                }
+                ++ptr;
+                output[outPtr++] = (char) c;
+            }
+            return ptr;
+        }
+
+        @Override
+        public String toString() {
+            return "scalar";
+        }
+    }
+}
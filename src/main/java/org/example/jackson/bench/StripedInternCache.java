@@ -0,0 +1,177 @@
+package org.example.jackson.bench;
+
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * Bounded first-level cache in front of {@link String#intern()}, like
+ * {@link InternCacheNewLock}, but instead of clearing all entries when full,
+ * evicts one entry at a time using the CLOCK (second chance) algorithm.
+ *<p>
+ * Entries are split over a power-of-two number of stripes by hash code; each
+ * stripe has its own map, clock and lock. Lookups never lock: a hit only
+ * reads the map and sets the entry's reference bit. The lock is only taken
+ * to insert a new entry, and {@link String#intern()} is called before it is
+ * acquired.
+ */
+public final class StripedInternCache
+{
+    /**
+     * Default total capacity: large enough to hold the field names of most
+     * services, but still small compared to the JVM string table.
+     */
+    public final static int DEFAULT_CAPACITY = 4096;
+
+    public final static int DEFAULT_STRIPES = 16;
+
+    public final static StripedInternCache instance = new StripedInternCache();
+
+    private final Stripe[] _stripes;
+
+    private final int _stripeMask;
+
+    public StripedInternCache() { this(DEFAULT_CAPACITY, DEFAULT_STRIPES); }
+
+    public StripedInternCache(int capacity) { this(capacity, DEFAULT_STRIPES); }
+
+    /**
+     * @param capacity Maximum number of entries; actual capacity is rounded up
+     *   to a multiple of the stripe count
+     * @param stripes Number of stripes; rounded up to a power of two, then halved
+     *   until it is at most {@code capacity}
+     */
+    public StripedInternCache(int capacity, int stripes) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Cannot set capacity to less than 1, was " + capacity);
+        }
+        if (stripes < 1) {
+            throw new IllegalArgumentException("Cannot set stripes to less than 1, was " + stripes);
+        }
+        int count = 1;
+        while (count < stripes && count < capacity) {
+            count <<= 1;
+        }
+        while (count > capacity) {
+            count >>= 1;
+        }
+        final int perStripe = (capacity + count - 1) / count;
+        _stripes = new Stripe[count];
+        for (int i = 0; i < count; ++i) {
+            _stripes[i] = new Stripe(perStripe);
+        }
+        _stripeMask = count - 1;
+    }
+
+    public String intern(String input) {
+        return _stripeFor(input).intern(input);
+    }
+
+    /**
+     * Method for checking whether given String is currently cached, without
+     * affecting eviction order.
+     */
+    public boolean contains(String input) {
+        return _stripeFor(input)._map.containsKey(input);
+    }
+
+    public int size() {
+        int size = 0;
+        for (Stripe stripe : _stripes) {
+            size += stripe._map.size();
+        }
+        return size;
+    }
+
+    public int capacity() {
+        return _stripes.length * _stripes[0]._clock.length;
+    }
+
+    int stripes() {
+        return _stripes.length;
+    }
+
+    private Stripe _stripeFor(String input) {
+        // scramble first: ConcurrentHashMap within the stripe indexes by the low bits
+        // of the hash, which would otherwise be the same for all keys of a stripe
+        final int h = input.hashCode() * 0x9E3779B9;
+        return _stripes[(h >>> 16) & _stripeMask];
+    }
+
+    private final static class Entry
+    {
+        final String _value;
+
+        /**
+         * CLOCK reference bit; set on hits, cleared as the clock hand passes.
+         * Racy updates are fine: at worst an entry gets one more or one less chance.
+         */
+        boolean _referenced;
+
+        Entry(String value) {
+            _value = value;
+        }
+    }
+
+    private final static class Stripe
+    {
+        final ConcurrentHashMap<String, Entry> _map;
+
+        /**
+         * Slots in clock order; guarded by {@link #_lock}
+         */
+        final Entry[] _clock;
+
+        private final ReentrantLock _lock = new ReentrantLock();
+
+        private int _count;
+
+        private int _hand;
+
+        Stripe(int capacity) {
+            _map = new ConcurrentHashMap<>(capacity + (capacity >> 1));
+            _clock = new Entry[capacity];
+        }
+
+        String intern(String input) {
+            Entry entry = _map.get(input);
+            if (entry != null) {
+                // avoid dirtying the cache line when bit already set
+                if (!entry._referenced) {
+                    entry._referenced = true;
+                }
+                return entry._value;
+            }
+            final String result = input.intern();
+            _lock.lock();
+            try {
+                // may have been added while we were interning
+                entry = _map.get(result);
+                if (entry != null) {
+                    return entry._value;
+                }
+                entry = new Entry(result);
+                final int slot = (_count < _clock.length) ? _count++ : _evict();
+                _clock[slot] = entry;
+                _map.put(result, entry);
+            } finally {
+                _lock.unlock();
+            }
+            return result;
+        }
+
+        private int _evict() {
+            final Entry[] clock = _clock;
+            while (true) {
+                final int slot = _hand;
+                _hand = (slot + 1 == clock.length) ? 0 : slot + 1;
+                final Entry entry = clock[slot];
+                if (entry._referenced) {
+                    entry._referenced = false;
+                } else {
+                    _map.remove(entry._value);
+                    return slot;
+                }
+            }
+        }
+    }
+}
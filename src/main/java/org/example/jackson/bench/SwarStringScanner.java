@@ -0,0 +1,121 @@
+package org.example.jackson.bench;
+
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.VarHandle;
+import java.nio.ByteOrder;
+
+/**
+ * {@link StringScanner} that reads 8 bytes at a time as a {@code long}
+ * ("SIMD within a register"), finding quotes, backslashes, control characters and
+ * bytes with the high bit set with a few arithmetic and bitwise operations per word
+ * instead of a table lookup per byte. Unlike the vector scanner, needs no
+ * incubator module.
+ *<p>
+ * Also has helpers used by {@link V1UTF8StreamJsonParser} to check and assemble
+ * name quads a word at a time: names keep bytes with the high bit set in quads as
+ * is, so only quotes, backslashes and control characters end plain name content
+ * (exactly the bytes with non-zero input codes in
+ * {@link com.fasterxml.jackson.core.io.CharTypes#getInputCodeLatin1()}).
+ */
+final class SwarStringScanner extends StringScanner
+{
+    // little-endian for scanning: first byte in input is the lowest one, so that
+    // trailing zeros of a mask locate the first match
+    private final static VarHandle LONG_LE = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.LITTLE_ENDIAN);
+
+    // big-endian for names: byte order is the same as that of quads
+    private final static VarHandle LONG_BE = MethodHandles.byteArrayViewVarHandle(long[].class,
+            ByteOrder.BIG_ENDIAN);
+
+    private final static long ONES = 0x0101010101010101L;
+    private final static long HIGH_BITS = 0x8080808080808080L;
+    private final static long SPACES = ONES * ' ';
+    private final static long QUOTES = ONES * '"';
+    private final static long BACKSLASHES = ONES * '\\';
+
+    private final StringScanner _scalar = StringScanner.scalar();
+
+    @Override
+    public int scan(byte[] input, int ptr, int end) {
+        // two words per step, with a single branch for both
+        final int last = end - 16;
+        while (ptr <= last) {
+            final long stops = _stops((long) LONG_LE.get(input, ptr));
+            final long stops2 = _stops((long) LONG_LE.get(input, ptr + 8));
+            if ((stops | stops2) != 0L) {
+                if (stops != 0L) {
+                    return ptr + (Long.numberOfTrailingZeros(stops) >>> 3);
+                }
+                return ptr + 8 + (Long.numberOfTrailingZeros(stops2) >>> 3);
+            }
+            ptr += 16;
+        }
+        return _scalar.scan(input, ptr, end);
+    }
+
+    @Override
+    public int scanAndCopy(byte[] input, int ptr, int end, char[] output, int outPtr) {
+        // find the end first, then copy in a single simple loop the JIT can unroll
+        final int stop = scan(input, ptr, end);
+        for (int i = ptr; i < stop; ++i) {
+            // all ASCII, no sign extension
+            output[outPtr++] = (char) input[i];
+        }
+        return stop;
+    }
+
+    /**
+     * Bytes that end plain ASCII content have their high bit set in the result.
+     * Each test may also flag bytes above (in the little-endian word: after) an
+     * actual match because of borrows, but never below, so the lowest flagged byte
+     * is exact.
+     */
+    private static long _stops(long word) {
+        return (word | _below(word, SPACES) | _zeros(word ^ QUOTES) | _zeros(word ^ BACKSLASHES))
+                & HIGH_BITS;
+    }
+
+    /**
+     * @return Word with high bits set for (at least) bytes that are zero
+     */
+    private static long _zeros(long word) {
+        return (word - ONES) & ~word;
+    }
+
+    /**
+     * @return Word with high bits set for (at least) bytes below those of
+     *   {@code limits}, for bytes that do not have the high bit set themselves
+     */
+    private static long _below(long word, long limits) {
+        return (word - limits) & ~word;
+    }
+
+    /*
+    /**********************************************************
+    /* Helpers for names
+    /**********************************************************
+     */
+
+    /**
+     * @return 8 bytes from {@code ptr} on, first one in the highest bits
+     */
+    static long readBigEndian(byte[] input, int ptr) {
+        return (long) LONG_BE.get(input, ptr);
+    }
+
+    /**
+     * @param word 8 bytes of a name, as returned by {@link #readBigEndian}
+     *
+     * @return Whether any of the bytes is a quote, backslash or control character
+     */
+    static boolean hasNameStop(long word) {
+        return ((_below(word, SPACES) | _zeros(word ^ QUOTES) | _zeros(word ^ BACKSLASHES))
+                & HIGH_BITS) != 0L;
+    }
+
+    @Override
+    public String toString() {
+        return "swar";
+    }
+}
@@ -0,0 +1,190 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.JsonTokenId;
+
+import java.io.IOException;
+
+/**
+ * Token batch reading shared by {@link V1UTF8StreamJsonParser#nextTokens} and
+ * {@link V1ReaderBasedJsonParser#nextTokens}: the loop and bookkeeping of ids,
+ * offsets and lengths are here, and each parser provides the steps over its own
+ * input with a (lazily created) sub-class. Offsets and lengths are in bytes or
+ * chars, whichever the parser reads.
+ *<p>
+ * Names are only located by parsers when possible (as with on-demand decoding),
+ * so they are not decoded unless accessed; except for names of Arrays and Objects,
+ * which child contexts need.
+ */
+abstract class TokenBatchReader
+{
+    /**
+     * @see V1UTF8StreamJsonParser#nextTokens
+     */
+    public final int nextTokens(int[] tokenIds, int[] offsets, int[] lengths, int max) throws IOException
+    {
+        if (max < 2) {
+            throw new IllegalArgumentException("Batch must have room for at least 2 tokens, was "+max);
+        }
+        if (max > tokenIds.length || max > offsets.length || max > lengths.length) {
+            throw new IllegalArgumentException(String.format(
+                    "Batch of %d tokens does not fit arrays of lengths %d, %d and %d",
+                    max, tokenIds.length, offsets.length, lengths.length));
+        }
+        int count = 0;
+        if (nameRead()) { // value was parsed along with name
+            count = _value(valueAfterName(), tokenIds, offsets, lengths, count);
+        } else {
+            skipIncompleteString();
+        }
+        while (count < max) {
+            if (count == max-1 && inObject()) { // no room for name and value
+                break;
+            }
+            if (skipIncompleteString()) { // String value read last: skip, to know its length
+                lengths[count-1] = (int) inputOffset() - offsets[count-1];
+            }
+            int i = skipWSOrEnd();
+            if (i < 0) { // end-of-input
+                break;
+            }
+            if (i == ']' || i == '}') {
+                count = _end(closeScope(i), tokenIds, offsets, lengths, count);
+                continue;
+            }
+            if (expectComma()) {
+                i = skipComma(i);
+                if (allowTrailingComma() && (i == ']' || i == '}')) {
+                    count = _end(closeScope(i), tokenIds, offsets, lengths, count);
+                    continue;
+                }
+            }
+            if (inObject()) {
+                final long nameStart = inputOffset() - 1;
+                name(i);
+                tokenIds[count] = JsonTokenId.ID_FIELD_NAME;
+                offsets[count] = (int) nameStart;
+                lengths[count] = (int) (inputOffset() - nameStart);
+                ++count;
+                i = skipColon();
+            }
+            count = _value(value(i), tokenIds, offsets, lengths, count);
+        }
+        if (finishIncompleteString()) { // String value read last: decode, for accessors
+            lengths[count-1] = (int) inputOffset() - offsets[count-1];
+        }
+        return count;
+    }
+
+    private int _value(JsonToken t, int[] tokenIds, int[] offsets, int[] lengths, int ix)
+    {
+        final int start = (int) tokenStart();
+        tokenIds[ix] = t.id();
+        offsets[ix] = start;
+        switch (t.id()) {
+        case JsonTokenId.ID_STRING: // length known once String has been skipped
+            break;
+        case JsonTokenId.ID_NUMBER_INT:
+        case JsonTokenId.ID_NUMBER_FLOAT:
+            lengths[ix] = numberLength();
+            break;
+        case JsonTokenId.ID_START_ARRAY:
+        case JsonTokenId.ID_START_OBJECT:
+            lengths[ix] = 1;
+            break;
+        default: // true, false, null
+            lengths[ix] = (int) inputOffset() - start;
+        }
+        return ix + 1;
+    }
+
+    private int _end(JsonToken t, int[] tokenIds, int[] offsets, int[] lengths, int ix)
+    {
+        tokenIds[ix] = t.id();
+        offsets[ix] = (int) tokenStart();
+        lengths[ix] = 1;
+        return ix + 1;
+    }
+
+    /*
+    /**********************************************************
+    /* Steps provided by parsers
+    /**********************************************************
+     */
+
+    /**
+     * @return Whether current token is a name, the value of which has been read
+     */
+    protected abstract boolean nameRead();
+
+    /**
+     * @return Value token read along with the current name
+     */
+    protected abstract JsonToken valueAfterName() throws IOException;
+
+    /**
+     * @return Whether current token is a String value not read yet, now skipped
+     */
+    protected abstract boolean skipIncompleteString() throws IOException;
+
+    /**
+     * @return Whether current token is a String value not read yet, now decoded
+     */
+    protected abstract boolean finishIncompleteString() throws IOException;
+
+    protected abstract boolean inObject();
+
+    /**
+     * Method for skipping white space before the next token, resetting state of
+     * the current token.
+     *
+     * @return First character after white space; -1 at end of content (parser is
+     *    then closed)
+     */
+    protected abstract int skipWSOrEnd() throws IOException;
+
+    protected abstract boolean expectComma();
+
+    /**
+     * @param i Character expected to be a comma
+     *
+     * @return First character after comma and white space
+     */
+    protected abstract int skipComma(int i) throws IOException;
+
+    protected abstract boolean allowTrailingComma();
+
+    protected abstract JsonToken closeScope(int i) throws IOException;
+
+    /**
+     * Method for reading a name (locating it only, if possible), up to the closing quote
+     *
+     * @param i First character of name
+     */
+    protected abstract void name(int i) throws IOException;
+
+    /**
+     * @return First character of value after the colon following a name
+     */
+    protected abstract int skipColon() throws IOException;
+
+    /**
+     * @param i First character of value
+     */
+    protected abstract JsonToken value(int i) throws IOException;
+
+    /**
+     * @return Offset of the current position in content
+     */
+    protected abstract long inputOffset();
+
+    /**
+     * @return Offset of the first character of current token in content
+     */
+    protected abstract long tokenStart();
+
+    /**
+     * @return Length of the number just read, as in content
+     */
+    protected abstract int numberLength();
+}
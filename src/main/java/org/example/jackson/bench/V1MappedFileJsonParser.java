@@ -0,0 +1,160 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+
+/**
+ * Blocking parser implementation for UTF-8 encoded JSON content of a file, read
+ * directly from memory mappings of the file: no content is copied to an input
+ * buffer, and no read calls are made.
+ *<p>
+ * A single {@link java.nio.MappedByteBuffer} can not be larger than 2 GB, so the
+ * file is mapped in consecutive segments, each one mapped when the previous one
+ * has been consumed; decoding of tokens split between segments is handled just
+ * like that of tokens split between chunks of non-blocking input. Mappings of
+ * consumed segments are released by the garbage collector.
+ */
+public class V1MappedFileJsonParser
+    extends V1NonBlockingUtf8JsonParserBase
+{
+    /**
+     * Default size of mapped segments: 1 GB.
+     */
+    public final static int DEFAULT_SEGMENT_SIZE = 1 << 30;
+
+    private final static ByteBuffer NO_BUFFER = ByteBuffer.allocate(0);
+
+    private FileChannel _channel;
+
+    private final long _fileSize;
+
+    private final int _segmentSize;
+
+    /**
+     * Offset in file after the last segment mapped so far
+     */
+    private long _mappedEnd;
+
+    private ByteBuffer _inputBuffer = NO_BUFFER;
+
+    public V1MappedFileJsonParser(IOContext ctxt, int parserFeatures, ByteQuadsCanonicalizer sym,
+                                  FileChannel channel) throws IOException {
+        this(ctxt, parserFeatures, sym, channel, DEFAULT_SEGMENT_SIZE);
+    }
+
+    /**
+     * @param channel Channel of file to parse, from its current position on
+     * @param segmentSize Maximum size of segments of the file to map at a time
+     */
+    public V1MappedFileJsonParser(IOContext ctxt, int parserFeatures, ByteQuadsCanonicalizer sym,
+                                  FileChannel channel, int segmentSize) throws IOException {
+        super(ctxt, parserFeatures, sym);
+        if (segmentSize <= 0) {
+            throw new IllegalArgumentException("Segment size must be positive, was " + segmentSize);
+        }
+        _channel = channel;
+        _fileSize = channel.size();
+        _segmentSize = segmentSize;
+        _mappedEnd = channel.position();
+    }
+
+    /*
+    /**********************************************************************
+    /* Overrides
+    /**********************************************************************
+     */
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken t;
+        while ((t = super.nextToken()) == JsonToken.NOT_AVAILABLE) {
+            _mapNextSegment();
+        }
+        return t;
+    }
+
+    @Override
+    public int releaseBuffered(final OutputStream out) throws IOException {
+        final int avail = _inputEnd - _inputPtr;
+        if (avail > 0) {
+            ByteBuffer remaining = _inputBuffer.duplicate();
+            remaining.limit(_inputEnd).position(_inputPtr);
+            Channels.newChannel(out).write(remaining);
+        }
+        return avail;
+    }
+
+    @Override
+    public Object getInputSource() {
+        return _channel;
+    }
+
+    @Override
+    protected void _closeInput() throws IOException {
+        super._closeInput();
+        // We are not to call close() on the underlying channel
+        // unless we "own" it, or auto-closing feature is enabled.
+        if (_channel != null) {
+            if (_ioContext.isResourceManaged() || isEnabled(Feature.AUTO_CLOSE_SOURCE)) {
+                _channel.close();
+            }
+            _channel = null;
+        }
+        _inputBuffer = NO_BUFFER;
+    }
+
+    @Override
+    protected byte getNextSignedByteFromBuffer() {
+        return _inputBuffer.get(_inputPtr++);
+    }
+
+    @Override
+    protected int getNextUnsignedByteFromBuffer() {
+        return _inputBuffer.get(_inputPtr++) & 0xFF;
+    }
+
+    @Override
+    protected byte getByteFromBuffer(final int ptr) {
+        return _inputBuffer.get(ptr);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    /**
+     * Method called when all mapped content has been consumed: maps the next segment,
+     * or signals end of input if there is none.
+     */
+    private void _mapNextSegment() throws IOException {
+        if (_channel == null || _mappedEnd >= _fileSize) {
+            endOfInput();
+            return;
+        }
+        final int len = (int) Math.min(_segmentSize, _fileSize - _mappedEnd);
+        final ByteBuffer buf = _channel.map(FileChannel.MapMode.READ_ONLY, _mappedEnd, len);
+        _mappedEnd += len;
+
+        // As with fed input: update pointers first
+        _currInputProcessed += _origBufferLen;
+
+        // Also need to adjust row start, to work as if it extended into the past wrt new buffer
+        _currInputRowStart = -(_inputEnd - _currInputRowStart);
+
+        // And then update buffer settings
+        _currBufferStart = 0;
+        _inputBuffer = buf;
+        _inputPtr = 0;
+        _inputEnd = len;
+        _origBufferLen = len;
+    }
+}
@@ -0,0 +1,203 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.async.ByteBufferFeeder;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.util.ArrayDeque;
+
+/**
+ * Non-blocking parser implementation for JSON content that takes its input
+ * via {@link ByteBuffer}s passed, heap or direct, reading content straight
+ * from them: content does not need to be copied to a {@code byte[]} first.
+ *<p>
+ * Content between the position and the limit of a buffer is parsed; the position
+ * is not changed, and the buffer must not be modified until all of its content
+ * has been parsed.
+ *<p>
+ * Unlike with other non-blocking parsers, more input may be fed before earlier input
+ * has been consumed: buffers are queued, and parsing moves on to the next one when
+ * one has been consumed, also in the middle of a token. So content gathered from
+ * several reads (or the components of a composite buffer) can be handed over at
+ * once, with {@link #feedInput(ByteBuffer...)}, without copying it to one buffer.
+ *<p>
+ * NOTE: only supports parsing of UTF-8 encoded content (and 7-bit US-ASCII since
+ * it is strict subset of UTF-8): other encodings are not supported.
+ */
+public class V1NonBlockingByteBufferJsonParser
+    extends V1NonBlockingUtf8JsonParserBase
+    implements ByteBufferFeeder
+{
+    private ByteBuffer _inputBuffer = ByteBuffer.wrap(NO_BYTES);
+
+    /**
+     * Buffers fed while earlier input had not yet been consumed, in order
+     */
+    private final ArrayDeque<ByteBuffer> _pendingBuffers = new ArrayDeque<>();
+
+    /**
+     * Flag set if {@link #endOfInput()} was called while there were pending buffers:
+     * end of input is only signalled once the last one has been taken into use.
+     */
+    private boolean _endOfInputPending;
+
+    /**
+     * Scanner used for finding ends of plain ASCII content in String values,
+     * when input is in heap buffers.
+     */
+    protected StringScanner _stringScanner = StringScanner.defaultScanner();
+
+    public V1NonBlockingByteBufferJsonParser(IOContext ctxt, int parserFeatures,
+                                             ByteQuadsCanonicalizer sym) {
+        super(ctxt, parserFeatures, sym);
+    }
+
+    /**
+     * Method for changing scanner used for String values from
+     * {@link StringScanner#defaultScanner()}, to compare implementations.
+     *
+     * @param scanner Scanner to use
+     */
+    public void setStringScanner(StringScanner scanner) {
+        _stringScanner = scanner;
+    }
+
+    @Override
+    public ByteBufferFeeder getNonBlockingInputFeeder() {
+        return this;
+    }
+
+    @Override
+    public void feedInput(final ByteBuffer byteBuffer) throws IOException {
+        final int start = byteBuffer.position();
+        final int end = byteBuffer.limit();
+        if (end < start) {
+            _reportError("Input end (%d) may not be before start (%d)", end, start);
+        }
+        // shouldn't have been marked as end-of-input
+        if (_endOfInput || _endOfInputPending) {
+            _reportError("Already closed, can not feed more input");
+        }
+        // Queue if there is still input to decode: will be taken into use once it's done
+        if (_inputPtr < _inputEnd || !_pendingBuffers.isEmpty()) {
+            _pendingBuffers.add(byteBuffer);
+        } else {
+            _setInput(byteBuffer);
+        }
+    }
+
+    /**
+     * Method for feeding several buffers at once, like components of a composite
+     * buffer: equivalent to feeding them one after another. Tokens may be split
+     * between buffers.
+     *
+     * @param byteBuffers Buffers to parse content of, in order
+     */
+    public void feedInput(final ByteBuffer... byteBuffers) throws IOException {
+        for (ByteBuffer byteBuffer : byteBuffers) {
+            feedInput(byteBuffer);
+        }
+    }
+
+    @Override
+    public void endOfInput() {
+        if (_pendingBuffers.isEmpty()) {
+            super.endOfInput();
+        } else {
+            _endOfInputPending = true;
+        }
+    }
+
+    @Override
+    public JsonToken nextToken() throws IOException {
+        JsonToken t;
+        while ((t = super.nextToken()) == JsonToken.NOT_AVAILABLE && !_pendingBuffers.isEmpty()) {
+            _setInput(_pendingBuffers.poll());
+            if (_endOfInputPending && _pendingBuffers.isEmpty()) {
+                _endOfInputPending = false;
+                super.endOfInput();
+            }
+        }
+        return t;
+    }
+
+    @Override
+    public int releaseBuffered(final OutputStream out) throws IOException {
+        int avail = _inputEnd - _inputPtr;
+        if (avail == 0 && _pendingBuffers.isEmpty()) {
+            return 0;
+        }
+        final WritableByteChannel channel = Channels.newChannel(out);
+        if (avail > 0) {
+            ByteBuffer remaining = _inputBuffer.duplicate();
+            remaining.limit(_inputEnd).position(_inputPtr);
+            channel.write(remaining);
+        }
+        for (ByteBuffer pending : _pendingBuffers) {
+            avail += channel.write(pending.duplicate());
+        }
+        return avail;
+    }
+
+    @Override
+    protected void _closeInput() throws IOException {
+        super._closeInput();
+        _pendingBuffers.clear();
+    }
+
+    @Override
+    protected byte getNextSignedByteFromBuffer() {
+        return _inputBuffer.get(_inputPtr++);
+    }
+
+    @Override
+    protected int getNextUnsignedByteFromBuffer() {
+        return _inputBuffer.get(_inputPtr++) & 0xFF;
+    }
+
+    @Override
+    protected byte getByteFromBuffer(final int ptr) {
+        return _inputBuffer.get(ptr);
+    }
+
+    @Override
+    protected int _copyAsciiFromBuffer(int ptr, final int end, final char[] outBuf, int outPtr) {
+        // heap buffers can be scanned like byte arrays; direct ones a byte at a time
+        if (_inputBuffer.hasArray()) {
+            final int offset = _inputBuffer.arrayOffset();
+            return _stringScanner.scanAndCopy(_inputBuffer.array(), offset + ptr, offset + end,
+                    outBuf, outPtr) - offset;
+        }
+        return super._copyAsciiFromBuffer(ptr, end, outBuf, outPtr);
+    }
+
+    /*
+    /**********************************************************************
+    /* Internal methods
+    /**********************************************************************
+     */
+
+    private void _setInput(final ByteBuffer byteBuffer) {
+        final int start = byteBuffer.position();
+        final int end = byteBuffer.limit();
+
+        // Time to update pointers first
+        _currInputProcessed += _origBufferLen;
+
+        // Also need to adjust row start, to work as if it extended into the past wrt new buffer
+        _currInputRowStart = start - (_inputEnd - _currInputRowStart);
+
+        // And then update buffer settings
+        _currBufferStart = start;
+        _inputBuffer = byteBuffer;
+        _inputPtr = start;
+        _inputEnd = end;
+        _origBufferLen = end - start;
+    }
+}
@@ -22,11 +22,26 @@ public class V1NonBlockingJsonParser
 {
     private byte[] _inputBuffer = NO_BYTES;
 
+    /**
+     * Scanner used for finding ends of plain ASCII content in String values.
+     */
+    protected StringScanner _stringScanner = StringScanner.defaultScanner();
+
     public V1NonBlockingJsonParser(IOContext ctxt, int parserFeatures,
                                    ByteQuadsCanonicalizer sym) {
         super(ctxt, parserFeatures, sym);
     }
 
+    /**
+     * Method for changing scanner used for String values from
+     * {@link StringScanner#defaultScanner()}, to compare implementations.
+     *
+     * @param scanner Scanner to use
+     */
+    public void setStringScanner(StringScanner scanner) {
+        _stringScanner = scanner;
+    }
+
     @Override
     public ByteArrayFeeder getNonBlockingInputFeeder() {
         return this;
@@ -82,4 +97,9 @@ public class V1NonBlockingJsonParser
     protected byte getByteFromBuffer(final int ptr) {
         return _inputBuffer[ptr];
     }
+
+    @Override
+    protected int _copyAsciiFromBuffer(int ptr, final int end, final char[] outBuf, int outPtr) {
+        return _stringScanner.scanAndCopy(_inputBuffer, ptr, end, outBuf, outPtr);
+    }
 }
@@ -8,7 +8,6 @@ import com.fasterxml.jackson.core.ObjectCodec;
 import com.fasterxml.jackson.core.StreamReadCapability;
 import com.fasterxml.jackson.core.exc.StreamConstraintsException;
 import com.fasterxml.jackson.core.io.IOContext;
-import com.fasterxml.jackson.core.json.JsonReadContext;
 import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.core.util.JacksonFeatureSet;
@@ -25,7 +24,7 @@ import static com.fasterxml.jackson.core.JsonTokenId.*;
  * @since 2.9
  */
 public abstract class V1NonBlockingJsonParserBase
-    extends V1ParserBase
+    extends V2ParserBase
 {
     /*
     /**********************************************************************
@@ -603,7 +602,7 @@ public abstract class V1NonBlockingJsonParserBase
             _reportMismatchedEndMarker(']', '}');
         }
         popParsingContext();
-        final JsonReadContext ctxt = _parsingContext;
+        final ReadContextBase ctxt = _parsingContext;
         int st;
         if (ctxt.inObject()) {
             st = MAJOR_OBJECT_FIELD_NEXT;
@@ -623,7 +622,7 @@ public abstract class V1NonBlockingJsonParserBase
             _reportMismatchedEndMarker('}', ']');
         }
         popParsingContext();
-        final JsonReadContext ctxt = _parsingContext;
+        final ReadContextBase ctxt = _parsingContext;
         int st;
         if (ctxt.inObject()) {
             st = MAJOR_OBJECT_FIELD_NEXT;
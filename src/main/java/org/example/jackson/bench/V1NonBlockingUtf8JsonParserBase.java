@@ -188,6 +188,33 @@ public abstract class V1NonBlockingUtf8JsonParserBase
      */
     protected abstract byte getByteFromBuffer(final int ptr);
 
+    /**
+     * Method for copying plain ASCII content of a String value (anything but quotes,
+     * backslashes, control characters and bytes of multi-byte characters) from the
+     * buffer, as chars; sub-classes with direct access to the buffer can override it
+     * to check more than one byte at a time.
+     *
+     * @param ptr pointer to the first byte to copy
+     * @param end pointer after the last byte to copy
+     * @param outBuf buffer to copy chars to; caller ensures there is room for
+     *    {@code end - ptr} chars
+     * @param outPtr pointer in {@code outBuf} to copy first char to
+     * @return pointer to the first byte that is not plain ASCII content; {@code end}
+     *    if there is none before it
+     */
+    protected int _copyAsciiFromBuffer(int ptr, final int end, final char[] outBuf, int outPtr) {
+        final int[] codes = _icUTF8;
+        while (ptr < end) {
+            int c = getByteFromBuffer(ptr) & 0xFF;
+            if (codes[c] != 0) {
+                break;
+            }
+            ++ptr;
+            outBuf[outPtr++] = (char) c;
+        }
+        return ptr;
+    }
+
     /**
      * Method called when decoding of a token has been started, but not yet completed due
      * to missing input; method is to continue decoding due to at least one more byte
@@ -1294,6 +1321,8 @@ public abstract class V1NonBlockingUtf8JsonParserBase
         }
 
         int outPtr = 1;
+        // value accumulated as we go; overflows past 18 digits, but is then not used
+        long value = ch - INT_0;
 
         ch = getByteFromBuffer(_inputPtr) & 0xFF;
         while (true) {
@@ -1319,6 +1348,7 @@ public abstract class V1NonBlockingUtf8JsonParserBase
                 outBuf = _textBuffer.expandCurrentSegment();
             }
             outBuf[outPtr++] = (char) ch;
+            value = (value * 10) + (ch - INT_0);
             if (++_inputPtr >= _inputEnd) {
                 _minorState = MINOR_NUMBER_INTEGER_DIGITS;
                 _textBuffer.setCurrentLength(outPtr);
@@ -1328,6 +1358,9 @@ public abstract class V1NonBlockingUtf8JsonParserBase
         }
         _intLength = outPtr;
         _textBuffer.setCurrentLength(outPtr);
+        if (outPtr <= 18) {
+            _setIntegralValue(false, outPtr, value);
+        }
         return _valueComplete(JsonToken.VALUE_NUMBER_INT);
     }
 
@@ -1362,6 +1395,7 @@ public abstract class V1NonBlockingUtf8JsonParserBase
         }
         ch = getByteFromBuffer(_inputPtr);
         int outPtr = 2;
+        long value = outBuf[1] - INT_0;
 
         while (true) {
             if (ch < INT_0) {
@@ -1385,6 +1419,7 @@ public abstract class V1NonBlockingUtf8JsonParserBase
                 outBuf = _textBuffer.expandCurrentSegment();
             }
             outBuf[outPtr++] = (char) ch;
+            value = (value * 10) + (ch - INT_0);
             if (++_inputPtr >= _inputEnd) {
                 _minorState = MINOR_NUMBER_INTEGER_DIGITS;
                 _textBuffer.setCurrentLength(outPtr);
@@ -1394,6 +1429,9 @@ public abstract class V1NonBlockingUtf8JsonParserBase
         }
         _intLength = outPtr-1;
         _textBuffer.setCurrentLength(outPtr);
+        if (_intLength <= 18) {
+            _setIntegralValue(_numberNegative, _intLength, value);
+        }
         return _valueComplete(JsonToken.VALUE_NUMBER_INT);
     }
 
@@ -1434,6 +1472,7 @@ public abstract class V1NonBlockingUtf8JsonParserBase
         }
         ch = getByteFromBuffer(_inputPtr);
         int outPtr = 2;
+        long value = outBuf[1] - INT_0;
 
         while (true) {
             if (ch < INT_0) {
@@ -1457,6 +1496,7 @@ public abstract class V1NonBlockingUtf8JsonParserBase
                 outBuf = _textBuffer.expandCurrentSegment();
             }
             outBuf[outPtr++] = (char) ch;
+            value = (value * 10) + (ch - INT_0);
             if (++_inputPtr >= _inputEnd) {
                 _minorState = MINOR_NUMBER_INTEGER_DIGITS;
                 _textBuffer.setCurrentLength(outPtr);
@@ -1466,6 +1506,9 @@ public abstract class V1NonBlockingUtf8JsonParserBase
         }
         _intLength = outPtr-1;
         _textBuffer.setCurrentLength(outPtr);
+        if (_intLength <= 18) {
+            _setIntegralValue(_numberNegative, _intLength, value);
+        }
         return _valueComplete(JsonToken.VALUE_NUMBER_INT);
     }
 
@@ -1686,6 +1729,12 @@ public abstract class V1NonBlockingUtf8JsonParserBase
 
     protected JsonToken _finishNumberIntegralPart(char[] outBuf, int outPtr) throws IOException {
         int negMod = _numberNegative ? -1 : 0;
+        // value of digits so far (after sign), accumulated as we go; only needed
+        // up to 18 digits, overflows past that
+        long value = 0L;
+        for (int i = (outBuf[0] == '-' || outBuf[0] == '+') ? 1 : 0, end = Math.min(outPtr, 20); i < end; ++i) {
+            value = (value * 10) + (outBuf[i] - INT_0);
+        }
 
         while (true) {
             if (_inputPtr >= _inputEnd) {
@@ -1717,9 +1766,13 @@ public abstract class V1NonBlockingUtf8JsonParserBase
                 outBuf = _textBuffer.expandCurrentSegment();
             }
             outBuf[outPtr++] = (char) ch;
+            value = (value * 10) + (ch - INT_0);
         }
         _intLength = outPtr+negMod;
         _textBuffer.setCurrentLength(outPtr);
+        if (_intLength <= 18) {
+            _setIntegralValue(_numberNegative, _intLength, value);
+        }
         return _valueComplete(JsonToken.VALUE_NUMBER_INT);
     }
 
@@ -2503,24 +2556,15 @@ public abstract class V1NonBlockingUtf8JsonParserBase
 
     protected JsonToken _startString() throws IOException
     {
-        int ptr = _inputPtr;
-        int outPtr = 0;
         char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
-        final int[] codes = _icUTF8;
 
-        final int max = Math.min(_inputEnd, (ptr + outBuf.length));
-        while (ptr < max) {
-            int c = getByteFromBuffer(ptr) & 0xFF;
-            if (codes[c] != 0) {
-                if (c == INT_QUOTE) {
-                    _inputPtr = ptr+1;
-                    _textBuffer.setCurrentLength(outPtr);
-                    return _valueComplete(JsonToken.VALUE_STRING);
-                }
-                break;
-            }
-            ++ptr;
-            outBuf[outPtr++] = (char) c;
+        final int max = Math.min(_inputEnd, (_inputPtr + outBuf.length));
+        final int ptr = _copyAsciiFromBuffer(_inputPtr, max, outBuf, 0);
+        final int outPtr = ptr - _inputPtr;
+        if (ptr < max && getByteFromBuffer(ptr) == INT_QUOTE) {
+            _inputPtr = ptr+1;
+            _textBuffer.setCurrentLength(outPtr);
+            return _valueComplete(JsonToken.VALUE_STRING);
         }
         _textBuffer.setCurrentLength(outPtr);
         _inputPtr = ptr;
@@ -2555,12 +2599,12 @@ public abstract class V1NonBlockingUtf8JsonParserBase
                     outPtr = 0;
                 }
                 final int max = Math.min(_inputEnd, (ptr + (outBuf.length - outPtr)));
-                while (ptr < max) {
+                final int end = _copyAsciiFromBuffer(ptr, max, outBuf, outPtr);
+                outPtr += end - ptr;
+                ptr = end;
+                if (ptr < max) {
                     c = getByteFromBuffer(ptr++) & 0xFF;
-                    if (codes[c] != 0) {
-                        break ascii_loop;
-                    }
-                    outBuf[outPtr++] = (char) c;
+                    break ascii_loop;
                 }
             }
             // Ok: end marker, escape or multi-byte?
@@ -15,7 +15,9 @@ import com.fasterxml.jackson.core.util.TextBuffer;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Intermediate base class used by all Jackson {@link JsonParser}
@@ -193,6 +195,18 @@ public abstract class V1ParserBase extends ParserMinimalBase
      */
     protected int _numTypesValid = NR_UNKNOWN;
 
+    /**
+     * Value (without sign) of integer of at most 18 digits, accumulated while scanning
+     * its digits: only applied by numeric accessors once the integer is the current
+     * token, since it may be scanned ahead of a {@link JsonToken#FIELD_NAME}.
+     */
+    protected long _scannedInt;
+
+    /**
+     * Whether {@link #_scannedInt} holds value of the latest number scanned
+     */
+    protected boolean _scannedIntValid;
+
     // First primitives
 
     protected int _numberInt;
@@ -219,6 +233,12 @@ public abstract class V1ParserBase extends ParserMinimalBase
      */
     protected String _numberString;
 
+    /**
+     * Pool for converting very long numbers to {@link BigInteger} and
+     * {@link BigDecimal} in parallel, if any: see {@link #setBigNumberPool}
+     */
+    protected ForkJoinPool _bigNumberPool;
+
     // And then other information about value itself
 
     /**
@@ -258,7 +278,9 @@ public abstract class V1ParserBase extends ParserMinimalBase
     protected V1ParserBase(IOContext ctxt, int features) {
         super(features);
         _ioContext = ctxt;
-        _streamReadConstraints = NewStreamReadConstraints.builder().maxDepth(Integer.MAX_VALUE).build();
+        _streamReadConstraints = NewStreamReadConstraints.builder()
+                .maxDepth(ctxt.streamReadConstraints().getMaxNestingDepth())
+                .maxNumberLength(ctxt.streamReadConstraints().getMaxNumberLength()).build();
         _textBuffer = ctxt.constructReadConstrainedTextBuffer();
         DupDetector dups = Feature.STRICT_DUPLICATE_DETECTION.enabledIn(features)
                 ? DupDetector.rootDetector(this) : null;
@@ -277,6 +299,16 @@ public abstract class V1ParserBase extends ParserMinimalBase
         _parsingContext.setCurrentValue(v);
     }
 
+    /**
+     * Method for specifying pool in which halves of very long numbers are
+     * converted to {@link BigInteger} and {@link BigDecimal} in parallel (see
+     * {@link BigNumberParser}); by default (null) they are converted in the
+     * calling thread.
+     */
+    public void setBigNumberPool(ForkJoinPool pool) {
+        _bigNumberPool = pool;
+    }
+
     /*
     /**********************************************************
     /* Overrides for Feature handling
@@ -457,6 +489,25 @@ public abstract class V1ParserBase extends ParserMinimalBase
         return _binaryValue;
     }
 
+    /**
+     * Method similar to {@link #readBinaryValue(Base64Variant, java.io.OutputStream)},
+     * but that puts decoded bytes to given buffer, from its position on (see
+     * {@link ByteBufferOutputStream#readBinaryValue}).
+     *
+     * @return Number of bytes decoded and put to buffer
+     */
+    public int readBinaryValue(Base64Variant b64variant, ByteBuffer out) throws IOException {
+        return ByteBufferOutputStream.readBinaryValue(this, b64variant, out);
+    }
+
+    /**
+     * Method similar to {@link #readBinaryValue(Base64Variant, ByteBuffer)}, using
+     * the default base64 variant.
+     */
+    public int readBinaryValue(ByteBuffer out) throws IOException {
+        return readBinaryValue(Base64Variants.getDefaultVariant(), out);
+    }
+
     /*
     /**********************************************************
     /* Public low-level accessors
@@ -503,6 +554,50 @@ public abstract class V1ParserBase extends ParserMinimalBase
         }
     }
 
+    /**
+     * Method called by {@code reset} methods of sub-classes to get parser back to
+     * the state it was in after construction, ready for new input: if parser is not
+     * closed, current input is closed (as per {@link #close()}); location, token and
+     * number state is cleared, and the parsing context rewound to root. Buffers are
+     * kept, or reacquired from the {@link IOContext} as needed if parser was closed.
+     * Sub-classes set input and input pointers afterwards.
+     *
+     * @throws IOException If closing current input fails
+     */
+    protected void _resetState() throws IOException {
+        if (!_closed) {
+            _closeInput();
+        }
+        _closed = false;
+        _inputPtr = 0;
+        _inputEnd = 0;
+        _currInputProcessed = 0L;
+        _currInputRow = 1;
+        _currInputRowStart = 0;
+        _tokenInputTotal = 0L;
+        _tokenInputRow = 1;
+        _tokenInputCol = 0;
+        _currToken = null;
+        _lastClearedToken = null;
+        _nextToken = null;
+        _textBuffer.resetWithEmpty();
+        _nameCopied = false;
+        _binaryValue = null;
+        _numTypesValid = NR_UNKNOWN;
+        _scannedIntValid = false;
+        _numberString = null;
+        _numberBigInt = null;
+        _numberBigDecimal = null;
+        // children are kept by their parents for reuse, so rewind instead of recreating
+        JsonReadContext root = _parsingContext;
+        while (root.getParent() != null) {
+            root = root.getParent();
+        }
+        root.reset(JsonStreamContext.TYPE_ROOT, 1, 0);
+        _parsingContext = root;
+        _depth = 0;
+    }
+
     /**
      * Method called when an EOF is encountered between tokens.
      * If so, it may be a legitimate EOF, but only iff there
@@ -581,9 +676,45 @@ public abstract class V1ParserBase extends ParserMinimalBase
         _fractLength = 0;
         _expLength = 0;
         _numTypesValid = NR_UNKNOWN; // to force decoding
+        _scannedIntValid = false;
+        return JsonToken.VALUE_NUMBER_INT;
+    }
+
+    /**
+     * Variant of {@link #resetInt(boolean, int)} for integers of at most 18 digits
+     * whose value was accumulated while scanning their digits: value is kept (see
+     * {@link #_scannedInt}), so it need not be decoded from text.
+     */
+    protected final JsonToken resetInt(boolean negative, int intLen, long value)
+        throws JsonParseException
+    {
+        resetInt(negative, intLen);
+        _scannedInt = value;
+        _scannedIntValid = true;
         return JsonToken.VALUE_NUMBER_INT;
     }
 
+    /**
+     * Method for setting value of current integer, of at most 18 digits: as
+     * {@code int} if it fits, otherwise as {@code long}, same as
+     * {@link #_parseNumericValue} would from text.
+     *
+     * @param value Value without sign
+     */
+    protected final void _setIntegralValue(boolean negative, int intLen, long value)
+    {
+        if (negative) {
+            value = -value;
+        }
+        if (intLen <= 9 || (intLen == 10 && value >= MIN_INT_L && value <= MAX_INT_L)) {
+            _numberInt = (int) value;
+            _numTypesValid = NR_INT;
+        } else {
+            _numberLong = value;
+            _numTypesValid = NR_LONG;
+        }
+    }
+
     protected final JsonToken resetFloat(boolean negative, int intLen, int fractLen, int expLen)
         throws JsonParseException
     {
@@ -600,6 +731,7 @@ public abstract class V1ParserBase extends ParserMinimalBase
         _fractLength = fractLen;
         _expLength = expLen;
         _numTypesValid = NR_UNKNOWN; // to force decoding
+        _scannedIntValid = false;
         return JsonToken.VALUE_NUMBER_FLOAT;
     }
 
@@ -609,6 +741,7 @@ public abstract class V1ParserBase extends ParserMinimalBase
         _textBuffer.resetWithString(valueStr);
         _numberDouble = value;
         _numTypesValid = NR_DOUBLE;
+        _scannedIntValid = false;
         return JsonToken.VALUE_NUMBER_FLOAT;
     }
 
@@ -898,6 +1031,10 @@ public abstract class V1ParserBase extends ParserMinimalBase
 
         // Int or float?
         if (_currToken == JsonToken.VALUE_NUMBER_INT) {
+            if (_scannedIntValid) {
+                _setIntegralValue(_numberNegative, _intLength, _scannedInt);
+                return;
+            }
             final int len = _intLength;
             // First: optimization for simple int
             if (len <= 9) {
@@ -962,7 +1099,12 @@ public abstract class V1ParserBase extends ParserMinimalBase
         // Inlined variant of: _parseNumericValue(NR_INT)
         if (_currToken == JsonToken.VALUE_NUMBER_INT) {
             if (_intLength <= 9) {
-                int i = _textBuffer.contentsAsInt(_numberNegative);
+                int i;
+                if (_scannedIntValid) {
+                    i = _numberNegative ? (int) -_scannedInt : (int) _scannedInt;
+                } else {
+                    i = _textBuffer.contentsAsInt(_numberNegative);
+                }
                 _numberInt = i;
                 _numTypesValid = NR_INT;
                 return i;
@@ -1000,8 +1142,14 @@ public abstract class V1ParserBase extends ParserMinimalBase
             // 04-Dec-2022, tatu: We can get all kinds of values here, NR_DOUBLE
             //    but also NR_INT or even NR_UNKNOWN. Shouldn't we try further
             //    deferring some typing?
-            _numberDouble = 0.0;
-            _numberString = _textBuffer.contentsAsString();
+            // Decoded right away from the text buffer, without a String
+            try {
+                _numberDouble = EiselLemireDoubleParser.parseDouble(_textBuffer.getTextBuffer(),
+                        _textBuffer.getTextOffset(), _textBuffer.size());
+            } catch (NumberFormatException nex) {
+                _wrapError("Malformed numeric value ("+_longNumberDesc(_textBuffer.contentsAsString())+")", nex);
+            }
+            _numberString = null;
             _numTypesValid = NR_DOUBLE;
         }
     }
@@ -1213,9 +1361,7 @@ public abstract class V1ParserBase extends ParserMinimalBase
             // Let's actually parse from String representation, to avoid
             // rounding errors that non-decimal floating operations could incur
             final String numStr = _numberString == null ? getText() : _numberString;
-            _numberBigDecimal = NumberInput.parseBigDecimal(
-                    numStr,
-                    isEnabled(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER));
+            _numberBigDecimal = BigNumberParser.parseBigDecimal(numStr, _bigNumberPool);
         } else if ((_numTypesValid & NR_BIGINT) != 0) {
             _numberBigDecimal = new BigDecimal(_getBigInteger());
         } else if ((_numTypesValid & NR_LONG) != 0) {
@@ -1242,9 +1388,7 @@ public abstract class V1ParserBase extends ParserMinimalBase
         }
         try {
             // NOTE! Length of number string has been validated earlier
-            _numberBigInt = NumberInput.parseBigInteger(
-                    _numberString,
-                    isEnabled(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER));
+            _numberBigInt = BigNumberParser.parseBigInteger(_numberString, _bigNumberPool);
         } catch (NumberFormatException nex) {
             _wrapError("Malformed numeric value ("+_longNumberDesc(_numberString)+")", nex);
         }
@@ -1266,9 +1410,7 @@ public abstract class V1ParserBase extends ParserMinimalBase
         }
         try {
             // NOTE! Length of number string has been validated earlier
-            _numberBigDecimal = NumberInput.parseBigDecimal(
-                    _numberString,
-                    isEnabled(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER));
+            _numberBigDecimal = BigNumberParser.parseBigDecimal(_numberString, _bigNumberPool);
         } catch (NumberFormatException nex) {
             _wrapError("Malformed numeric value ("+_longNumberDesc(_numberString)+")", nex);
         }
@@ -1285,8 +1427,7 @@ public abstract class V1ParserBase extends ParserMinimalBase
     protected double _getNumberDouble() throws JsonParseException {
         if (_numberString != null) {
             try {
-                _numberDouble = NumberInput.parseDouble(_numberString,
-                        isEnabled(StreamReadFeature.USE_FAST_DOUBLE_PARSER));
+                _numberDouble = EiselLemireDoubleParser.parseDouble(_numberString);
             } catch (NumberFormatException nex) {
                 _wrapError("Malformed numeric value ("+_longNumberDesc(_numberString)+")", nex);
             }
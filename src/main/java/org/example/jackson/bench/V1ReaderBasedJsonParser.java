@@ -10,6 +10,7 @@ import com.fasterxml.jackson.core.SerializableString;
 import com.fasterxml.jackson.core.StreamReadCapability;
 import com.fasterxml.jackson.core.io.CharTypes;
 import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.JsonReadContext;
 import com.fasterxml.jackson.core.json.JsonReadFeature;
 import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
@@ -92,6 +93,11 @@ public class V1ReaderBasedJsonParser
 
     final protected int _hashSeed;
 
+    /**
+     * Decoder used for the bulk of base64 encoded binary values.
+     */
+    protected Base64Decoder _base64Decoder = Base64Decoder.defaultDecoder();
+
     /*
     /**********************************************************
     /* Parsing state
@@ -105,6 +111,29 @@ public class V1ReaderBasedJsonParser
      */
     protected boolean _tokenIncomplete;
 
+    /**
+     * Whether names are only located when read, and decoded when accessed:
+     * see {@link #setLazyDecoding}
+     */
+    protected boolean _lazyDecoding;
+
+    /**
+     * Offset in input buffer of the first character of the name of current Object
+     * entry, if that name was only located; -1 if it was decoded (or there is none)
+     */
+    protected int _lazyNameStart = -1;
+
+    /**
+     * Offset in input buffer of the closing quote of name located at
+     * {@link #_lazyNameStart}
+     */
+    protected int _lazyNameEnd;
+
+    /**
+     * Steps of {@link #nextTokens} over this parser, created on first call
+     */
+    private TokenBatchReader _tokenBatchReader;
+
     /**
      * Value of {@link #_inputPtr} at the time when the first character of
      * name token was read. Used for calculating token location when requested;
@@ -201,6 +230,36 @@ public class V1ReaderBasedJsonParser
     @Override public ObjectCodec getCodec() { return _objectCodec; }
     @Override public void setCodec(ObjectCodec c) { _objectCodec = c; }
 
+    /**
+     * Method for enabling on-demand decoding: names of Object entries are then only
+     * located when read, and looked up from the symbol table only when accessed.
+     * Names with escapes, or that span input buffer boundaries, are decoded as read.
+     * Located names are decoded before the input buffer is refilled, and when their
+     * value is an Array or an Object, so they remain accessible as long as they
+     * would otherwise. (String values are decoded on demand in any case; and text
+     * of numbers shares the input buffer, unless they span buffer boundaries or
+     * have leading zeroes.) Names and numbers that span buffer boundaries would
+     * need the input buffer to be compacted rather than refilled, which is not
+     * worth it for a token per buffer: they stay decoded as read.
+     *<p>
+     * Not used when duplicate detection is enabled, which needs all names.
+     *
+     * @param state Whether to decode names on demand
+     */
+    public void setLazyDecoding(boolean state) {
+        _lazyDecoding = state;
+    }
+
+    /**
+     * Method for changing decoder used for binary values from
+     * {@link Base64Decoder#defaultDecoder()}, to compare implementations.
+     *
+     * @param decoder Decoder to use
+     */
+    public void setBase64Decoder(Base64Decoder decoder) {
+        _base64Decoder = decoder;
+    }
+
     @Override // @since 2.12
     public JacksonFeatureSet<StreamReadCapability> getReadCapabilities() {
         return JSON_READ_CAPABILITIES;
@@ -259,6 +318,10 @@ public class V1ReaderBasedJsonParser
     @Override
     protected void _releaseBuffers() throws IOException
     {
+        // name only located must be decoded while input buffer is still around
+        if (_lazyNameStart >= 0) {
+            _finishLazyName();
+        }
         super._releaseBuffers();
         // merge new symbols, if any
         _symbols.release();
@@ -285,6 +348,10 @@ public class V1ReaderBasedJsonParser
     protected boolean _loadMore() throws IOException
     {
         if (_reader != null) {
+            // name only located is about to be overwritten
+            if (_lazyNameStart >= 0) {
+                _finishLazyName();
+            }
             int count = _reader.read(_inputBuffer, 0, _inputBuffer.length);
             if (count > 0) {
                 final int bufSize = _inputEnd;
@@ -311,6 +378,64 @@ public class V1ReaderBasedJsonParser
         return false;
     }
 
+    /*
+    /**********************************************************
+    /* Reuse
+    /**********************************************************
+     */
+
+    /**
+     * Method for reusing this parser for new content read from given reader, instead
+     * of constructing a new parser (along with its {@link IOContext} and symbol table):
+     * parser is rewound to its initial state, keeping buffers and symbols. Parser
+     * may, but need not, have been closed.
+     *<p>
+     * Note that the {@link IOContext} is kept, and with it the content reference
+     * used for locations.
+     *
+     * @param r Reader to read content from
+     *
+     * @throws IOException If closing current input fails
+     */
+    public void reset(Reader r) throws IOException
+    {
+        _resetState();
+        _tokenIncomplete = false;
+        _lazyNameStart = -1;
+        // buffer given by caller may be content of earlier input, so only reuse own
+        if (!_bufferRecyclable || _inputBuffer == null) {
+            _inputBuffer = _ioContext.allocTokenBuffer();
+            _bufferRecyclable = true;
+        }
+        _reader = r;
+    }
+
+    /**
+     * Method for reusing this parser for given content, as with {@link #reset(Reader)}.
+     *
+     * @param data Buffer that contains content to parse
+     * @param offset Offset of the first content character in {@code data}
+     * @param len Length of content in characters
+     *
+     * @throws IOException If closing current input fails
+     */
+    public void reset(char[] data, int offset, int len) throws IOException
+    {
+        _resetState();
+        _tokenIncomplete = false;
+        _lazyNameStart = -1;
+        if (_bufferRecyclable && _inputBuffer != null) {
+            _ioContext.releaseTokenBuffer(_inputBuffer);
+        }
+        _reader = null;
+        _inputBuffer = data;
+        _bufferRecyclable = false;
+        _inputPtr = offset;
+        _inputEnd = offset + len;
+        _currInputRowStart = offset;
+        _currInputProcessed = -offset;
+    }
+
     /*
     /**********************************************************
     /* Public API, data access
@@ -348,6 +473,9 @@ public class V1ReaderBasedJsonParser
             return _textBuffer.contentsToWriter(writer);
         }
         if (t == JsonToken.FIELD_NAME) {
+            if (_lazyNameStart >= 0) {
+                _finishLazyName();
+            }
             String n = _parsingContext.getCurrentName();
             writer.write(n);
             return n.length();
@@ -398,12 +526,38 @@ public class V1ReaderBasedJsonParser
         return super.getValueAsString(defValue);
     }
 
+    // // // Overrides for on-demand decoding (see setLazyDecoding())
+
+    @Override
+    public String getCurrentName() throws IOException {
+        if (_lazyNameStart >= 0) {
+            _finishLazyName();
+        }
+        return super.getCurrentName();
+    }
+
+    @Override
+    public JsonReadContext getParsingContext() {
+        if (_lazyNameStart >= 0) {
+            // as with overrideCurrentName(), need to wrap
+            try {
+                _finishLazyName();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return _parsingContext;
+    }
+
     protected final String _getText2(JsonToken t) throws IOException {
         if (t == null) {
             return null;
         }
         switch (t.id()) {
         case ID_FIELD_NAME:
+            if (_lazyNameStart >= 0) {
+                _finishLazyName();
+            }
             return _parsingContext.getCurrentName();
 
         case ID_STRING:
@@ -423,6 +577,9 @@ public class V1ReaderBasedJsonParser
             switch (_currToken.id()) {
             case ID_FIELD_NAME:
                 if (!_nameCopied) {
+                    if (_lazyNameStart >= 0) {
+                        _finishLazyName();
+                    }
                     String name = _parsingContext.getCurrentName();
                     int nameLen = name.length();
                     if (_nameCopyBuffer == null) {
@@ -456,6 +613,9 @@ public class V1ReaderBasedJsonParser
         if (_currToken != null) { // null only before/after document
             switch (_currToken.id()) {
             case ID_FIELD_NAME:
+                if (_lazyNameStart >= 0) {
+                    _finishLazyName();
+                }
                 return _parsingContext.getCurrentName().length();
             case ID_STRING:
                 if (_tokenIncomplete) {
@@ -552,7 +712,14 @@ public class V1ReaderBasedJsonParser
         int outputCount = 0;
 
         while (true) {
-            // first, we'll skip preceding white space, if any
+            // complete units in input buffer first, straight to output buffer
+            final int decoded = _base64Decoder.decode(b64variant, _inputBuffer, _inputPtr, _inputEnd,
+                    buffer, outputPtr, buffer.length);
+            _inputPtr += decoded;
+            outputPtr += (decoded >> 2) * 3;
+
+            // then whatever stopped decoder, if anything; first, we'll skip
+            // preceding white space, if any
             char ch;
             do {
                 if (_inputPtr >= _inputEnd) {
@@ -741,10 +908,12 @@ public class V1ReaderBasedJsonParser
          */
         boolean inObject = _parsingContext.inObject();
         if (inObject) {
-            // First, field name itself:
+            // First, field name itself (or just its location):
             _updateNameLocation();
-            String name = (i == INT_QUOTE) ? _parseName() : _handleOddName(i);
-            _parsingContext.setCurrentName(name);
+            if (!_lazyDecoding || !_locateName(i)) {
+                String name = (i == INT_QUOTE) ? _parseName() : _handleOddName(i);
+                _parsingContext.setCurrentName(name);
+            }
             _currToken = JsonToken.FIELD_NAME;
             i = _skipColon();
         }
@@ -819,6 +988,10 @@ public class V1ReaderBasedJsonParser
         }
 
         if (inObject) {
+            // name of an Array or Object is needed by child context, as parent name
+            if (_lazyNameStart >= 0 && t.isStructStart()) {
+                _finishLazyName();
+            }
             _nextToken = t;
             return _currToken;
         }
@@ -851,6 +1024,158 @@ public class V1ReaderBasedJsonParser
         }
     }
 
+    /*
+    /**********************************************************
+    /* Public API, traversal, token batches
+    /**********************************************************
+     */
+
+    /**
+     * Method for reading a batch of tokens with one call, without decoding their
+     * text: for each token, its id (one of {@link com.fasterxml.jackson.core.JsonTokenId}
+     * constants) and its character offset and length in content are stored in given arrays.
+     * Offsets and lengths of names and String values include quotes; text is as it is
+     * in content, escapes included. Offsets are from the start of content (as with
+     * {@link #getTokenLocation()}), so content may not be longer than 2 GB.
+     *<p>
+     * After the call the parser points to the last token read, as if it had been read
+     * with {@link #nextToken()}: accessors work for it, and calls can be mixed. If end of
+     * content was reached, there is no current token, as after {@code nextToken()}
+     * returns {@code null}.
+     *<p>
+     * Names are only located, and decoded if accessed, unless they have escapes or
+     * span input buffers (or are names of Arrays and Objects, needed by child contexts).
+     *
+     * @param tokenIds Array to store ids of tokens in
+     * @param offsets Array to store offsets of tokens in
+     * @param lengths Array to store lengths of tokens in
+     * @param max Maximum number of tokens to read; at least 2, as a field name is
+     *    read along with its value, and at most the length of each array
+     *
+     * @return Number of tokens read: fewer than {@code max} at end of content, or when
+     *    there is room for a field name but not for its value; 0 only at end of content
+     */
+    public int nextTokens(int[] tokenIds, int[] offsets, int[] lengths, int max) throws IOException
+    {
+        if (_tokenBatchReader == null) {
+            _tokenBatchReader = new BatchReader();
+        }
+        return _tokenBatchReader.nextTokens(tokenIds, offsets, lengths, max);
+    }
+
+    /**
+     * Steps of {@link #nextTokens}, over the input of this parser
+     */
+    private final class BatchReader extends TokenBatchReader
+    {
+        @Override
+        protected boolean nameRead() {
+            return _currToken == JsonToken.FIELD_NAME;
+        }
+
+        @Override
+        protected JsonToken valueAfterName() throws IOException {
+            return _nextAfterName();
+        }
+
+        @Override
+        protected boolean skipIncompleteString() throws IOException {
+            if (_tokenIncomplete) {
+                _skipString();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean finishIncompleteString() throws IOException {
+            if (_tokenIncomplete) {
+                _tokenIncomplete = false;
+                _finishString();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean inObject() {
+            return _parsingContext.inObject();
+        }
+
+        @Override
+        protected int skipWSOrEnd() throws IOException {
+            _numTypesValid = NR_UNKNOWN;
+            int i = _skipWSOrEnd();
+            if (i < 0) { // end-of-input
+                close();
+                _currToken = null;
+                return i;
+            }
+            _binaryValue = null;
+            return i;
+        }
+
+        @Override
+        protected boolean expectComma() {
+            return _parsingContext.expectComma();
+        }
+
+        @Override
+        protected int skipComma(int i) throws IOException {
+            return _skipComma(i);
+        }
+
+        @Override
+        protected boolean allowTrailingComma() {
+            return (_features & FEAT_MASK_TRAILING_COMMA) != 0;
+        }
+
+        @Override
+        protected JsonToken closeScope(int i) throws IOException {
+            _closeScope(i);
+            return _currToken;
+        }
+
+        @Override
+        protected void name(int i) throws IOException {
+            _updateNameLocation();
+            if (!_locateName(i)) {
+                _parsingContext.setCurrentName((i == INT_QUOTE) ? _parseName() : _handleOddName(i));
+            }
+            _nameCopied = false;
+        }
+
+        @Override
+        protected int skipColon() throws IOException {
+            return _skipColon();
+        }
+
+        @Override
+        protected JsonToken value(int i) throws IOException {
+            // name of an Array or Object is needed by child context, as parent name
+            if (_lazyNameStart >= 0 && (i == INT_LBRACKET || i == INT_LCURLY)) {
+                _finishLazyName();
+            }
+            _updateLocation();
+            return _nextTokenNotInObject(i);
+        }
+
+        @Override
+        protected long inputOffset() {
+            return _currInputProcessed + _inputPtr;
+        }
+
+        @Override
+        protected long tokenStart() {
+            return _tokenInputTotal - 1;
+        }
+
+        @Override
+        protected int numberLength() {
+            return _textBuffer.size();
+        }
+    }
+
     /*
     /**********************************************************
     /* Public API, nextXxx() overrides
@@ -1396,8 +1721,9 @@ public class V1ReaderBasedJsonParser
         int startPtr = ptr-1; // to include digit already read
         final int inputLen = _inputEnd;
 
-        // One special case, leading zero(es):
-        if (ch == INT_0) {
+        // One special case, leading zero(es): only need the slow path if followed
+        // by a digit (or unknown), not for a plain zero or fraction like "0.5"
+        if (ch == INT_0 && (ptr >= inputLen || (_inputBuffer[ptr] >= '0' && _inputBuffer[ptr] <= '9'))) {
             return _parseNumber2(false, startPtr);
         }
 
@@ -1408,6 +1734,8 @@ public class V1ReaderBasedJsonParser
          */
 
         int intLen = 1; // already got one
+        // value accumulated as we go; overflows past 18 digits, but is then not used
+        long value = ch - INT_0;
 
         // First let's get the obligatory integer part:
         int_loop:
@@ -1421,6 +1749,7 @@ public class V1ReaderBasedJsonParser
                 break int_loop;
             }
             ++intLen;
+            value = (value * 10) + (ch - INT_0);
         }
         if (ch == INT_PERIOD || ch == INT_e || ch == INT_E) {
             _inputPtr = ptr;
@@ -1435,7 +1764,7 @@ public class V1ReaderBasedJsonParser
         }
         int len = ptr-startPtr;
         _textBuffer.resetWithShared(_inputBuffer, startPtr, len);
-        return resetInt(false, intLen);
+        return (intLen <= 18) ? resetInt(false, intLen, value) : resetInt(false, intLen);
     }
 
     private final JsonToken _parseFloat(int ch, int startPtr, int ptr, boolean neg, int intLen)
@@ -1524,11 +1853,12 @@ public class V1ReaderBasedJsonParser
             }
             return _handleInvalidNumberStart(ch, negative, true);
         }
-        // One special case, leading zero(es):
-        if (ch == INT_0) {
+        // One special case, leading zero(es): as with unsigned numbers
+        if (ch == INT_0 && (ptr >= inputEnd || (_inputBuffer[ptr] >= '0' && _inputBuffer[ptr] <= '9'))) {
             return _parseNumber2(negative, startPtr);
         }
         int intLen = 1; // already got one
+        long value = ch - INT_0;
 
         // First let's get the obligatory integer part:
         int_loop:
@@ -1541,6 +1871,7 @@ public class V1ReaderBasedJsonParser
                 break int_loop;
             }
             ++intLen;
+            value = (value * 10) + (ch - INT_0);
         }
 
         if (ch == INT_PERIOD || ch == INT_e || ch == INT_E) {
@@ -1554,7 +1885,7 @@ public class V1ReaderBasedJsonParser
         }
         int len = ptr-startPtr;
         _textBuffer.resetWithShared(_inputBuffer, startPtr, len);
-        return resetInt(negative, intLen);
+        return (intLen <= 18) ? resetInt(negative, intLen, value) : resetInt(negative, intLen);
     }
 
     /**
@@ -1839,6 +2170,60 @@ public class V1ReaderBasedJsonParser
         _reportMissingRootWS(ch);
     }
 
+    /*
+    /**********************************************************
+    /* Internal methods, on-demand decoding
+    /**********************************************************
+     */
+
+    /**
+     * Method called instead of {@link #_parseName} with on-demand decoding: name is
+     * only located, if it has no escapes and is wholly in the input buffer.
+     *
+     * @param i First character of name
+     *
+     * @return True if name was located (and will be decoded by
+     *    {@link #_finishLazyName}); false if it is to be parsed as usual
+     */
+    private final boolean _locateName(int i) throws IOException
+    {
+        if (i != INT_QUOTE || _parsingContext.getDupDetector() != null) {
+            return false;
+        }
+        final char[] input = _inputBuffer;
+        final int[] codes = _icLatin1;
+        for (int ptr = _inputPtr; ptr < _inputEnd; ++ptr) {
+            int ch = input[ptr];
+            if (ch < codes.length && codes[ch] != 0) {
+                if (ch != INT_QUOTE) {
+                    return false;
+                }
+                _lazyNameStart = _inputPtr;
+                _lazyNameEnd = ptr;
+                _inputPtr = ptr+1;
+                _parsingContext.setCurrentName(null);
+                return true;
+            }
+        }
+        return false;
+    }
+
+    private final void _finishLazyName() throws IOException
+    {
+        final int start = _lazyNameStart;
+        _lazyNameStart = -1;
+        // Unless another name (parsed as usual) replaced it
+        if (_parsingContext.getCurrentName() == null) {
+            final char[] input = _inputBuffer;
+            final int end = _lazyNameEnd;
+            int hash = _hashSeed;
+            for (int ptr = start; ptr < end; ++ptr) {
+                hash = (hash * CharsToNameCanonicalizer.HASH_MULT) + input[ptr];
+            }
+            _parsingContext.setCurrentName(_symbols.findSymbol(input, start, end - start, hash));
+        }
+    }
+
     /*
     /**********************************************************
     /* Internal methods, secondary parsing
@@ -2862,7 +3247,16 @@ public class V1ReaderBasedJsonParser
 
         //main_loop:
         while (true) {
-            // first, we'll skip preceding white space, if any
+            // complete units in input buffer first, straight to current segment
+            final byte[] segment = builder.getCurrentSegment();
+            final int segmentLength = builder.getCurrentSegmentLength();
+            final int decoded = _base64Decoder.decode(b64variant, _inputBuffer, _inputPtr, _inputEnd,
+                    segment, segmentLength, segment.length);
+            _inputPtr += decoded;
+            builder.setCurrentSegmentLength(segmentLength + (decoded >> 2) * 3);
+
+            // then whatever stopped decoder, if anything; first, we'll skip
+            // preceding white space, if any
             char ch;
             do {
                 if (_inputPtr >= _inputEnd) {
@@ -3070,6 +3464,7 @@ public class V1ReaderBasedJsonParser
             if (!_parsingContext.inObject()) {
                 _reportMismatchedEndMarker(i, ']');
             }
+            _lazyNameStart = -1; // name of closed Object no longer needed
             popParsingContext();
             _currToken = JsonToken.END_OBJECT;
         }
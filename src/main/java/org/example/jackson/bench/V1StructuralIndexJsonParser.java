@@ -0,0 +1,687 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.ObjectCodec;
+import com.fasterxml.jackson.core.SerializableString;
+import com.fasterxml.jackson.core.io.CharTypes;
+import com.fasterxml.jackson.core.io.IOContext;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+
+import java.io.IOException;
+import java.util.Arrays;
+
+/**
+ * Parser for UTF-8 encoded JSON content in a byte array that works in two stages,
+ * like simdjson: the first one finds positions of all structural characters
+ * ({@code {}[]:,}), opening quotes of Strings and first characters of other scalar
+ * values in one pass over the whole document, without a state machine (String
+ * contents are passed using the {@code _icUTF8} input code table, stopping only at
+ * quotes and backslashes). The second stage produces the same
+ * tokens as {@link V1UTF8StreamJsonParser}, but moves from token to token by the
+ * index instead of reading whitespace, and skips String values (those not accessed)
+ * by jumping to their end.
+ *<p>
+ * Decoding of names, String values and numbers is that of the stream parser; so is
+ * handling of most non-standard features, except for comments and single-quoted
+ * Strings: these are not supported, as the first stage does not recognize them.
+ * Differences to the stream parser:
+ *<ul>
+ * <li>Locations only have byte offsets: line and column numbers are not tracked
+ *  </li>
+ * <li>Contents of String values that are skipped are not validated
+ *  </li>
+ *</ul>
+ * {@link #nextTokens} and {@link #skipChildrenUnvalidated} also move by the index;
+ * the latter only looks at indexed end markers.
+ *<p>
+ * As a whole, the parser is slower than the stream parser: the first stage alone
+ * takes about as long as the stream parser takes for the whole document, and the
+ * second stage saves less than that, even when skipping most of the content. So it
+ * is not in the default variants of {@code ParserMatrixBench} and {@code NumberBench};
+ * {@code NestingBench} still runs it.
+ */
+public class V1StructuralIndexJsonParser
+    extends V1UTF8StreamJsonParser
+{
+    private final static int FEAT_MASK_TRAILING_COMMA = Feature.ALLOW_TRAILING_COMMA.getMask();
+
+    private final static int FEAT_MASK_NOT_INDEXABLE = Feature.ALLOW_COMMENTS.getMask()
+            | Feature.ALLOW_YAML_COMMENTS.getMask() | Feature.ALLOW_SINGLE_QUOTES.getMask();
+
+    // Classes of bytes outside Strings, for the first stage: bit 0 is set for bytes
+    // after which a scalar value may start, bit 1 for bytes always indexed
+
+    private final static int CLASS_SCALAR = 0;
+    private final static int CLASS_SPACE = 1;
+    private final static int CLASS_STRUCTURAL = 3;
+    private final static int CLASS_QUOTE = 4;
+
+    private final static int[] _icUTF8 = CharTypes.getInputCodeUtf8();
+
+    private final static byte[] CLASSES = new byte[256];
+    static {
+        CLASSES[' '] = CLASSES['\t'] = CLASSES['\n'] = CLASSES['\r'] = CLASS_SPACE;
+        CLASSES['{'] = CLASSES['}'] = CLASSES['['] = CLASSES[']'] = CLASS_STRUCTURAL;
+        CLASSES[':'] = CLASSES[','] = CLASS_STRUCTURAL;
+        CLASSES['"'] = CLASS_QUOTE;
+    }
+
+    /**
+     * Positions of indexed characters in input buffer; built on first call to
+     * {@link #nextToken()}
+     */
+    private int[] _index;
+
+    private int _indexCount;
+
+    /**
+     * Position in {@link #_index} of the next indexed character
+     */
+    private int _indexPos;
+
+    /**
+     * Offset of the last indexed character read by {@link #nextTokens}
+     */
+    private int _batchPtr;
+
+    /**
+     * Steps of {@link #nextTokens} over the index, created on first call
+     */
+    private TokenBatchReader _indexBatchReader;
+
+    /**
+     * Types of Arrays and Objects open within the one skipped by
+     * {@link #skipChildrenUnvalidated}, one bit per level: set for Objects.
+     */
+    private long[] _skipStack;
+
+    /**
+     * @param data Buffer with whole content to parse; not modified
+     * @param offset Offset of content in {@code data}
+     * @param len Length of content
+     */
+    public V1StructuralIndexJsonParser(IOContext ctxt, int features, ObjectCodec codec,
+                                       ByteQuadsCanonicalizer sym, byte[] data, int offset, int len)
+    {
+        super(ctxt, features, null, codec, sym, data, offset, offset + len, false);
+    }
+
+    /*
+    /**********************************************************
+    /* Public API, traversal
+    /**********************************************************
+     */
+
+    @Override
+    public JsonToken nextToken() throws IOException
+    {
+        if (_currToken == JsonToken.FIELD_NAME) {
+            return _nextAfterName();
+        }
+        _numTypesValid = NR_UNKNOWN;
+        _lazyNumberStart = -1;
+        if (_tokenIncomplete) {
+            _skipString(); // only strings can be partial
+        }
+        if (_index == null) {
+            _buildIndex();
+        }
+        if (_indexPos >= _indexCount) { // end-of-input
+            _handleEOF();
+            close();
+            return (_currToken = null);
+        }
+        int ptr = _index[_indexPos++];
+        int i = _inputBuffer[ptr] & 0xFF;
+        _inputPtr = ptr + 1;
+        // clear any data retained so far
+        _binaryValue = null;
+
+        // Closing scope?
+        if (i == INT_RBRACKET || i == INT_RCURLY) {
+            return _closeScope(i, ptr);
+        }
+        // Nope: do we then expect a comma?
+        if (_parsingContext.expectComma()) {
+            if (i != INT_COMMA) {
+                _reportUnexpectedChar(i, "was expecting comma to separate "+_parsingContext.typeDesc()+" entries");
+            }
+            ptr = _nextIndexed();
+            i = _inputBuffer[ptr] & 0xFF;
+            // Was that a trailing comma?
+            if ((_features & FEAT_MASK_TRAILING_COMMA) != 0) {
+                if ((i == INT_RBRACKET) || (i == INT_RCURLY)) {
+                    return _closeScope(i, ptr);
+                }
+            }
+        }
+        if (!_parsingContext.inObject()) {
+            _updateLocation(ptr);
+            return _nextTokenNotInObject(i, ptr);
+        }
+        // So first parse the field name itself:
+        _nameStartOffset = ptr + 1;
+        _nameStartRow = -1;
+        _nameStartCol = -1;
+        String n = _parseName(i);
+        _parsingContext.setCurrentName(n);
+        _currToken = JsonToken.FIELD_NAME;
+
+        ptr = _nextIndexed();
+        i = _inputBuffer[ptr] & 0xFF;
+        if (i != INT_COLON) {
+            _reportUnexpectedChar(i, "was expecting a colon to separate field name and value");
+        }
+        ptr = _nextIndexed();
+        i = _inputBuffer[ptr] & 0xFF;
+        _updateLocation(ptr);
+
+        // Ok: we must have a value... what is it? Strings are very common, check first:
+        if (i == INT_QUOTE) {
+            _tokenIncomplete = true;
+            _nextToken = JsonToken.VALUE_STRING;
+            return _currToken;
+        }
+        JsonToken t;
+        switch (i) {
+        case '[':
+            t = JsonToken.START_ARRAY;
+            break;
+        case '{':
+            t = JsonToken.START_OBJECT;
+            break;
+        default:
+            t = _parseScalar(i, ptr);
+        }
+        _nextToken = t;
+        return _currToken;
+    }
+
+    // Methods that the stream parser implements with its own reading of input:
+    // same as defaults of JsonParser, in terms of nextToken()
+
+    @Override
+    public boolean nextFieldName(SerializableString str) throws IOException {
+        return (nextToken() == JsonToken.FIELD_NAME) && str.getValue().equals(currentName());
+    }
+
+    @Override
+    public String nextFieldName() throws IOException {
+        return (nextToken() == JsonToken.FIELD_NAME) ? currentName() : null;
+    }
+
+    @Override
+    public String nextTextValue() throws IOException {
+        return (nextToken() == JsonToken.VALUE_STRING) ? getText() : null;
+    }
+
+    @Override
+    public int nextIntValue(int defaultValue) throws IOException {
+        return (nextToken() == JsonToken.VALUE_NUMBER_INT) ? getIntValue() : defaultValue;
+    }
+
+    @Override
+    public long nextLongValue(long defaultValue) throws IOException {
+        return (nextToken() == JsonToken.VALUE_NUMBER_INT) ? getLongValue() : defaultValue;
+    }
+
+    @Override
+    public Boolean nextBooleanValue() throws IOException {
+        JsonToken t = nextToken();
+        if (t == JsonToken.VALUE_TRUE) {
+            return Boolean.TRUE;
+        }
+        if (t == JsonToken.VALUE_FALSE) {
+            return Boolean.FALSE;
+        }
+        return null;
+    }
+
+    @Override
+    public int nextTokens(int[] tokenIds, int[] offsets, int[] lengths, int max) throws IOException {
+        if (_indexBatchReader == null) {
+            _indexBatchReader = new IndexBatchReader();
+        }
+        return _indexBatchReader.nextTokens(tokenIds, offsets, lengths, max);
+    }
+
+    /**
+     * Method similar to that of the stream parser, except that only indexed end
+     * markers are looked at: String contents were passed by the first stage.
+     */
+    @Override
+    public JsonParser skipChildrenUnvalidated() throws IOException
+    {
+        if (_currToken != JsonToken.START_OBJECT && _currToken != JsonToken.START_ARRAY) {
+            return this;
+        }
+        final byte[] input = _inputBuffer;
+        final int[] index = _index;
+        final int count = _indexCount;
+        final int outerDepth = _parsingContext.getNestingDepth();
+        final int maxDepth = _streamReadConstraints.getMaxDepth();
+        long[] stack = _skipStack;
+        if (stack == null) {
+            _skipStack = stack = new long[4];
+        }
+        int depth = 0; // of Arrays and Objects open within the skipped one
+        int pos = _indexPos;
+        while (pos < count) {
+            final int ptr = index[pos++];
+            final int c = input[ptr] & 0xFF;
+            if (c == INT_LBRACKET || c == INT_LCURLY) {
+                if (outerDepth + (++depth) > maxDepth) {
+                    _indexPos = pos;
+                    _inputPtr = ptr + 1;
+                    _reportDepthExceeded(outerDepth + depth);
+                }
+                if ((depth >> 6) >= stack.length) {
+                    _skipStack = stack = Arrays.copyOf(stack, stack.length << 1);
+                }
+                if (c == INT_LCURLY) {
+                    stack[depth >> 6] |= (1L << depth);
+                } else {
+                    stack[depth >> 6] &= ~(1L << depth);
+                }
+            } else if (c == INT_RBRACKET || c == INT_RCURLY) {
+                _indexPos = pos;
+                _inputPtr = ptr + 1;
+                if (depth == 0) {
+                    _closeScope(c, ptr);
+                    return this;
+                }
+                final boolean inObject = (stack[depth >> 6] & (1L << depth)) != 0L;
+                if (inObject != (c == INT_RCURLY)) {
+                    _updateLocation(ptr);
+                    _reportMismatchedEndMarker(c, inObject ? '}' : ']');
+                }
+                --depth;
+            }
+        }
+        _indexPos = pos;
+        _inputPtr = _inputEnd;
+        _reportInvalidEOF(": expected close marker for "+_parsingContext.typeDesc(), null);
+        return this;
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides, locations
+    /**********************************************************
+     */
+
+    @Override
+    public JsonLocation getCurrentLocation()
+    {
+        return new JsonLocation(_contentReference(),
+                _currInputProcessed + _inputPtr, -1L, -1, -1);
+    }
+
+    /*
+    /**********************************************************
+    /* Overrides, String values
+    /**********************************************************
+     */
+
+    @Override
+    protected void _skipString() throws IOException
+    {
+        // Unless it's unterminated, value ends with the last quote before the next
+        // indexed character: only whitespace can be between them
+        if (_indexPos >= _indexCount) {
+            super._skipString();
+            return;
+        }
+        _tokenIncomplete = false;
+        int ptr = _index[_indexPos];
+        while (CLASSES[_inputBuffer[ptr-1] & 0xFF] == CLASS_SPACE) {
+            --ptr;
+        }
+        _inputPtr = ptr;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods, first stage
+    /**********************************************************
+     */
+
+    private void _buildIndex()
+    {
+        if ((_features & FEAT_MASK_NOT_INDEXABLE) != 0) {
+            throw new UnsupportedOperationException("Comments and single-quoted Strings not supported by "
+                    +getClass().getName());
+        }
+        final byte[] buf = _inputBuffer;
+        final int end = _inputEnd;
+        int ptr = _inputPtr;
+        int[] index = new int[Math.max(16, (end - ptr) >> 2)];
+        int count = 0;
+        // whether last byte was one after which a scalar value may start (0 or 1)
+        int boundary = 1;
+
+        while (ptr < end) {
+            if (count == index.length) {
+                index = Arrays.copyOf(index, count + (count >> 1));
+            }
+            // at most one index entry per byte: no need to check room until this
+            final int chunkEnd = Math.min(end, ptr + index.length - count);
+            while (ptr < chunkEnd) {
+                final int cls = CLASSES[buf[ptr] & 0xFF];
+                if (cls == CLASS_QUOTE) {
+                    index[count++] = ptr;
+                    ptr = _skipIndexedString(buf, ptr+1, end);
+                    boundary = 1;
+                    continue;
+                }
+                // Structural characters are always indexed, others if they start a scalar
+                index[count] = ptr;
+                count += (cls >> 1) | (boundary & ~cls);
+                boundary = cls & 1;
+                ++ptr;
+            }
+        }
+        _index = index;
+        _indexCount = count;
+    }
+
+    /**
+     * @return Offset after the closing quote of String with content starting at
+     *    given offset; {@code end} if there is none
+     */
+    private int _skipIndexedString(final byte[] buf, int ptr, final int end)
+    {
+        final int[] codes = _icUTF8;
+        while (ptr < end) {
+            int c = buf[ptr++] & 0xFF;
+            if (codes[c] != 0) {
+                if (c == INT_QUOTE) {
+                    return ptr;
+                }
+                if (c == INT_BACKSLASH) { // escaped character can not end String
+                    ++ptr;
+                }
+                // (control and multi-byte characters are validated when decoded)
+            }
+        }
+        return end;
+    }
+
+    /*
+    /**********************************************************
+    /* Internal methods, second stage
+    /**********************************************************
+     */
+
+    /**
+     * @return Offset of the next indexed character, which is also consumed
+     */
+    private int _nextIndexed() throws IOException
+    {
+        if (_indexPos >= _indexCount) {
+            _reportInvalidEOF(" within/between "+_parsingContext.typeDesc()+" entries", null);
+        }
+        final int ptr = _index[_indexPos++];
+        _inputPtr = ptr + 1;
+        return ptr;
+    }
+
+    private final JsonToken _nextTokenNotInObject(int i, int ptr) throws IOException
+    {
+        if (i == INT_QUOTE) {
+            _tokenIncomplete = true;
+            return (_currToken = JsonToken.VALUE_STRING);
+        }
+        switch (i) {
+        case '[':
+            createChildArrayContext(_tokenInputRow, _tokenInputCol);
+            return (_currToken = JsonToken.START_ARRAY);
+        case '{':
+            createChildObjectContext(_tokenInputRow, _tokenInputCol);
+            return (_currToken = JsonToken.START_OBJECT);
+        }
+        return (_currToken = _parseScalar(i, ptr));
+    }
+
+    /**
+     * Method called to parse a value other than String, Array or Object starting
+     * with given indexed character; and to verify that there is only whitespace
+     * between it and the next indexed character.
+     */
+    private final JsonToken _parseScalar(int i, int ptr) throws IOException
+    {
+        JsonToken t;
+        switch (i) {
+        case '-':
+            t = _parseSignedNumber(true);
+            break;
+        case '+':
+            if (isEnabled(JsonReadFeature.ALLOW_LEADING_PLUS_SIGN_FOR_NUMBERS.mappedFeature())) {
+                t = _parseSignedNumber(false);
+            } else {
+                t = _handleUnexpectedValue(i);
+            }
+            break;
+        case '.': // [core#611]:
+            t = _parseFloatThatStartsWithPeriod(false, false);
+            break;
+        case '0':
+        case '1':
+        case '2':
+        case '3':
+        case '4':
+        case '5':
+        case '6':
+        case '7':
+        case '8':
+        case '9':
+            t = _parseUnsignedNumber(i);
+            break;
+        case 'f':
+            _matchFalse();
+            t = JsonToken.VALUE_FALSE;
+            break;
+        case 'n':
+            _matchNull();
+            t = JsonToken.VALUE_NULL;
+            break;
+        case 't':
+            _matchTrue();
+            t = JsonToken.VALUE_TRUE;
+            break;
+        default:
+            t = _handleUnexpectedValue(i);
+            if (_inputPtr <= ptr) { // missing value: character is to be read again
+                --_indexPos;
+                return t;
+            }
+        }
+        // Index only has the start of a scalar: rest of it must have been consumed
+        final int next = (_indexPos < _indexCount) ? _index[_indexPos] : _inputEnd;
+        for (int p = _inputPtr; p < next; ++p) {
+            final int c = _inputBuffer[p] & 0xFF;
+            if (CLASSES[c] != CLASS_SPACE) {
+                _inputPtr = p + 1;
+                _reportUnexpectedChar(c, "was expecting comma to separate "+_parsingContext.typeDesc()+" entries");
+            }
+        }
+        return t;
+    }
+
+    private final JsonToken _nextAfterName()
+    {
+        _nameCopied = false; // need to invalidate if it was copied
+        JsonToken t = _nextToken;
+        _nextToken = null;
+
+        // Also: may need to start new context?
+        if (t == JsonToken.START_ARRAY) {
+            createChildArrayContext(_tokenInputRow, _tokenInputCol);
+        } else if (t == JsonToken.START_OBJECT) {
+            createChildObjectContext(_tokenInputRow, _tokenInputCol);
+        }
+        return (_currToken = t);
+    }
+
+    private final JsonToken _closeScope(int i, int ptr) throws JsonParseException
+    {
+        _updateLocation(ptr);
+        if (i == INT_RCURLY) {
+            if (!_parsingContext.inObject()) {
+                _reportMismatchedEndMarker(i, ']');
+            }
+            _lazyNameStart = -1; // name of closed Object no longer needed
+            popParsingContext();
+            return (_currToken = JsonToken.END_OBJECT);
+        }
+        if (!_parsingContext.inArray()) {
+            _reportMismatchedEndMarker(i, '}');
+        }
+        popParsingContext();
+        return (_currToken = JsonToken.END_ARRAY);
+    }
+
+    private final void _updateLocation(int ptr)
+    {
+        // (no line numbers: only offset is known)
+        _tokenInputTotal = _currInputProcessed + ptr + 1;
+        _tokenInputRow = -1;
+        _tokenInputCol = -1;
+    }
+
+    /**
+     * Steps of {@link #nextTokens}, moving by the index as {@link #nextToken} does
+     */
+    private final class IndexBatchReader extends TokenBatchReader
+    {
+        @Override
+        protected boolean nameRead() {
+            return _currToken == JsonToken.FIELD_NAME;
+        }
+
+        @Override
+        protected JsonToken valueAfterName() {
+            return _nextAfterName();
+        }
+
+        @Override
+        protected boolean skipIncompleteString() throws IOException {
+            if (_tokenIncomplete) {
+                _skipString();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean finishIncompleteString() throws IOException {
+            if (_tokenIncomplete) {
+                _tokenIncomplete = false;
+                _finishString();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean inObject() {
+            return _parsingContext.inObject();
+        }
+
+        @Override
+        protected int skipWSOrEnd() throws IOException {
+            _numTypesValid = NR_UNKNOWN;
+            _lazyNumberStart = -1;
+            if (_index == null) {
+                _buildIndex();
+            }
+            if (_indexPos >= _indexCount) { // end-of-input
+                _handleEOF();
+                close();
+                _currToken = null;
+                return -1;
+            }
+            final int ptr = _index[_indexPos++];
+            _inputPtr = ptr + 1;
+            _batchPtr = ptr;
+            _binaryValue = null;
+            return _inputBuffer[ptr] & 0xFF;
+        }
+
+        @Override
+        protected boolean expectComma() {
+            return _parsingContext.expectComma();
+        }
+
+        @Override
+        protected int skipComma(int i) throws IOException {
+            if (i != INT_COMMA) {
+                _reportUnexpectedChar(i, "was expecting comma to separate "+_parsingContext.typeDesc()+" entries");
+            }
+            final int ptr = _batchPtr = _nextIndexed();
+            return _inputBuffer[ptr] & 0xFF;
+        }
+
+        @Override
+        protected boolean allowTrailingComma() {
+            return (_features & FEAT_MASK_TRAILING_COMMA) != 0;
+        }
+
+        @Override
+        protected JsonToken closeScope(int i) throws IOException {
+            return _closeScope(i, _batchPtr);
+        }
+
+        @Override
+        protected void name(int i) throws IOException {
+            _nameStartOffset = _batchPtr + 1;
+            _nameStartRow = -1;
+            _nameStartCol = -1;
+            if (!_locateName(i)) {
+                _parsingContext.setCurrentName(_parseName(i));
+            }
+            _nameCopied = false;
+        }
+
+        @Override
+        protected int skipColon() throws IOException {
+            int ptr = _nextIndexed();
+            if (_inputBuffer[ptr] != INT_COLON) {
+                _reportUnexpectedChar(_inputBuffer[ptr] & 0xFF,
+                        "was expecting a colon to separate field name and value");
+            }
+            ptr = _batchPtr = _nextIndexed();
+            return _inputBuffer[ptr] & 0xFF;
+        }
+
+        @Override
+        protected JsonToken value(int i) throws IOException {
+            // name of an Array or Object is needed by child context, as parent name
+            if (_lazyNameStart >= 0 && (i == INT_LBRACKET || i == INT_LCURLY)) {
+                _finishLazyName();
+            }
+            _updateLocation(_batchPtr);
+            return _nextTokenNotInObject(i, _batchPtr);
+        }
+
+        @Override
+        protected long inputOffset() {
+            return _currInputProcessed + _inputPtr;
+        }
+
+        @Override
+        protected long tokenStart() {
+            return _tokenInputTotal - 1;
+        }
+
+        @Override
+        protected int numberLength() {
+            // either located, or copied to text buffer
+            return (_lazyNumberStart >= 0) ? (_lazyNumberEnd - _lazyNumberStart) : _textBuffer.size();
+        }
+    }
+}
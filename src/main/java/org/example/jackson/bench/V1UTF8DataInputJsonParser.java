@@ -51,7 +51,7 @@ import static com.fasterxml.jackson.core.JsonTokenId.ID_STRING;
  * @since 2.8
  */
 public class V1UTF8DataInputJsonParser
-    extends V1ParserBase
+    extends V2ParserBase
 {
     final static byte BYTE_LF = (byte) '\n';
 
@@ -201,6 +201,34 @@ public class V1UTF8DataInputJsonParser
         _symbols.release();
     }
 
+    /*
+    /**********************************************************
+    /* Reuse
+    /**********************************************************
+     */
+
+    /**
+     * Method for reusing this parser for new content read from given input, instead
+     * of constructing a new parser (along with its {@link IOContext} and symbol table):
+     * parser is rewound to its initial state, keeping buffers and symbols. Parser
+     * may, but need not, have been closed.
+     *<p>
+     * Note that the {@link IOContext} is kept, and with it the content reference
+     * used for locations.
+     *
+     * @param inputData DataInput to read content from
+     *
+     * @throws IOException Not thrown by this implementation, but could be by sub-classes
+     *   that close their input
+     */
+    public void reset(DataInput inputData) throws IOException
+    {
+        _resetState();
+        _tokenIncomplete = false;
+        _inputData = inputData;
+        _nextByte = -1;
+    }
+
     /*
     /**********************************************************
     /* Public API, data access
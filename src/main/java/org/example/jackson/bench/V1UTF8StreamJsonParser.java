@@ -20,10 +20,14 @@ import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
 import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
 
 import static com.fasterxml.jackson.core.JsonTokenId.ID_FIELD_NAME;
 import static com.fasterxml.jackson.core.JsonTokenId.ID_NUMBER_FLOAT;
 import static com.fasterxml.jackson.core.JsonTokenId.ID_NUMBER_INT;
+import static com.fasterxml.jackson.core.JsonTokenId.ID_START_ARRAY;
+import static com.fasterxml.jackson.core.JsonTokenId.ID_START_OBJECT;
 import static com.fasterxml.jackson.core.JsonTokenId.ID_STRING;
 
 /**
@@ -31,7 +35,7 @@ import static com.fasterxml.jackson.core.JsonTokenId.ID_STRING;
  * based on a {@link InputStream} as the input source.
  */
 public class V1UTF8StreamJsonParser
-    extends V1ParserBase
+    extends V2ParserBase
 {
     final static byte BYTE_LF = (byte) '\n';
 
@@ -55,6 +59,18 @@ public class V1UTF8StreamJsonParser
     // pre-processing task, to simplify first pass, keep it fast.
     protected final static int[] _icLatin1 = CharTypes.getInputCodeLatin1();
 
+    // Codes of bytes that skipChildrenUnvalidated() needs to look at (0 for others)
+    private final static int[] _icSkip = new int[256];
+    static {
+        _icSkip['"'] = 1;
+        _icSkip['['] = 2;
+        _icSkip['{'] = 3;
+        _icSkip[']'] = 4;
+        _icSkip['}'] = 5;
+        _icSkip['\n'] = 6;
+        _icSkip['\r'] = 7;
+    }
+
     /*
     /**********************************************************
     /* Configuration
@@ -84,6 +100,65 @@ public class V1UTF8StreamJsonParser
      */
     protected int[] _quadBuffer = new int[16];
 
+    /**
+     * Scanner used for finding ends of plain ASCII content in String values.
+     */
+    protected StringScanner _stringScanner = StringScanner.defaultScanner();
+
+    /**
+     * Decoder used for the bulk of base64 encoded binary values.
+     */
+    protected Base64Decoder _base64Decoder = Base64Decoder.defaultDecoder();
+
+    /**
+     * Whether names are only located when read, and decoded when accessed:
+     * see {@link #setLazyDecoding}
+     */
+    protected boolean _lazyDecoding;
+
+    /**
+     * Offset in input buffer of the first byte of the name of current Object entry,
+     * if that name was only located; -1 if it was decoded (or there is none)
+     */
+    protected int _lazyNameStart = -1;
+
+    /**
+     * Offset in input buffer of the closing quote of name located at
+     * {@link #_lazyNameStart}
+     */
+    protected int _lazyNameEnd;
+
+    /**
+     * Steps of {@link #nextTokens} over this parser, created on first call
+     */
+    private TokenBatchReader _tokenBatchReader;
+
+    /**
+     * Offset in input buffer of the first character of current number token (or
+     * the one after current name), if its text was not yet copied to the text
+     * buffer; -1 if it was (or there is none)
+     */
+    protected int _lazyNumberStart = -1;
+
+    /**
+     * Offset in input buffer after the last character of number located at
+     * {@link #_lazyNumberStart}
+     */
+    protected int _lazyNumberEnd;
+
+    /**
+     * Quads of names decoded on demand; separate from {@link #_quadBuffer} as
+     * those may be decoded (before input buffer is refilled) while another
+     * name is being parsed.
+     */
+    private int[] _lazyNameQuads;
+
+    /**
+     * Types of Arrays and Objects open within the one skipped by
+     * {@link #skipChildrenUnvalidated}, one bit per level: set for Objects.
+     */
+    private long[] _skipStack;
+
     /**
      * Flag that indicates that the current token has not yet
      * been fully processed, and needs to be finished for
@@ -225,6 +300,68 @@ public class V1UTF8StreamJsonParser
         _objectCodec = c;
     }
 
+    /**
+     * Method for changing scanner used for String values from
+     * {@link StringScanner#defaultScanner()}, to compare implementations.
+     *
+     * @param scanner Scanner to use
+     */
+    public void setStringScanner(StringScanner scanner) {
+        _stringScanner = scanner;
+    }
+
+    /**
+     * Method for changing decoder used for binary values from
+     * {@link Base64Decoder#defaultDecoder()}, to compare implementations.
+     *
+     * @param decoder Decoder to use
+     */
+    public void setBase64Decoder(Base64Decoder decoder) {
+        _base64Decoder = decoder;
+    }
+
+    /**
+     * Method for enabling on-demand decoding: names of Object entries are then only
+     * located when read, and looked up from (or added to) the symbol table only when
+     * accessed. Names with escapes or other than plain ASCII content are decoded as
+     * read; as are names that span input buffer boundaries, which would need the
+     * input buffer to be compacted rather than refilled, not worth it for a token
+     * per buffer. Located names are decoded before the input buffer is refilled, and
+     * when their value is an Array or an Object, so they remain accessible as long
+     * as they would otherwise.
+     *<p>
+     * Numbers are located in any case (their text only copied when accessed), and
+     * String values decoded on demand, so this only concerns names.
+     *<p>
+     * Since located names are only validated as plain ASCII content, the difference
+     * is only in what is done up front: tokens and errors are the same.
+     * Not used when duplicate detection is enabled, which needs all names.
+     *
+     * @param state Whether to decode names on demand
+     */
+    public void setLazyDecoding(boolean state) {
+        _lazyDecoding = state;
+    }
+
+    /**
+     * Method for finding the name of the current {@link JsonToken#FIELD_NAME} token
+     * (or of the entry of the current value) in given set. With on-demand decoding
+     * (see {@link #setLazyDecoding}), a located name is compared as quads assembled
+     * from the input buffer, without decoding it into a String.
+     *
+     * @param names Set of names to match against
+     *
+     * @return Index of matching name in the set; or -1 if none matches
+     */
+    public int matchCurrentName(QuadNameSet names) throws IOException {
+        if (_lazyNameStart >= 0 && _parsingContext.getCurrentName() == null) {
+            final int qlen = (_lazyNameEnd == _lazyNameStart) ? 0
+                    : _quadsOfLocatedName(_lazyNameStart, _lazyNameEnd);
+            return names.find(_lazyNameQuads, qlen);
+        }
+        return names.find(getCurrentName());
+    }
+
     @Override // @since 2.12
     public JacksonFeatureSet<StreamReadCapability> getReadCapabilities() {
         return JSON_READ_CAPABILITIES;
@@ -268,6 +405,13 @@ public class V1UTF8StreamJsonParser
             if (space == 0) { // only occurs when we've been closed
                 return false;
             }
+            // content only located is about to be overwritten
+            if (_lazyNameStart >= 0) {
+                _finishLazyName();
+            }
+            if (_lazyNumberStart >= 0) {
+                _finishLazyNumber();
+            }
 
             int count = _inputStream.read(_inputBuffer, 0, space);
             if (count > 0) {
@@ -318,6 +462,13 @@ public class V1UTF8StreamJsonParser
     @Override
     protected void _releaseBuffers() throws IOException
     {
+        // content only located must be decoded while input buffer is still around
+        if (_lazyNameStart >= 0) {
+            _finishLazyName();
+        }
+        if (_lazyNumberStart >= 0) {
+            _finishLazyNumber();
+        }
         super._releaseBuffers();
         // Merge found symbols, if any:
         _symbols.release();
@@ -334,6 +485,66 @@ public class V1UTF8StreamJsonParser
         }
     }
 
+    /*
+    /**********************************************************
+    /* Reuse
+    /**********************************************************
+     */
+
+    /**
+     * Method for reusing this parser for new content read from given stream, instead
+     * of constructing a new parser (along with its {@link IOContext} and symbol table):
+     * parser is rewound to its initial state, keeping buffers and symbols. Parser
+     * may, but need not, have been closed.
+     *<p>
+     * Note that the {@link IOContext} is kept, and with it the content reference
+     * used for locations.
+     *
+     * @param in InputStream to read content from
+     *
+     * @throws IOException If closing current input fails
+     */
+    public void reset(InputStream in) throws IOException
+    {
+        _resetState();
+        _tokenIncomplete = false;
+        _lazyNameStart = -1;
+        _lazyNumberStart = -1;
+        // buffer given by caller may be content of earlier input, so only reuse own
+        if (!_bufferRecyclable || _inputBuffer.length == 0) {
+            _inputBuffer = _ioContext.allocReadIOBuffer();
+            _bufferRecyclable = true;
+        }
+        _inputStream = in;
+    }
+
+    /**
+     * Method for reusing this parser for given content, as with {@link #reset(InputStream)}.
+     *
+     * @param data Buffer that contains content to parse
+     * @param offset Offset of the first content byte in {@code data}
+     * @param len Length of content in bytes
+     *
+     * @throws IOException If closing current input fails
+     */
+    public void reset(byte[] data, int offset, int len) throws IOException
+    {
+        _resetState();
+        _tokenIncomplete = false;
+        _lazyNameStart = -1;
+        _lazyNumberStart = -1;
+        if (_bufferRecyclable && _inputBuffer.length > 0) {
+            _ioContext.releaseReadIOBuffer(_inputBuffer);
+        }
+        _inputStream = null;
+        _inputBuffer = data;
+        _bufferRecyclable = false;
+        _inputPtr = offset;
+        _inputEnd = offset + len;
+        _currInputRowStart = offset;
+        _currInputProcessed = -offset;
+    }
+
     /*
     /**********************************************************
     /* Public API, data access
@@ -365,12 +576,18 @@ public class V1UTF8StreamJsonParser
             return _textBuffer.contentsToWriter(writer);
         }
         if (t == JsonToken.FIELD_NAME) {
+            if (_lazyNameStart >= 0) {
+                _finishLazyName();
+            }
             String n = _parsingContext.getCurrentName();
             writer.write(n);
             return n.length();
         }
         if (t != null) {
             if (t.isNumeric()) {
+                if (_lazyNumberStart >= 0) {
+                    _finishLazyNumber();
+                }
                 return _textBuffer.contentsToWriter(writer);
             }
             char[] ch = t.asCharArray();
@@ -456,6 +673,63 @@ public class V1UTF8StreamJsonParser
         return super.getValueAsInt(defValue);
     }
 
+    // // // Overrides for on-demand decoding (see setLazyDecoding())
+
+    @Override
+    public String getCurrentName() throws IOException {
+        if (_lazyNameStart >= 0) {
+            _finishLazyName();
+        }
+        return super.getCurrentName();
+    }
+
+    @Override
+    public ReadContextBase getParsingContext() {
+        if (_lazyNameStart >= 0) {
+            // as with overrideCurrentName(), need to wrap
+            try {
+                _finishLazyName();
+            } catch (IOException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+        return _parsingContext;
+    }
+
+    @Override
+    public Object getNumberValueDeferred() throws IOException {
+        if (_lazyNumberStart >= 0) {
+            _finishLazyNumber();
+        }
+        return super.getNumberValueDeferred();
+    }
+
+    @Override
+    protected void _parseNumericValue(int expType) throws IOException {
+        // integer value accumulated while scanning needs no text
+        if (_lazyNumberStart >= 0 && !_scannedIntValid) {
+            // doubles can be decoded from input bytes, leaving the number located
+            if (_currToken == JsonToken.VALUE_NUMBER_FLOAT
+                    && expType != NR_BIGDECIMAL && expType != NR_FLOAT) {
+                _numberDouble = EiselLemireDoubleParser.parseDouble(_inputBuffer, _lazyNumberStart,
+                        _lazyNumberEnd - _lazyNumberStart);
+                _numberString = null;
+                _numTypesValid = NR_DOUBLE;
+                return;
+            }
+            _finishLazyNumber();
+        }
+        super._parseNumericValue(expType);
+    }
+
+    @Override
+    protected int _parseIntValue() throws IOException {
+        if (_lazyNumberStart >= 0 && !_scannedIntValid) {
+            _finishLazyNumber();
+        }
+        return super._parseIntValue();
+    }
+
     protected final String _getText2(JsonToken t) throws IOException
     {
         if (t == null) {
@@ -463,12 +737,18 @@ public class V1UTF8StreamJsonParser
         }
         switch (t.id()) {
         case ID_FIELD_NAME:
+            if (_lazyNameStart >= 0) {
+                _finishLazyName();
+            }
             return _parsingContext.getCurrentName();
 
-        case ID_STRING:
-            // fall through
         case ID_NUMBER_INT:
         case ID_NUMBER_FLOAT:
+            if (_lazyNumberStart >= 0) {
+                _finishLazyNumber();
+            }
+            // fall through
+        case ID_STRING:
             return _textBuffer.contentsAsString();
         default:
         	return t.asString();
@@ -483,6 +763,9 @@ public class V1UTF8StreamJsonParser
 
             case ID_FIELD_NAME:
                 if (!_nameCopied) {
+                    if (_lazyNameStart >= 0) {
+                        _finishLazyName();
+                    }
                     String name = _parsingContext.getCurrentName();
                     int nameLen = name.length();
                     if (_nameCopyBuffer == null) {
@@ -495,14 +778,17 @@ public class V1UTF8StreamJsonParser
                 }
                 return _nameCopyBuffer;
 
+            case ID_NUMBER_INT:
+            case ID_NUMBER_FLOAT:
+                if (_lazyNumberStart >= 0) {
+                    _finishLazyNumber();
+                }
+                return _textBuffer.getTextBuffer();
             case ID_STRING:
                 if (_tokenIncomplete) {
                     _tokenIncomplete = false;
                     _finishString(); // only strings can be incomplete
                 }
-                // fall through
-            case ID_NUMBER_INT:
-            case ID_NUMBER_FLOAT:
                 return _textBuffer.getTextBuffer();
 
             default:
@@ -519,15 +805,21 @@ public class V1UTF8StreamJsonParser
             switch (_currToken.id()) {
 
             case ID_FIELD_NAME:
+                if (_lazyNameStart >= 0) {
+                    _finishLazyName();
+                }
                 return _parsingContext.getCurrentName().length();
+            case ID_NUMBER_INT:
+            case ID_NUMBER_FLOAT:
+                if (_lazyNumberStart >= 0) {
+                    _finishLazyNumber();
+                }
+                return _textBuffer.size();
             case ID_STRING:
                 if (_tokenIncomplete) {
                     _tokenIncomplete = false;
                     _finishString(); // only strings can be incomplete
                 }
-                // fall through
-            case ID_NUMBER_INT:
-            case ID_NUMBER_FLOAT:
                 return _textBuffer.size();
 
             default:
@@ -545,14 +837,17 @@ public class V1UTF8StreamJsonParser
             switch (_currToken.id()) {
             case ID_FIELD_NAME:
                 return 0;
+            case ID_NUMBER_INT:
+            case ID_NUMBER_FLOAT:
+                if (_lazyNumberStart >= 0) {
+                    _finishLazyNumber();
+                }
+                return _textBuffer.getTextOffset();
             case ID_STRING:
                 if (_tokenIncomplete) {
                     _tokenIncomplete = false;
                     _finishString(); // only strings can be incomplete
                 }
-                // fall through
-            case ID_NUMBER_INT:
-            case ID_NUMBER_FLOAT:
                 return _textBuffer.getTextOffset();
             default:
             }
@@ -613,7 +908,14 @@ public class V1UTF8StreamJsonParser
         int outputCount = 0;
 
         while (true) {
-            // first, we'll skip preceding white space, if any
+            // complete units in input buffer first, straight to output buffer
+            final int decoded = _base64Decoder.decode(b64variant, _inputBuffer, _inputPtr, _inputEnd,
+                    buffer, outputPtr, buffer.length);
+            _inputPtr += decoded;
+            outputPtr += (decoded >> 2) * 3;
+
+            // then whatever stopped decoder, if anything; first, we'll skip
+            // preceding white space, if any
             int ch;
             do {
                 if (_inputPtr >= _inputEnd) {
@@ -765,6 +1067,7 @@ public class V1UTF8StreamJsonParser
         // But if we didn't already have a name, and (partially?) decode number,
         // need to ensure no numeric information is leaked
         _numTypesValid = NR_UNKNOWN;
+        _lazyNumberStart = -1;
         if (_tokenIncomplete) {
             _skipString(); // only strings can be partial
         }
@@ -807,10 +1110,12 @@ public class V1UTF8StreamJsonParser
             _updateLocation();
             return _nextTokenNotInObject(i);
         }
-        // So first parse the field name itself:
+        // So first parse the field name itself (or just locate it):
         _updateNameLocation();
-        String n = _parseName(i);
-        _parsingContext.setCurrentName(n);
+        if (!_lazyDecoding || !_locateName(i)) {
+            String n = _parseName(i);
+            _parsingContext.setCurrentName(n);
+        }
         _currToken = JsonToken.FIELD_NAME;
 
         i = _skipColon();
@@ -872,6 +1177,10 @@ public class V1UTF8StreamJsonParser
         default:
             t = _handleUnexpectedValue(i);
         }
+        // name of an Array or Object is needed by child context, as parent name
+        if (_lazyNameStart >= 0 && t.isStructStart()) {
+            _finishLazyName();
+        }
         _nextToken = t;
         return _currToken;
     }
@@ -947,6 +1256,252 @@ public class V1UTF8StreamJsonParser
         }
     }
 
+    /**
+     * Method similar to {@link #skipChildren}, but that skips content of the current
+     * Array or Object without tokenizing it: only Strings (names and values) and
+     * nesting of Arrays and Objects are followed, to find the matching end marker.
+     * So skipped content is only validated that far: end markers must match,
+     * nesting depth is limited, and Strings must be closed and without unescaped
+     * control characters. Anything else invalid goes unreported, like missing or
+     * extra separators, invalid scalar values, or invalid UTF-8 and escapes in
+     * Strings. Falls back to {@link #skipChildren} if comments or single-quoted
+     * Strings are allowed, since end markers in them must not be counted.
+     *<p>
+     * As with {@link #skipChildren}, parser is left at the matching end marker.
+     */
+    public JsonParser skipChildrenUnvalidated() throws IOException
+    {
+        if (_currToken != JsonToken.START_OBJECT && _currToken != JsonToken.START_ARRAY) {
+            return this;
+        }
+        if ((_features & (FEAT_MASK_ALLOW_JAVA_COMMENTS | FEAT_MASK_ALLOW_YAML_COMMENTS
+                | FEAT_MASK_ALLOW_SINGLE_QUOTES)) != 0) {
+            return skipChildren();
+        }
+        final int[] codes = _icSkip;
+        final int outerDepth = _parsingContext.getNestingDepth();
+        final int maxDepth = _streamReadConstraints.getMaxDepth();
+        long[] stack = _skipStack;
+        if (stack == null) {
+            _skipStack = stack = new long[4];
+        }
+        int depth = 0; // of Arrays and Objects open within the skipped one
+
+        main_loop:
+        while (true) {
+            if (_inputPtr >= _inputEnd && !_loadMore()) {
+                _reportInvalidEOF(": expected close marker for "+_parsingContext.typeDesc(), null);
+            }
+            final byte[] input = _inputBuffer;
+            final int end = _inputEnd;
+            int ptr = _inputPtr;
+            while (ptr < end) {
+                final int c = input[ptr++] & 0xFF;
+                switch (codes[c]) {
+                case 0:
+                    continue;
+                case 1: // String (name or value)
+                    _inputPtr = ptr;
+                    _skipStringUnvalidated();
+                    continue main_loop;
+                case 2: // start of Array or Object
+                case 3:
+                    if (outerDepth + (++depth) > maxDepth) {
+                        _inputPtr = ptr;
+                        _reportDepthExceeded(outerDepth + depth);
+                    }
+                    if ((depth >> 6) >= stack.length) {
+                        _skipStack = stack = Arrays.copyOf(stack, stack.length << 1);
+                    }
+                    if (c == INT_LCURLY) {
+                        stack[depth >> 6] |= (1L << depth);
+                    } else {
+                        stack[depth >> 6] &= ~(1L << depth);
+                    }
+                    continue;
+                case 4: // end of Array or Object
+                case 5:
+                    _inputPtr = ptr;
+                    if (depth == 0) {
+                        _closeScope(c);
+                        return this;
+                    }
+                    final boolean inObject = (stack[depth >> 6] & (1L << depth)) != 0L;
+                    if (inObject != (c == INT_RCURLY)) {
+                        _reportMismatchedEndMarker(c, inObject ? '}' : ']');
+                    }
+                    --depth;
+                    continue;
+                case 6: // linefeed
+                    ++_currInputRow;
+                    _currInputRowStart = ptr;
+                    continue;
+                default: // carriage return, possibly followed by linefeed
+                    _inputPtr = ptr;
+                    _skipCR();
+                    continue main_loop;
+                }
+            }
+            _inputPtr = ptr;
+        }
+    }
+
+    /*
+    /**********************************************************
+    /* Public API, traversal, token batches
+    /**********************************************************
+     */
+
+    /**
+     * Method for reading a batch of tokens with one call, without decoding their
+     * text: for each token, its id (one of {@link com.fasterxml.jackson.core.JsonTokenId}
+     * constants) and its byte offset and length in content are stored in given arrays.
+     * Offsets and lengths of names and String values include quotes; text is as it is
+     * in content, escapes included. Offsets are from the start of content (as with
+     * {@link #getTokenLocation()}), so content may not be longer than 2 GB.
+     *<p>
+     * After the call the parser points to the last token read, as if it had been read
+     * with {@link #nextToken()}: accessors work for it, and calls can be mixed. If end of
+     * content was reached, there is no current token, as after {@code nextToken()}
+     * returns {@code null}.
+     *<p>
+     * Names are only located, and decoded if accessed, unless they are not plain ASCII
+     * or span input buffers (or are names of Arrays and Objects, needed by child contexts).
+     *
+     * @param tokenIds Array to store ids of tokens in
+     * @param offsets Array to store offsets of tokens in
+     * @param lengths Array to store lengths of tokens in
+     * @param max Maximum number of tokens to read; at least 2, as a field name is
+     *    read along with its value, and at most the length of each array
+     *
+     * @return Number of tokens read: fewer than {@code max} at end of content, or when
+     *    there is room for a field name but not for its value; 0 only at end of content
+     */
+    public int nextTokens(int[] tokenIds, int[] offsets, int[] lengths, int max) throws IOException
+    {
+        if (_tokenBatchReader == null) {
+            _tokenBatchReader = new BatchReader();
+        }
+        return _tokenBatchReader.nextTokens(tokenIds, offsets, lengths, max);
+    }
+
+    /**
+     * Steps of {@link #nextTokens}, over the input of this parser
+     */
+    private final class BatchReader extends TokenBatchReader
+    {
+        @Override
+        protected boolean nameRead() {
+            return _currToken == JsonToken.FIELD_NAME;
+        }
+
+        @Override
+        protected JsonToken valueAfterName() throws IOException {
+            return _nextAfterName();
+        }
+
+        @Override
+        protected boolean skipIncompleteString() throws IOException {
+            if (_tokenIncomplete) {
+                _skipString();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean finishIncompleteString() throws IOException {
+            if (_tokenIncomplete) {
+                _tokenIncomplete = false;
+                _finishString();
+                return true;
+            }
+            return false;
+        }
+
+        @Override
+        protected boolean inObject() {
+            return _parsingContext.inObject();
+        }
+
+        @Override
+        protected int skipWSOrEnd() throws IOException {
+            _numTypesValid = NR_UNKNOWN;
+            _lazyNumberStart = -1;
+            int i = _skipWSOrEnd();
+            if (i < 0) { // end-of-input
+                close();
+                _currToken = null;
+                return i;
+            }
+            _binaryValue = null;
+            return i;
+        }
+
+        @Override
+        protected boolean expectComma() {
+            return _parsingContext.expectComma();
+        }
+
+        @Override
+        protected int skipComma(int i) throws IOException {
+            if (i != INT_COMMA) {
+                _reportUnexpectedChar(i, "was expecting comma to separate "+_parsingContext.typeDesc()+" entries");
+            }
+            return _skipWS();
+        }
+
+        @Override
+        protected boolean allowTrailingComma() {
+            return (_features & FEAT_MASK_TRAILING_COMMA) != 0;
+        }
+
+        @Override
+        protected JsonToken closeScope(int i) throws IOException {
+            return _closeScope(i);
+        }
+
+        @Override
+        protected void name(int i) throws IOException {
+            _updateNameLocation();
+            if (!_locateName(i)) {
+                _parsingContext.setCurrentName(_parseName(i));
+            }
+            _nameCopied = false;
+        }
+
+        @Override
+        protected int skipColon() throws IOException {
+            return _skipColon();
+        }
+
+        @Override
+        protected JsonToken value(int i) throws IOException {
+            // name of an Array or Object is needed by child context, as parent name
+            if (_lazyNameStart >= 0 && (i == INT_LBRACKET || i == INT_LCURLY)) {
+                _finishLazyName();
+            }
+            _updateLocation();
+            return _nextTokenNotInObject(i);
+        }
+
+        @Override
+        protected long inputOffset() {
+            return _currInputProcessed + _inputPtr;
+        }
+
+        @Override
+        protected long tokenStart() {
+            return _tokenInputTotal - 1;
+        }
+
+        @Override
+        protected int numberLength() {
+            // either located, or copied to text buffer
+            return (_lazyNumberStart >= 0) ? (_lazyNumberEnd - _lazyNumberStart) : _textBuffer.size();
+        }
+    }
+
     /*
     /**********************************************************
     /* Public API, traversal, nextXxxValue/nextFieldName
@@ -962,6 +1517,7 @@ public class V1UTF8StreamJsonParser
             _nextAfterName();
             return false;
         }
+        _lazyNumberStart = -1;
         if (_tokenIncomplete) {
             _skipString();
         }
@@ -1048,6 +1604,7 @@ public class V1UTF8StreamJsonParser
             _nextAfterName();
             return null;
         }
+        _lazyNumberStart = -1;
         if (_tokenIncomplete) {
             _skipString();
         }
@@ -1491,6 +2048,10 @@ public class V1UTF8StreamJsonParser
      */
     protected JsonToken _parseUnsignedNumber(int c) throws IOException
     {
+        JsonToken t = _locateNumber(_inputPtr-1, _inputPtr-1, false);
+        if (t != null) {
+            return t;
+        }
         char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
         // One special case: if first char is 0, must not be followed by a digit
         if (c == INT_0) {
@@ -1528,8 +2089,13 @@ public class V1UTF8StreamJsonParser
         return resetInt(false, intLen);
     }
 
-    private final JsonToken _parseSignedNumber(boolean negative) throws IOException
+    protected final JsonToken _parseSignedNumber(boolean negative) throws IOException
     {
+        // sign is part of text if negative, but leading plus is not
+        JsonToken t = _locateNumber(negative ? _inputPtr-1 : _inputPtr, _inputPtr, negative);
+        if (t != null) {
+            return t;
+        }
         char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
         int outPtr = 0;
 
@@ -1796,6 +2362,250 @@ public class V1UTF8StreamJsonParser
         _reportMissingRootWS(ch);
     }
 
+    /*
+    /**********************************************************
+    /* Internal methods, on-demand decoding
+    /**********************************************************
+     */
+
+    /**
+     * Method called instead of {@link #_parseName} with on-demand decoding: name is
+     * only located, if it is plain ASCII content wholly in the input buffer.
+     *
+     * @param i First character of name
+     *
+     * @return True if name was located (and will be decoded by
+     *    {@link #_finishLazyName}); false if it is to be parsed as usual
+     */
+    protected final boolean _locateName(int i) throws IOException
+    {
+        if (i != INT_QUOTE || _parsingContext.getDupDetector() != null) {
+            return false;
+        }
+        // names are short: a byte at a time beats setting up a (vector) scan
+        final byte[] input = _inputBuffer;
+        final int[] codes = _icUTF8;
+        final int start = _inputPtr;
+        final int inputEnd = _inputEnd;
+        int end = start;
+        while (end < inputEnd && codes[input[end] & 0xFF] == 0) {
+            ++end;
+        }
+        if (end == inputEnd || input[end] != INT_QUOTE) {
+            return false;
+        }
+        _lazyNameStart = start;
+        _lazyNameEnd = end;
+        _inputPtr = end+1;
+        _parsingContext.setCurrentName(null);
+        return true;
+    }
+
+    protected final void _finishLazyName() throws IOException
+    {
+        final int start = _lazyNameStart;
+        _lazyNameStart = -1;
+        // Unless another name (parsed as usual) replaced it
+        if (_parsingContext.getCurrentName() == null) {
+            _parsingContext.setCurrentName(_decodeLocatedName(start, _lazyNameEnd));
+        }
+    }
+
+    /**
+     * Method for decoding a name located by {@link #_locateName}: as content is plain
+     * ASCII, quads are the same as {@link #_parseName} would assemble, and String can
+     * be constructed without the text buffer (which may hold the current value).
+     */
+    private final String _decodeLocatedName(int start, int end) throws IOException
+    {
+        final int len = end - start;
+        if (len == 0) {
+            return "";
+        }
+        final int qlen = _quadsOfLocatedName(start, end);
+        final int[] quads = _lazyNameQuads;
+        String name;
+        switch (qlen) {
+        case 1:
+            name = _symbols.findName(quads[0]);
+            break;
+        case 2:
+            name = _symbols.findName(quads[0], quads[1]);
+            break;
+        case 3:
+            name = _symbols.findName(quads[0], quads[1], quads[2]);
+            break;
+        default:
+            name = _symbols.findName(quads, qlen);
+        }
+        if (name == null) {
+            name = _symbols.addName(new String(_inputBuffer, start, len, StandardCharsets.ISO_8859_1),
+                    quads, qlen);
+        }
+        return name;
+    }
+
+    /**
+     * Helper method for assembling quads of a (non-empty) name located by
+     * {@link #_locateName} into {@link #_lazyNameQuads}.
+     *
+     * @return Number of quads
+     */
+    private final int _quadsOfLocatedName(int start, int end)
+    {
+        final int len = end - start;
+        final byte[] input = _inputBuffer;
+        final int qlen = (len + 3) >> 2;
+        int[] quads = _lazyNameQuads;
+        if (quads == null || quads.length < qlen) {
+            _lazyNameQuads = quads = new int[Math.max(qlen, _quadBuffer.length)];
+        }
+        int ptr = start;
+        for (int ix = 0; ix < qlen; ++ix) {
+            final int quadEnd = Math.min(ptr + 4, end);
+            int q = input[ptr++] & 0xFF;
+            while (ptr < quadEnd) {
+                q = (q << 8) | (input[ptr++] & 0xFF);
+            }
+            quads[ix] = q;
+        }
+        quads[qlen-1] = _padLastQuad(quads[qlen-1], len - ((qlen-1) << 2));
+        return qlen;
+    }
+
+    /**
+     * Method called before parsing a number as usual: number is only located (its
+     * text not copied to the text buffer), if it is wholly in the input buffer and
+     * in standard notation. Value of an integer of at most 18 digits is
+     * accumulated while scanning, so it need not be decoded from text either.
+     *<p>
+     * Number that continues past the end of input buffer is handed over to the
+     * usual methods with what was scanned of it, so its digits are not scanned
+     * again (but for a fraction or exponent, which are rescanned as they rarely
+     * are long). Anything else, like leading zeroes or invalid content, is left to
+     * the usual methods from the start.
+     *
+     * @param textStart Offset of the first character of number text
+     * @param ptr Offset of the first digit
+     * @param negative Whether number has a minus sign
+     *
+     * @return Type of number token; {@code null} if left to the usual methods,
+     *    with input pointer unchanged
+     */
+    private final JsonToken _locateNumber(int textStart, int ptr, boolean negative) throws IOException
+    {
+        final byte[] input = _inputBuffer;
+        final int end = _inputEnd;
+        final int intStart = ptr;
+        int c = 0;
+        // overflows past 18 digits, but is then not used
+        long value = 0L;
+        while (ptr < end && (c = input[ptr] & 0xFF) >= INT_0 && c <= INT_9) {
+            value = (value * 10) + (c - INT_0);
+            ++ptr;
+        }
+        final int intLen = ptr - intStart;
+        if (intLen == 0 || (intLen > 1 && input[intStart] == '0')) {
+            return null;
+        }
+        if (ptr == end) { // continues in next buffer (or ends content)
+            // zero may be followed by digits in next buffer: usual methods check for those
+            if (input[intStart] == '0') {
+                return null;
+            }
+            final int outPtr = _copyNumberText(textStart, ptr);
+            _inputPtr = ptr;
+            return _parseNumber2(_textBuffer.getCurrentSegment(), outPtr, negative, intLen);
+        }
+        final int intEnd = ptr;
+        int fractLen = 0;
+        if (c == INT_PERIOD) {
+            final int fractStart = ++ptr;
+            while (ptr < end && (c = input[ptr] & 0xFF) >= INT_0 && c <= INT_9) {
+                ++ptr;
+            }
+            fractLen = ptr - fractStart;
+            if (ptr == end) {
+                return _parseFloatAfter(textStart, intEnd, negative, intLen);
+            }
+            if (fractLen == 0) {
+                return null;
+            }
+        }
+        int expLen = 0;
+        if (c == INT_e || c == INT_E) {
+            if (++ptr < end && (input[ptr] == '-' || input[ptr] == '+')) {
+                ++ptr;
+            }
+            final int expStart = ptr;
+            while (ptr < end && (c = input[ptr] & 0xFF) >= INT_0 && c <= INT_9) {
+                ++ptr;
+            }
+            expLen = ptr - expStart;
+            if (ptr >= end) {
+                return _parseFloatAfter(textStart, intEnd, negative, intLen);
+            }
+            if (expLen == 0) {
+                return null;
+            }
+        }
+        _inputPtr = ptr;
+        // As per #105, need separating space between root values; check here
+        if (_parsingContext.inRoot()) {
+            _verifyRootSpace(c);
+        }
+        _lazyNumberStart = textStart;
+        _lazyNumberEnd = ptr;
+        if (fractLen == 0 && expLen == 0 && intLen <= 18) {
+            return resetInt(negative, intLen, value);
+        }
+        return reset(negative, intLen, fractLen, expLen);
+    }
+
+    /**
+     * Method for handing a floating-point number that continues past the end of
+     * input buffer over to the usual methods, with its integer part as scanned.
+     *
+     * @param intEnd Offset of the character after integer part
+     */
+    private final JsonToken _parseFloatAfter(int textStart, int intEnd, boolean negative, int intLen)
+        throws IOException
+    {
+        final int outPtr = _copyNumberText(textStart, intEnd);
+        _inputPtr = intEnd + 1;
+        return _parseFloat(_textBuffer.getCurrentSegment(), outPtr, _inputBuffer[intEnd] & 0xFF,
+                negative, intLen);
+    }
+
+    /**
+     * Method for copying text of number located by {@link #_locateNumber} to the
+     * text buffer, as the usual methods would have done.
+     */
+    private final void _finishLazyNumber()
+    {
+        final int start = _lazyNumberStart;
+        _lazyNumberStart = -1;
+        _textBuffer.setCurrentLength(_copyNumberText(start, _lazyNumberEnd));
+    }
+
+    /**
+     * @return Number of characters copied to the current segment of text buffer
+     *    (which is emptied first)
+     */
+    private final int _copyNumberText(int start, int end)
+    {
+        final int len = end - start;
+        char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
+        if (outBuf.length < len) {
+            outBuf = _textBuffer.expandCurrentSegment(len);
+        }
+        final byte[] input = _inputBuffer;
+        for (int i = 0; i < len; ++i) {
+            outBuf[i] = (char) input[start + i];
+        }
+        return len;
+    }
+
     /*
     /**********************************************************
     /* Internal methods, secondary parsing
@@ -1869,7 +2679,13 @@ public class V1UTF8StreamJsonParser
         final byte[] input = _inputBuffer;
         final int[] codes = _icLatin1;
 
-        // Ok, got 5 name bytes so far
+        // Ok, got 5 name bytes so far; and caller ensured 8 more are available.
+        // If none of them ends the name, assemble quads 2 and 3 from a single word
+        final long word = SwarStringScanner.readBigEndian(input, _inputPtr);
+        if (!SwarStringScanner.hasNameStop(word)) {
+            _inputPtr += 8;
+            return parseLongName((int) word & 0xFF, (q2 << 24) | (int) (word >>> 40), (int) (word >>> 8));
+        }
         int i = input[_inputPtr++] & 0xFF;
         if (codes[i] != 0) {
             if (i == INT_QUOTE) { // 5 bytes
@@ -1956,6 +2772,22 @@ public class V1UTF8StreamJsonParser
         final int[] codes = _icLatin1;
         int qlen = 3;
 
+        // First, 8 bytes at a time as long as none ends the name: completes the current
+        // quad (of which we have the first byte), adds the next and starts one more
+        while ((_inputPtr + 8) <= _inputEnd) {
+            final long word = SwarStringScanner.readBigEndian(input, _inputPtr);
+            if (SwarStringScanner.hasNameStop(word)) {
+                break;
+            }
+            if ((qlen + 2) > _quadBuffer.length) {
+                _quadBuffer = growArrayBy(_quadBuffer, _quadBuffer.length);
+            }
+            _quadBuffer[qlen++] = (q << 24) | (int) (word >>> 40);
+            _quadBuffer[qlen++] = (int) (word >>> 8);
+            q = (int) word & 0xFF;
+            _inputPtr += 8;
+        }
+        // and then the end, a byte at a time
         while ((_inputPtr + 4) <= _inputEnd) {
             int i = input[_inputPtr++] & 0xFF;
             if (codes[i] != 0) {
@@ -2514,26 +3346,18 @@ public class V1UTF8StreamJsonParser
             _loadMoreGuaranteed();
             ptr = _inputPtr;
         }
-        int outPtr = 0;
         char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
-        final int[] codes = _icUTF8;
 
         final int max = Math.min(_inputEnd, (ptr + outBuf.length));
         final byte[] inputBuffer = _inputBuffer;
-        while (ptr < max) {
-            int c = (int) inputBuffer[ptr] & 0xFF;
-            if (codes[c] != 0) {
-                if (c == INT_QUOTE) {
-                    _inputPtr = ptr+1;
-                    _textBuffer.setCurrentLength(outPtr);
-                    return;
-                }
-                break;
-            }
-            ++ptr;
-            outBuf[outPtr++] = (char) c;
+        final int end = _stringScanner.scanAndCopy(inputBuffer, ptr, max, outBuf, 0);
+        final int outPtr = end - ptr;
+        if (end < max && inputBuffer[end] == INT_QUOTE) {
+            _inputPtr = end+1;
+            _textBuffer.setCurrentLength(outPtr);
+            return;
         }
-        _inputPtr = ptr;
+        _inputPtr = end;
         _finishString2(outBuf, outPtr);
     }
 
@@ -2546,25 +3370,17 @@ public class V1UTF8StreamJsonParser
             _loadMoreGuaranteed();
             ptr = _inputPtr;
         }
-        int outPtr = 0;
         char[] outBuf = _textBuffer.emptyAndGetCurrentSegment();
-        final int[] codes = _icUTF8;
 
         final int max = Math.min(_inputEnd, (ptr + outBuf.length));
         final byte[] inputBuffer = _inputBuffer;
-        while (ptr < max) {
-            int c = (int) inputBuffer[ptr] & 0xFF;
-            if (codes[c] != 0) {
-                if (c == INT_QUOTE) {
-                    _inputPtr = ptr+1;
-                    return _textBuffer.setCurrentAndReturn(outPtr);
-                }
-                break;
-            }
-            ++ptr;
-            outBuf[outPtr++] = (char) c;
+        final int end = _stringScanner.scanAndCopy(inputBuffer, ptr, max, outBuf, 0);
+        final int outPtr = end - ptr;
+        if (end < max && inputBuffer[end] == INT_QUOTE) {
+            _inputPtr = end+1;
+            return _textBuffer.setCurrentAndReturn(outPtr);
         }
-        _inputPtr = ptr;
+        _inputPtr = end;
         _finishString2(outBuf, outPtr);
         return _textBuffer.contentsAsString();
     }
@@ -2577,11 +3393,11 @@ public class V1UTF8StreamJsonParser
         // Here we do want to do full decoding, hence:
         final int[] codes = _icUTF8;
         final byte[] inputBuffer = _inputBuffer;
+        final StringScanner scanner = _stringScanner;
 
         main_loop:
         while (true) {
             // Then the tight ASCII non-funny-char loop:
-            ascii_loop:
             while (true) {
                 int ptr = _inputPtr;
                 if (ptr >= _inputEnd) {
@@ -2593,15 +3409,14 @@ public class V1UTF8StreamJsonParser
                     outPtr = 0;
                 }
                 final int max = Math.min(_inputEnd, (ptr + (outBuf.length - outPtr)));
-                while (ptr < max) {
-                    c = (int) inputBuffer[ptr++] & 0xFF;
-                    if (codes[c] != 0) {
-                        _inputPtr = ptr;
-                        break ascii_loop;
-                    }
-                    outBuf[outPtr++] = (char) c;
+                final int end = scanner.scanAndCopy(inputBuffer, ptr, max, outBuf, outPtr);
+                outPtr += end - ptr;
+                if (end < max) {
+                    c = (int) inputBuffer[end] & 0xFF;
+                    _inputPtr = end+1;
+                    break;
                 }
-                _inputPtr = ptr;
+                _inputPtr = end;
             }
             // Ok: end marker, escape or multi-byte?
             if (c == INT_QUOTE) {
@@ -2668,12 +3483,12 @@ public class V1UTF8StreamJsonParser
         // Need to be fully UTF-8 aware here:
         final int[] codes = _icUTF8;
         final byte[] inputBuffer = _inputBuffer;
+        final StringScanner scanner = _stringScanner;
 
         main_loop:
         while (true) {
             int c;
 
-            ascii_loop:
             while (true) {
                 int ptr = _inputPtr;
                 int max = _inputEnd;
@@ -2682,14 +3497,13 @@ public class V1UTF8StreamJsonParser
                     ptr = _inputPtr;
                     max = _inputEnd;
                 }
-                while (ptr < max) {
-                    c = (int) inputBuffer[ptr++] & 0xFF;
-                    if (codes[c] != 0) {
-                        _inputPtr = ptr;
-                        break ascii_loop;
-                    }
+                final int end = scanner.scan(inputBuffer, ptr, max);
+                if (end < max) {
+                    c = (int) inputBuffer[end] & 0xFF;
+                    _inputPtr = end+1;
+                    break;
                 }
-                _inputPtr = ptr;
+                _inputPtr = end;
             }
             // Ok: end marker, escape or multi-byte?
             if (c == INT_QUOTE) {
@@ -2720,6 +3534,40 @@ public class V1UTF8StreamJsonParser
         }
     }
 
+    /**
+     * Method for skipping a String (name or value) within content skipped by
+     * {@link #skipChildrenUnvalidated}: only finds its end, without checking
+     * escapes and multi-byte characters.
+     */
+    private final void _skipStringUnvalidated() throws IOException
+    {
+        final StringScanner scanner = _stringScanner;
+        while (true) {
+            if (_inputPtr >= _inputEnd) {
+                _loadMoreGuaranteed();
+            }
+            final byte[] input = _inputBuffer;
+            final int end = scanner.scan(input, _inputPtr, _inputEnd);
+            if (end == _inputEnd) {
+                _inputPtr = end;
+                continue;
+            }
+            final int c = input[end] & 0xFF;
+            _inputPtr = end+1;
+            if (c == INT_QUOTE) {
+                return;
+            }
+            if (c == INT_BACKSLASH) { // escaped character is never the end
+                if (_inputPtr >= _inputEnd) {
+                    _loadMoreGuaranteed();
+                }
+                ++_inputPtr;
+            } else if (c < INT_SPACE) {
+                _throwUnquotedSpace(c, "string value");
+            }
+        }
+    }
+
     /**
      * Method for handling cases where first non-space character
      * of an expected value token is not legal for standard JSON content.
@@ -3754,7 +4602,16 @@ public class V1UTF8StreamJsonParser
         ByteArrayBuilder builder = _getByteArrayBuilder();
 
         while (true) {
-            // first, we'll skip preceding white space, if any
+            // complete units in input buffer first, straight to current segment
+            final byte[] segment = builder.getCurrentSegment();
+            final int segmentLength = builder.getCurrentSegmentLength();
+            final int decoded = _base64Decoder.decode(b64variant, _inputBuffer, _inputPtr, _inputEnd,
+                    segment, segmentLength, segment.length);
+            _inputPtr += decoded;
+            builder.setCurrentSegmentLength(segmentLength + (decoded >> 2) * 3);
+
+            // then whatever stopped decoder, if anything; first, we'll skip
+            // preceding white space, if any
             int ch;
             do {
                 if (_inputPtr >= _inputEnd) {
@@ -3937,6 +4794,7 @@ public class V1UTF8StreamJsonParser
         if (!_parsingContext.inObject()) {
             _reportMismatchedEndMarker('}', ']');
         }
+        _lazyNameStart = -1; // name of closed Object no longer needed
         popParsingContext();
     }
 }
@@ -6,7 +6,6 @@ import com.fasterxml.jackson.core.io.ContentReference;
 import com.fasterxml.jackson.core.io.IOContext;
 import com.fasterxml.jackson.core.io.NumberInput;
 import com.fasterxml.jackson.core.json.DupDetector;
-import com.fasterxml.jackson.core.json.JsonReadContext;
 import com.fasterxml.jackson.core.json.PackageVersion;
 import com.fasterxml.jackson.core.util.ByteArrayBuilder;
 import com.fasterxml.jackson.core.util.JacksonFeatureSet;
@@ -15,12 +14,21 @@ import com.fasterxml.jackson.core.util.TextBuffer;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.math.BigInteger;
+import java.nio.ByteBuffer;
 import java.util.Arrays;
+import java.util.concurrent.ForkJoinPool;
 
 /**
  * Intermediate base class used by all Jackson {@link JsonParser}
  * implementations. Contains most common things that are independent
  * of actual underlying input source.
+ *<p>
+ * Differs from {@link V1ParserBase} in how nesting depth is checked: the
+ * limit is cached in a field and compared inline, instead of calling
+ * {@link NewStreamReadConstraints#validateDepth(int)} for every new context;
+ * and in the parsing context, which is a {@link LinkedJsonReadContext} unless
+ * {@link #setPooledContexts(boolean)} switches to a recycled
+ * {@link PooledJsonReadContext}.
  */
 public abstract class V2ParserBase extends ParserMinimalBase
 {
@@ -133,8 +141,9 @@ public abstract class V2ParserBase extends ParserMinimalBase
     /**
      * Information about parser context, context in which
      * the next token is to be parsed (root, array, object).
+     * A single recycled instance represents all levels.
      */
-    protected JsonReadContext _parsingContext;
+    protected ReadContextBase _parsingContext;
 
     /**
      * Secondary token related to the next token after current one;
@@ -193,6 +202,18 @@ public abstract class V2ParserBase extends ParserMinimalBase
      */
     protected int _numTypesValid = NR_UNKNOWN;
 
+    /**
+     * Value (without sign) of integer of at most 18 digits, accumulated while scanning
+     * its digits: only applied by numeric accessors once the integer is the current
+     * token, since it may be scanned ahead of a {@link JsonToken#FIELD_NAME}.
+     */
+    protected long _scannedInt;
+
+    /**
+     * Whether {@link #_scannedInt} holds value of the latest number scanned
+     */
+    protected boolean _scannedIntValid;
+
     // First primitives
 
     protected int _numberInt;
@@ -219,6 +240,12 @@ public abstract class V2ParserBase extends ParserMinimalBase
      */
     protected String _numberString;
 
+    /**
+     * Pool for converting very long numbers to {@link BigInteger} and
+     * {@link BigDecimal} in parallel, if any: see {@link #setBigNumberPool}
+     */
+    protected ForkJoinPool _bigNumberPool;
+
     // And then other information about value itself
 
     /**
@@ -247,9 +274,23 @@ public abstract class V2ParserBase extends ParserMinimalBase
      */
     protected int _expLength;
 
+    /**
+     * Maximum nesting depth, cached from {@link #_streamReadConstraints} so that
+     * the check done for every START_ARRAY/START_OBJECT needs no call.
+     */
     private final int _maxDepth;
+
+    /**
+     * Number of currently open arrays and objects
+     */
     private int _depth;
 
+    /**
+     * Whether {@link #_parsingContext} is a {@link PooledJsonReadContext} or a
+     * {@link LinkedJsonReadContext} (the default)
+     */
+    private boolean _pooledContexts;
+
     /*
     /**********************************************************
     /* Life-cycle
@@ -259,12 +300,34 @@ public abstract class V2ParserBase extends ParserMinimalBase
     protected V2ParserBase(IOContext ctxt, int features) {
         super(features);
         _ioContext = ctxt;
-        _streamReadConstraints = NewStreamReadConstraints.builder().maxDepth(Integer.MAX_VALUE).build();
+        _streamReadConstraints = NewStreamReadConstraints.builder()
+                .maxDepth(ctxt.streamReadConstraints().getMaxNestingDepth())
+                .maxNumberLength(ctxt.streamReadConstraints().getMaxNumberLength()).build();
         _maxDepth = _streamReadConstraints.getMaxDepth();
         _textBuffer = ctxt.constructReadConstrainedTextBuffer();
-        DupDetector dups = Feature.STRICT_DUPLICATE_DETECTION.enabledIn(features)
+        _parsingContext = _createRootContext();
+    }
+
+    /**
+     * Method for choosing between the default {@link LinkedJsonReadContext} and
+     * the pooled {@link PooledJsonReadContext}, to compare the two with the same
+     * depth check. Must be called before the first token is read.
+     *
+     * @param state Whether to use pooled contexts
+     */
+    public void setPooledContexts(boolean state) {
+        if (state != _pooledContexts) {
+            _parsingContext.release();
+            _pooledContexts = state;
+            _parsingContext = _createRootContext();
+        }
+    }
+
+    private ReadContextBase _createRootContext() {
+        DupDetector dups = Feature.STRICT_DUPLICATE_DETECTION.enabledIn(_features)
                 ? DupDetector.rootDetector(this) : null;
-        _parsingContext = JsonReadContext.createRootContext(dups);
+        return _pooledContexts ? PooledJsonReadContext.acquire(_maxDepth, dups)
+                : LinkedJsonReadContext.createRootContext(dups);
     }
 
     @Override public Version version() { return PackageVersion.VERSION; }
@@ -279,6 +342,16 @@ public abstract class V2ParserBase extends ParserMinimalBase
         _parsingContext.setCurrentValue(v);
     }
 
+    /**
+     * Method for specifying pool in which halves of very long numbers are
+     * converted to {@link BigInteger} and {@link BigDecimal} in parallel (see
+     * {@link BigNumberParser}); by default (null) they are converted in the
+     * calling thread.
+     */
+    public void setBigNumberPool(ForkJoinPool pool) {
+        _bigNumberPool = pool;
+    }
+
     /*
     /**********************************************************
     /* Overrides for Feature handling
@@ -365,24 +438,21 @@ public abstract class V2ParserBase extends ParserMinimalBase
     @Override public String getCurrentName() throws IOException {
         // [JACKSON-395]: start markers require information from parent
         if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
-            JsonReadContext parent = _parsingContext.getParent();
-            if (parent != null) {
-                return parent.getCurrentName();
-            }
+            return _parsingContext.getParentName();
         }
         return _parsingContext.getCurrentName();
     }
 
     @Override public void overrideCurrentName(String name) {
         // Simple, but need to look for START_OBJECT/ARRAY's "off-by-one" thing:
-        JsonReadContext ctxt = _parsingContext;
         if (_currToken == JsonToken.START_OBJECT || _currToken == JsonToken.START_ARRAY) {
-            ctxt = ctxt.getParent();
+            _parsingContext.setParentName(name);
+            return;
         }
         // 24-Sep-2013, tatu: Unfortunate, but since we did not expose exceptions,
         //   need to wrap this here
         try {
-            ctxt.setCurrentName(name);
+            _parsingContext.setCurrentName(name);
         } catch (IOException e) {
             throw new IllegalStateException(e);
         }
@@ -404,7 +474,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
     }
 
     @Override public boolean isClosed() { return _closed; }
-    @Override public JsonReadContext getParsingContext() { return _parsingContext; }
+    @Override public ReadContextBase getParsingContext() { return _parsingContext; }
 
     /**
      * Method that return the <b>starting</b> location of the current
@@ -459,6 +529,25 @@ public abstract class V2ParserBase extends ParserMinimalBase
         return _binaryValue;
     }
 
+    /**
+     * Method similar to {@link #readBinaryValue(Base64Variant, java.io.OutputStream)},
+     * but that puts decoded bytes to given buffer, from its position on (see
+     * {@link ByteBufferOutputStream#readBinaryValue}).
+     *
+     * @return Number of bytes decoded and put to buffer
+     */
+    public int readBinaryValue(Base64Variant b64variant, ByteBuffer out) throws IOException {
+        return ByteBufferOutputStream.readBinaryValue(this, b64variant, out);
+    }
+
+    /**
+     * Method similar to {@link #readBinaryValue(Base64Variant, ByteBuffer)}, using
+     * the default base64 variant.
+     */
+    public int readBinaryValue(ByteBuffer out) throws IOException {
+        return readBinaryValue(Base64Variants.getDefaultVariant(), out);
+    }
+
     /*
     /**********************************************************
     /* Public low-level accessors
@@ -498,6 +587,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
      */
     protected void _releaseBuffers() throws IOException {
         _textBuffer.releaseBuffers();
+        _parsingContext.release();
         char[] buf = _nameCopyBuffer;
         if (buf != null) {
             _nameCopyBuffer = null;
@@ -505,6 +595,46 @@ public abstract class V2ParserBase extends ParserMinimalBase
         }
     }
 
+    /**
+     * Method called by {@code reset} methods of sub-classes to get parser back to
+     * the state it was in after construction, ready for new input: if parser is not
+     * closed, current input is closed (as per {@link #close()}); location, token and
+     * number state is cleared, and the parsing context rewound to root. Buffers are
+     * kept, or reacquired from the {@link IOContext} as needed if parser was closed.
+     * Sub-classes set input and input pointers afterwards.
+     *
+     * @throws IOException If closing current input fails
+     */
+    protected void _resetState() throws IOException {
+        if (!_closed) {
+            _closeInput();
+        }
+        _closed = false;
+        _inputPtr = 0;
+        _inputEnd = 0;
+        _currInputProcessed = 0L;
+        _currInputRow = 1;
+        _currInputRowStart = 0;
+        _tokenInputTotal = 0L;
+        _tokenInputRow = 1;
+        _tokenInputCol = 0;
+        _currToken = null;
+        _lastClearedToken = null;
+        _nextToken = null;
+        _textBuffer.resetWithEmpty();
+        _nameCopied = false;
+        _binaryValue = null;
+        _numTypesValid = NR_UNKNOWN;
+        _scannedIntValid = false;
+        _numberString = null;
+        _numberBigInt = null;
+        _numberBigDecimal = null;
+        ReadContextBase root = _parsingContext.rewindToRoot();
+        // pooled context is released on close, and needs to be acquired again
+        _parsingContext = (root == null) ? _createRootContext() : root;
+        _depth = 0;
+    }
+
     /**
      * Method called when an EOF is encountered between tokens.
      * If so, it may be a legitimate EOF, but only iff there
@@ -583,9 +713,45 @@ public abstract class V2ParserBase extends ParserMinimalBase
         _fractLength = 0;
         _expLength = 0;
         _numTypesValid = NR_UNKNOWN; // to force decoding
+        _scannedIntValid = false;
         return JsonToken.VALUE_NUMBER_INT;
     }
 
+    /**
+     * Variant of {@link #resetInt(boolean, int)} for integers of at most 18 digits
+     * whose value was accumulated while scanning their digits: value is kept (see
+     * {@link #_scannedInt}), so it need not be decoded from text.
+     */
+    protected final JsonToken resetInt(boolean negative, int intLen, long value)
+        throws JsonParseException
+    {
+        resetInt(negative, intLen);
+        _scannedInt = value;
+        _scannedIntValid = true;
+        return JsonToken.VALUE_NUMBER_INT;
+    }
+
+    /**
+     * Method for setting value of current integer, of at most 18 digits: as
+     * {@code int} if it fits, otherwise as {@code long}, same as
+     * {@link #_parseNumericValue} would from text.
+     *
+     * @param value Value without sign
+     */
+    protected final void _setIntegralValue(boolean negative, int intLen, long value)
+    {
+        if (negative) {
+            value = -value;
+        }
+        if (intLen <= 9 || (intLen == 10 && value >= MIN_INT_L && value <= MAX_INT_L)) {
+            _numberInt = (int) value;
+            _numTypesValid = NR_INT;
+        } else {
+            _numberLong = value;
+            _numTypesValid = NR_LONG;
+        }
+    }
+
     protected final JsonToken resetFloat(boolean negative, int intLen, int fractLen, int expLen)
         throws JsonParseException
     {
@@ -602,6 +768,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
         _fractLength = fractLen;
         _expLength = expLen;
         _numTypesValid = NR_UNKNOWN; // to force decoding
+        _scannedIntValid = false;
         return JsonToken.VALUE_NUMBER_FLOAT;
     }
 
@@ -611,6 +778,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
         _textBuffer.resetWithString(valueStr);
         _numberDouble = value;
         _numTypesValid = NR_DOUBLE;
+        _scannedIntValid = false;
         return JsonToken.VALUE_NUMBER_FLOAT;
     }
 
@@ -900,6 +1068,10 @@ public abstract class V2ParserBase extends ParserMinimalBase
 
         // Int or float?
         if (_currToken == JsonToken.VALUE_NUMBER_INT) {
+            if (_scannedIntValid) {
+                _setIntegralValue(_numberNegative, _intLength, _scannedInt);
+                return;
+            }
             final int len = _intLength;
             // First: optimization for simple int
             if (len <= 9) {
@@ -964,7 +1136,12 @@ public abstract class V2ParserBase extends ParserMinimalBase
         // Inlined variant of: _parseNumericValue(NR_INT)
         if (_currToken == JsonToken.VALUE_NUMBER_INT) {
             if (_intLength <= 9) {
-                int i = _textBuffer.contentsAsInt(_numberNegative);
+                int i;
+                if (_scannedIntValid) {
+                    i = _numberNegative ? (int) -_scannedInt : (int) _scannedInt;
+                } else {
+                    i = _textBuffer.contentsAsInt(_numberNegative);
+                }
                 _numberInt = i;
                 _numTypesValid = NR_INT;
                 return i;
@@ -1002,8 +1179,14 @@ public abstract class V2ParserBase extends ParserMinimalBase
             // 04-Dec-2022, tatu: We can get all kinds of values here, NR_DOUBLE
             //    but also NR_INT or even NR_UNKNOWN. Shouldn't we try further
             //    deferring some typing?
-            _numberDouble = 0.0;
-            _numberString = _textBuffer.contentsAsString();
+            // Decoded right away from the text buffer, without a String
+            try {
+                _numberDouble = EiselLemireDoubleParser.parseDouble(_textBuffer.getTextBuffer(),
+                        _textBuffer.getTextOffset(), _textBuffer.size());
+            } catch (NumberFormatException nex) {
+                _wrapError("Malformed numeric value ("+_longNumberDesc(_textBuffer.contentsAsString())+")", nex);
+            }
+            _numberString = null;
             _numTypesValid = NR_DOUBLE;
         }
     }
@@ -1215,9 +1398,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
             // Let's actually parse from String representation, to avoid
             // rounding errors that non-decimal floating operations could incur
             final String numStr = _numberString == null ? getText() : _numberString;
-            _numberBigDecimal = NumberInput.parseBigDecimal(
-                    numStr,
-                    isEnabled(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER));
+            _numberBigDecimal = BigNumberParser.parseBigDecimal(numStr, _bigNumberPool);
         } else if ((_numTypesValid & NR_BIGINT) != 0) {
             _numberBigDecimal = new BigDecimal(_getBigInteger());
         } else if ((_numTypesValid & NR_LONG) != 0) {
@@ -1244,9 +1425,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
         }
         try {
             // NOTE! Length of number string has been validated earlier
-            _numberBigInt = NumberInput.parseBigInteger(
-                    _numberString,
-                    isEnabled(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER));
+            _numberBigInt = BigNumberParser.parseBigInteger(_numberString, _bigNumberPool);
         } catch (NumberFormatException nex) {
             _wrapError("Malformed numeric value ("+_longNumberDesc(_numberString)+")", nex);
         }
@@ -1268,9 +1447,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
         }
         try {
             // NOTE! Length of number string has been validated earlier
-            _numberBigDecimal = NumberInput.parseBigDecimal(
-                    _numberString,
-                    isEnabled(StreamReadFeature.USE_FAST_BIG_NUMBER_PARSER));
+            _numberBigDecimal = BigNumberParser.parseBigDecimal(_numberString, _bigNumberPool);
         } catch (NumberFormatException nex) {
             _wrapError("Malformed numeric value ("+_longNumberDesc(_numberString)+")", nex);
         }
@@ -1287,8 +1464,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
     protected double _getNumberDouble() throws JsonParseException {
         if (_numberString != null) {
             try {
-                _numberDouble = NumberInput.parseDouble(_numberString,
-                        isEnabled(StreamReadFeature.USE_FAST_DOUBLE_PARSER));
+                _numberDouble = EiselLemireDoubleParser.parseDouble(_numberString);
             } catch (NumberFormatException nex) {
                 _wrapError("Malformed numeric value ("+_longNumberDesc(_numberString)+")", nex);
             }
@@ -1323,7 +1499,7 @@ public abstract class V2ParserBase extends ParserMinimalBase
      */
 
     protected void _reportMismatchedEndMarker(int actCh, char expCh) throws JsonParseException {
-        JsonReadContext ctxt = getParsingContext();
+        ReadContextBase ctxt = getParsingContext();
         _reportError(String.format(
                 "Unexpected close marker '%s': expected '%c' (for %s starting at %s)",
                 (char) actCh, expCh, ctxt.typeDesc(),
@@ -1554,17 +1730,15 @@ public abstract class V2ParserBase extends ParserMinimalBase
     protected void _finishString() throws IOException { }
 
     protected final void createChildArrayContext(final int lineNr, final int colNr) {
-        if (_depth > _maxDepth) {
-            throw new IllegalStateException(String.format("Depth (%d) exceeds the maximum allowed depth (%d)",
-                    _depth, _maxDepth));
+        if (++_depth > _maxDepth) {
+            _reportDepthExceeded(_depth);
         }
         _parsingContext = _parsingContext.createChildArrayContext(lineNr, colNr);
     }
 
     protected final void createChildObjectContext(final int lineNr, final int colNr) {
-        if (_depth > _maxDepth) {
-            throw new IllegalStateException(String.format("Depth (%d) exceeds the maximum allowed depth (%d)",
-                    _depth, _maxDepth));
+        if (++_depth > _maxDepth) {
+            _reportDepthExceeded(_depth);
         }
         _parsingContext = _parsingContext.createChildObjectContext(lineNr, colNr);
     }
@@ -1573,4 +1747,10 @@ public abstract class V2ParserBase extends ParserMinimalBase
         _depth--;
         _parsingContext = _parsingContext.clearAndGetParent();
     }
+
+    // Kept out of line so that the context creation methods stay small enough to inline
+    protected void _reportDepthExceeded(int depth) {
+        throw new IllegalStateException(String.format("Depth (%d) exceeds the maximum allowed depth (%d)",
+                depth, _maxDepth));
+    }
 }
@@ -0,0 +1,158 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.IntVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorShuffle;
+import jdk.incubator.vector.VectorSpecies;
+
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * {@link Base64Decoder} that decodes a whole vector of bytes per step: characters
+ * are translated to 6-bit values by adding an offset chosen by range (letters,
+ * digits and the two last characters of the alphabet), which also validates them;
+ * each group of four values is then combined in an int lane, and the three bytes
+ * of all lanes are packed together with a single rearrangement. Vectors with other
+ * characters, partial vectors, char input and variants with alphabets other than
+ * the standard and URL-safe ones are handled by the table decoder.
+ *<p>
+ * Loaded reflectively by {@link Base64Decoder} so that the rest of the code does
+ * not depend on {@code jdk.incubator.vector}.
+ */
+final class VectorBase64Decoder extends Base64Decoder
+{
+    private final static VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    // same shape, so each byte vector is reinterpreted as one of these
+    private final static VectorSpecies<Integer> INT_SPECIES = VectorSpecies.of(int.class, SPECIES.vectorShape());
+
+    private final static int STEP = SPECIES.length();
+
+    // bytes of output for a full vector of input
+    private final static int OUT_STEP = (STEP >> 2) * 3;
+
+    /**
+     * Moves the three bytes of each int lane (lowest first) together, to the start
+     * of the vector; the last quarter of lanes is left with whatever
+     */
+    private final static VectorShuffle<Byte> PACK = VectorShuffle.fromOp(SPECIES,
+            i -> (i < OUT_STEP) ? (i / 3) * 4 + (i % 3) : 0);
+
+    private final static byte[] NO_CHARS = new byte[0];
+
+    /**
+     * Two last characters of the alphabet by variant, built when variant is first
+     * used; empty if alphabet is neither the standard nor the URL-safe one
+     */
+    private final static Map<Base64Variant, byte[]> LAST_CHARS = new ConcurrentHashMap<>();
+
+    private final Base64Decoder _table = Base64Decoder.table();
+
+    @Override
+    public int decode(Base64Variant variant, byte[] input, int ptr, int end,
+            byte[] output, int outPtr, int outEnd) {
+        final byte[] lastChars = _lastChars(variant);
+        if (lastChars.length == 0) {
+            return _table.decode(variant, input, ptr, end, output, outPtr, outEnd);
+        }
+        final byte char62 = lastChars[0], char63 = lastChars[1];
+        final int start = ptr;
+        // full vectors are written, so there must be room for all of it
+        final int last = end - STEP;
+        final int outLast = outEnd - STEP;
+        while (ptr <= last && outPtr <= outLast) {
+            final ByteVector chars = ByteVector.fromArray(SPECIES, input, ptr);
+            // bytes are signed, so those of multi-byte characters are in no range
+            final VectorMask<Byte> upper = chars.compare(VectorOperators.GE, (byte) 'A')
+                    .and(chars.compare(VectorOperators.LE, (byte) 'Z'));
+            final VectorMask<Byte> lower = chars.compare(VectorOperators.GE, (byte) 'a')
+                    .and(chars.compare(VectorOperators.LE, (byte) 'z'));
+            final VectorMask<Byte> digit = chars.compare(VectorOperators.GE, (byte) '0')
+                    .and(chars.compare(VectorOperators.LE, (byte) '9'));
+            final VectorMask<Byte> is62 = chars.eq(char62);
+            final VectorMask<Byte> is63 = chars.eq(char63);
+            final VectorMask<Byte> valid = upper.or(lower).or(digit).or(is62).or(is63);
+            if (!valid.allTrue()) {
+                // complete units before the first other character, if any
+                final int units = valid.not().firstTrue() >> 2;
+                ptr += _table.decode(variant, input, ptr, ptr + (units << 2), output, outPtr, outEnd);
+                return ptr - start;
+            }
+            final ByteVector offsets = ByteVector.zero(SPECIES)
+                    .blend((byte) -'A', upper)
+                    .blend((byte) (26 - 'a'), lower)
+                    .blend((byte) (52 - '0'), digit)
+                    .blend((byte) (62 - char62), is62)
+                    .blend((byte) (63 - char63), is63);
+            final IntVector units = (IntVector) chars.add(offsets).reinterpretShape(INT_SPECIES, 0);
+            // first character of unit is the lowest byte of lane
+            final IntVector bits = units.and(0x3F).lanewise(VectorOperators.LSHL, 18)
+                    .or(units.lanewise(VectorOperators.LSHR, 8).and(0x3F).lanewise(VectorOperators.LSHL, 12))
+                    .or(units.lanewise(VectorOperators.LSHR, 16).and(0x3F).lanewise(VectorOperators.LSHL, 6))
+                    .or(units.lanewise(VectorOperators.LSHR, 24));
+            // and first byte of output the highest of the 24 bits: swap to lowest
+            final IntVector swapped = bits.lanewise(VectorOperators.LSHR, 16)
+                    .or(bits.and(0xFF00))
+                    .or(bits.and(0xFF).lanewise(VectorOperators.LSHL, 16));
+            ((ByteVector) swapped.reinterpretShape(SPECIES, 0)).rearrange(PACK).intoArray(output, outPtr);
+            ptr += STEP;
+            outPtr += OUT_STEP;
+        }
+        return ptr - start + _table.decode(variant, input, ptr, end, output, outPtr, outEnd);
+    }
+
+    @Override
+    public int decode(Base64Variant variant, char[] input, int ptr, int end,
+            byte[] output, int outPtr, int outEnd) {
+        return _table.decode(variant, input, ptr, end, output, outPtr, outEnd);
+    }
+
+    private static byte[] _lastChars(Base64Variant variant) {
+        byte[] lastChars = LAST_CHARS.get(variant);
+        if (lastChars == null) {
+            if (_hasAlphabet(variant, '+', '/')) {
+                lastChars = new byte[] { '+', '/' };
+            } else if (_hasAlphabet(variant, '-', '_')) {
+                lastChars = new byte[] { '-', '_' };
+            } else {
+                lastChars = NO_CHARS;
+            }
+            LAST_CHARS.putIfAbsent(variant, lastChars);
+        }
+        return lastChars;
+    }
+
+    /**
+     * @return Whether variant decodes letters and digits as the standard alphabet
+     *   does, and given characters as the two last values (and nothing else)
+     */
+    private static boolean _hasAlphabet(Base64Variant variant, char char62, char char63) {
+        if (variant.decodeBase64Char(char62) != 62 || variant.decodeBase64Char(char63) != 63) {
+            return false;
+        }
+        int valid = 0;
+        for (int c = 0; c < 128; ++c) {
+            final int bits = variant.decodeBase64Char(c);
+            if (bits >= 0) {
+                ++valid;
+                final int expected = (c >= 'A' && c <= 'Z') ? (c - 'A')
+                        : (c >= 'a' && c <= 'z') ? (c - 'a' + 26)
+                        : (c >= '0' && c <= '9') ? (c - '0' + 52)
+                        : -1;
+                if (expected >= 0 && bits != expected) {
+                    return false;
+                }
+            }
+        }
+        return valid == 64;
+    }
+
+    @Override
+    public String toString() {
+        return "vector(" + STEP + ")";
+    }
+}
@@ -0,0 +1,80 @@
+package org.example.jackson.bench;
+
+import jdk.incubator.vector.ByteVector;
+import jdk.incubator.vector.ShortVector;
+import jdk.incubator.vector.VectorMask;
+import jdk.incubator.vector.VectorOperators;
+import jdk.incubator.vector.VectorSpecies;
+
+/**
+ * {@link StringScanner} that classifies a whole vector of bytes per step, and
+ * copies all-ASCII vectors to the output by widening them to chars. Partial
+ * vectors (at the end of the range scanned, or up to the first byte found) are
+ * handled by the scalar scanner.
+ *<p>
+ * Loaded reflectively by {@link StringScanner} so that the rest of the code does
+ * not depend on {@code jdk.incubator.vector}.
+ */
+final class VectorStringScanner extends StringScanner
+{
+    private final static VectorSpecies<Byte> SPECIES = ByteVector.SPECIES_PREFERRED;
+
+    // same shape, so each byte vector converts to two of these
+    private final static VectorSpecies<Short> CHAR_SPECIES = VectorSpecies.of(short.class, SPECIES.vectorShape());
+
+    private final static int STEP = SPECIES.length();
+
+    private final static byte BYTE_SPACE = (byte) ' ';
+    private final static byte BYTE_QUOTE = (byte) '"';
+    private final static byte BYTE_BACKSLASH = (byte) '\\';
+
+    private final StringScanner _scalar = StringScanner.scalar();
+
+    @Override
+    public int scan(byte[] input, int ptr, int end) {
+        final int last = end - STEP;
+        while (ptr <= last) {
+            VectorMask<Byte> stops = _stops(ByteVector.fromArray(SPECIES, input, ptr));
+            if (stops.anyTrue()) {
+                return ptr + stops.firstTrue();
+            }
+            ptr += STEP;
+        }
+        return _scalar.scan(input, ptr, end);
+    }
+
+    @Override
+    public int scanAndCopy(byte[] input, int ptr, int end, char[] output, int outPtr) {
+        final int last = end - STEP;
+        while (ptr <= last) {
+            ByteVector bytes = ByteVector.fromArray(SPECIES, input, ptr);
+            VectorMask<Byte> stops = _stops(bytes);
+            if (stops.anyTrue()) {
+                return _scalar.scanAndCopy(input, ptr, ptr + stops.firstTrue(), output, outPtr);
+            }
+            // sign extension is fine, all bytes are ASCII
+            ((ShortVector) bytes.convertShape(VectorOperators.B2S, CHAR_SPECIES, 0))
+                    .intoCharArray(output, outPtr);
+            ((ShortVector) bytes.convertShape(VectorOperators.B2S, CHAR_SPECIES, 1))
+                    .intoCharArray(output, outPtr + (STEP >> 1));
+            ptr += STEP;
+            outPtr += STEP;
+        }
+        return _scalar.scanAndCopy(input, ptr, end, output, outPtr);
+    }
+
+    /**
+     * Bytes that end plain ASCII content: bytes are signed, so those of multi-byte
+     * characters (0x80 and above) are below space just like control characters.
+     */
+    private static VectorMask<Byte> _stops(ByteVector bytes) {
+        return bytes.lt(BYTE_SPACE)
+                .or(bytes.eq(BYTE_QUOTE))
+                .or(bytes.eq(BYTE_BACKSLASH));
+    }
+
+    @Override
+    public String toString() {
+        return "vector(" + STEP + ")";
+    }
+}
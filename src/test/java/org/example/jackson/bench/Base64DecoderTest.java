@@ -0,0 +1,217 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.Base64Variant;
+import com.fasterxml.jackson.core.Base64Variants;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.BufferOverflowException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Base64;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that all available {@link Base64Decoder}s decode runs of complete units
+ * like the JDK does, stopping at the same places (vector one is only tested if
+ * {@code jdk.incubator.vector} is added); and that in-tree parsers read binary
+ * values like stock parsers, as byte arrays, to streams and to buffers.
+ */
+public class Base64DecoderTest {
+    private final static Base64Variant REVERSED = new Base64Variant("reversed",
+            "zyxwvutsrqponmlkjihgfedcbaZYXWVUTSRQPONMLKJIHGFEDCBA9876543210/+", true, '=', Integer.MAX_VALUE);
+
+    private final static Base64Variant[] VARIANTS = { Base64Variants.MIME, Base64Variants.MIME_NO_LINEFEEDS,
+            Base64Variants.MODIFIED_FOR_URL, Base64Variants.PEM, REVERSED };
+
+    @Test
+    void testDecodersMatchJdk() {
+        final Random rnd = new Random(64);
+        final byte[] stops = "\"\\\n= -_+/\u00e9".getBytes(StandardCharsets.UTF_8);
+        for (Base64Decoder decoder : decoders()) {
+            for (int round = 0; round < 3000; ++round) {
+                final boolean url = rnd.nextBoolean();
+                final Base64Variant variant = url ? Base64Variants.MODIFIED_FOR_URL : Base64Variants.MIME_NO_LINEFEEDS;
+                final byte[] data = new byte[rnd.nextInt(300) * 3];
+                rnd.nextBytes(data);
+                final byte[] input = (url ? Base64.getUrlEncoder() : Base64.getEncoder()).encode(data);
+                // maybe a character that stops decoder (or not, if in alphabet)
+                if (input.length > 0 && rnd.nextBoolean()) {
+                    input[rnd.nextInt(input.length)] = stops[rnd.nextInt(stops.length)];
+                }
+                final int ptr = rnd.nextInt(input.length + 1) & ~3;
+                final int end = ptr + rnd.nextInt(input.length - ptr + 1);
+                final int room = rnd.nextBoolean() ? data.length : rnd.nextInt(data.length + 1);
+                final String msg = decoder + " round " + round;
+
+                final int expected = decoded(input, ptr, end, room, url);
+                final byte[] output = new byte[room + 1];
+                assertEquals(expected, decoder.decode(variant, input, ptr, end, output, 1, output.length), msg);
+                final byte[] outputOfChars = new byte[room + 1];
+                final char[] chars = new String(input, StandardCharsets.ISO_8859_1).toCharArray();
+                assertEquals(expected, decoder.decode(variant, chars, ptr, end, outputOfChars, 1, output.length), msg);
+                final byte[] expectedBytes = (url ? Base64.getUrlDecoder() : Base64.getDecoder())
+                        .decode(Arrays.copyOfRange(input, ptr, ptr + expected));
+                assertArrayEquals(expectedBytes, Arrays.copyOfRange(output, 1, 1 + expectedBytes.length), msg);
+                assertArrayEquals(expectedBytes, Arrays.copyOfRange(outputOfChars, 1, 1 + expectedBytes.length), msg);
+            }
+        }
+    }
+
+    @Test
+    void testOtherAlphabetDecoded() {
+        final byte[] data = new byte[3000];
+        new Random(3).nextBytes(data);
+        final byte[] input = REVERSED.encode(data).getBytes(StandardCharsets.US_ASCII);
+        for (Base64Decoder decoder : decoders()) {
+            final byte[] output = new byte[data.length];
+            assertEquals(input.length, decoder.decode(REVERSED, input, 0, input.length, output, 0, output.length),
+                    decoder.toString());
+            assertArrayEquals(data, output, decoder.toString());
+        }
+    }
+
+    @Test
+    void testParserValuesMatchStock() throws Exception {
+        final Random rnd = new Random(25);
+        final List<byte[]> values = new ArrayList<>();
+        final StringBuilder sb = new StringBuilder("[");
+        for (int len : new int[] { 0, 1, 2, 3, 4, 47, 48, 49, 1000, 1499, 1500, 1501, 2000, 7999, 100_000 }) {
+            for (Base64Variant variant : VARIANTS) {
+                final byte[] data = new byte[len];
+                rnd.nextBytes(data);
+                values.add(data);
+                sb.append(variant.encode(data, true)).append(',');
+            }
+        }
+        // an escaped character, and white space between units
+        final byte[] escaped = new byte[6000];
+        rnd.nextBytes(escaped);
+        final String encoded = Base64Variants.MIME_NO_LINEFEEDS.encode(escaped);
+        values.add(escaped);
+        sb.append('"').append(encoded, 0, 3001).append(String.format("\\u%04x", (int) encoded.charAt(3001)))
+                .append(encoded, 3002, 5000).append(" \\n\\t").append(encoded.substring(5000)).append("\"]");
+        final byte[] doc = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        for (Base64Decoder decoder : decoders()) {
+            for (ParserVariant variant : ParserVariant.values()) {
+                if (!variant.isInTree()) {
+                    continue;
+                }
+                for (int access = 0; access < 3; ++access) {
+                    final String msg = variant + ", " + decoder + ", access " + access;
+                    try (JsonParser p = variant.createParser(doc)) {
+                        if (p instanceof V1UTF8StreamJsonParser) {
+                            ((V1UTF8StreamJsonParser) p).setBase64Decoder(decoder);
+                        } else if (p instanceof V1ReaderBasedJsonParser) {
+                            ((V1ReaderBasedJsonParser) p).setBase64Decoder(decoder);
+                        }
+                        assertEquals(JsonToken.START_ARRAY, p.nextToken(), msg);
+                        for (int i = 0; i < values.size(); ++i) {
+                            assertEquals(JsonToken.VALUE_STRING, p.nextToken(), msg);
+                            final Base64Variant b64variant = (i < values.size() - 1)
+                                    ? VARIANTS[i % VARIANTS.length] : Base64Variants.MIME_NO_LINEFEEDS;
+                            assertArrayEquals(values.get(i), binary(p, b64variant, access), msg + ", value " + i);
+                        }
+                        assertEquals(JsonToken.END_ARRAY, p.nextToken(), msg);
+                    }
+                }
+            }
+        }
+    }
+
+    @Test
+    void testInvalidContentFailsAsStock() throws Exception {
+        for (String value : new String[] { "QUJD\u00e9", "QU=D", "QUJDR", "QUJD!UJD", "QQ", "QUJDRA=x" }) {
+            final byte[] doc = ("[\"" + value + "\"]").getBytes(StandardCharsets.UTF_8);
+            for (ParserVariant variant : ParserVariant.values()) {
+                if (variant.stockCounterpart() != null) {
+                    assertEquals(failure(variant.stockCounterpart(), doc), failure(variant, doc),
+                            variant + ", " + value);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testBufferOverflow() throws Exception {
+        final byte[] doc = ("[\"" + Base64Variants.MIME_NO_LINEFEEDS.encode(new byte[5000]) + "\"]")
+                .getBytes(StandardCharsets.UTF_8);
+        try (V1UTF8StreamJsonParser p = (V1UTF8StreamJsonParser) ParserVariant.V1_UTF8_STREAM.createParser(doc)) {
+            p.nextToken();
+            p.nextToken();
+            assertThrows(BufferOverflowException.class, () -> p.readBinaryValue(ByteBuffer.allocate(4999)));
+        }
+    }
+
+    private static List<Base64Decoder> decoders() {
+        final List<Base64Decoder> result = new ArrayList<>(Arrays.asList(Base64Decoder.table()));
+        if (Base64Decoder.vector() != null) {
+            result.add(Base64Decoder.vector());
+        }
+        return result;
+    }
+
+    /**
+     * @return Number of input bytes of complete units with characters of the
+     *   alphabet only, from {@code ptr} on, with room for given number of output bytes
+     */
+    private static int decoded(byte[] input, int ptr, int end, int room, boolean url) {
+        final String alphabet = "ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz0123456789" + (url ? "-_" : "+/");
+        int count = 0;
+        while (ptr + count + 4 <= end && (count / 4 + 1) * 3 <= room) {
+            for (int i = 0; i < 4; ++i) {
+                if (alphabet.indexOf(input[ptr + count + i]) < 0) {
+                    return count;
+                }
+            }
+            count += 4;
+        }
+        return count;
+    }
+
+    /**
+     * @param access How value is read: 0 as byte array, 1 to a stream, 2 to a buffer
+     */
+    private static byte[] binary(JsonParser p, Base64Variant b64variant, int access) throws Exception {
+        switch (access) {
+            case 0:
+                return p.getBinaryValue(b64variant);
+            case 1:
+                final ByteArrayOutputStream out = new ByteArrayOutputStream();
+                assertEquals(p.readBinaryValue(b64variant, out), out.size());
+                return out.toByteArray();
+            default:
+                final ByteBuffer buffer = ByteBuffer.allocate(200_000);
+                final int count = (p instanceof V1ParserBase)
+                        ? ((V1ParserBase) p).readBinaryValue(b64variant, buffer)
+                        : ((V2ParserBase) p).readBinaryValue(b64variant, buffer);
+                assertEquals(count, buffer.position());
+                return Arrays.copyOf(buffer.array(), count);
+        }
+    }
+
+    /**
+     * @return Type of exception thrown when reading value as binary, to a stream;
+     *   or null if none is
+     */
+    private static String failure(ParserVariant variant, byte[] doc) throws Exception {
+        try (JsonParser p = variant.createParser(doc)) {
+            p.nextToken();
+            p.nextToken();
+            p.readBinaryValue(new ByteArrayOutputStream());
+            return null;
+        } catch (Exception e) {
+            return e.getClass().getName();
+        }
+    }
+}
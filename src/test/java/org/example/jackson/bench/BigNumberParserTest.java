@@ -0,0 +1,160 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.example.jackson.bench.JsonUtil.createContentReference;
+import static org.example.jackson.bench.JsonUtil.createContext;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that {@link BigNumberParser} decodes exactly like JDK constructors
+ * (including what they do not accept), with and without a pool; and that
+ * in-tree parsers report the same big numbers as stock ones, also beyond default
+ * length limit when it is raised.
+ */
+public class BigNumberParserTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+
+    @Test
+    void testMatchesJdk() {
+        final Random rnd = new Random(99);
+        final List<String> numbers = new ArrayList<>();
+        for (int len : new int[] { 1, 20, 399, 400, 401, 799, 800, 801, 1000, 3333, 12_345,
+                BigNumberParser.PARALLEL_THRESHOLD + 1, 70_000 }) {
+            final String digits = digits(rnd, len);
+            numbers.add(digits);
+            numbers.add("-" + digits);
+            numbers.add("+" + digits);
+            numbers.add("000" + digits);
+            numbers.add("-" + digits.substring(0, len / 3) + "." + digits.substring(len / 3) + "e-17");
+            numbers.add(digits.substring(0, len / 2) + "." + digits.substring(len / 2) + "E+" + len);
+            numbers.add("." + digits);
+            numbers.add(digits + ".");
+            numbers.add(digits + "e" + Integer.MAX_VALUE);
+            numbers.add("0." + digits + "e-" + Integer.MAX_VALUE);
+            numbers.add(digits + "e99999999999");
+            // not in number syntax
+            numbers.add(digits + "x");
+            numbers.add(digits + "e");
+            numbers.add(digits + "e+-1");
+            numbers.add(digits + "..1");
+            numbers.add("--" + digits);
+        }
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            for (String number : numbers) {
+                final String msg = number.substring(0, Math.min(number.length(), 50)) + ", length " + number.length();
+                final String bigInteger = parsed(() -> new BigInteger(number));
+                assertEquals(bigInteger, parsed(() -> BigNumberParser.parseBigInteger(number, null)), msg);
+                assertEquals(bigInteger, parsed(() -> BigNumberParser.parseBigInteger(number, pool)), msg);
+                final String bigDecimal = parsed(() -> new BigDecimal(number));
+                assertEquals(bigDecimal, parsed(() -> BigNumberParser.parseBigDecimal(number, null)), msg);
+                assertEquals(bigDecimal, parsed(() -> BigNumberParser.parseBigDecimal(number, pool)), msg);
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testParserValuesMatchStock() throws Exception {
+        final Random rnd = new Random(5);
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 50; ++i) {
+            final String digits = digits(rnd, 900 + i);
+            sb.append((i > 0) ? "," : "").append((i % 2 == 0) ? "-" : "").append(digits).append(',')
+                    .append(digits, 0, 300).append('.').append(digits, 300, digits.length())
+                    .append((i % 3 == 0) ? "e-5" : "");
+        }
+        final byte[] doc = sb.append(']').toString().getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (variant.stockCounterpart() != null) {
+                assertEquals(bigNumbers(variant.stockCounterpart().createParser(doc)),
+                        bigNumbers(variant.createParser(doc)), variant.name());
+            }
+        }
+    }
+
+    @Test
+    void testRaisedLengthLimitWithPool() throws Exception {
+        final String digits = digits(new Random(3), 3 * BigNumberParser.PARALLEL_THRESHOLD);
+        final byte[] doc = ("[" + digits + ",1." + digits + "]").getBytes(StandardCharsets.UTF_8);
+        final StreamReadConstraints constraints = StreamReadConstraints.builder()
+                .maxNumberLength(doc.length).build();
+        final ForkJoinPool pool = new ForkJoinPool(2);
+        try (V1UTF8StreamJsonParser p = new V1UTF8StreamJsonParser(
+                createContext(createContentReference(doc), true, constraints), FACTORY.getParserFeatures(),
+                new ByteArrayInputStream(doc), null, ByteQuadsCanonicalizer.createRoot().makeChild(0),
+                new byte[1000], 0, 0, false)) {
+            p.setBigNumberPool(pool);
+            assertEquals(JsonToken.START_ARRAY, p.nextToken());
+            assertEquals(JsonToken.VALUE_NUMBER_INT, p.nextToken());
+            assertEquals(new BigInteger(digits), p.getBigIntegerValue());
+            assertEquals(JsonToken.VALUE_NUMBER_FLOAT, p.nextToken());
+            assertEquals(new BigDecimal("1." + digits), p.getDecimalValue());
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    private static String digits(Random rnd, int len) {
+        final StringBuilder sb = new StringBuilder(len);
+        sb.append((char) ('1' + rnd.nextInt(9)));
+        for (int i = 1; i < len; ++i) {
+            sb.append((char) ('0' + rnd.nextInt(10)));
+        }
+        return sb.toString();
+    }
+
+    private interface Parse {
+        Object parse();
+    }
+
+    /**
+     * @return Parsed value, with scale for BigDecimals; or exception type if not
+     *    parsed
+     */
+    private static String parsed(Parse parse) {
+        try {
+            final Object value = parse.parse();
+            return (value instanceof BigDecimal) ? (value + " " + ((BigDecimal) value).scale()) : value.toString();
+        } catch (NumberFormatException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * @return Numbers as BigIntegers and BigDecimals (integers as both, BigDecimal
+     *    accessed first)
+     */
+    private static List<String> bigNumbers(JsonParser p) throws Exception {
+        final List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.VALUE_NUMBER_INT) {
+                    result.add(p.getDecimalValue() + " " + p.getBigIntegerValue());
+                } else if (t == JsonToken.VALUE_NUMBER_FLOAT) {
+                    result.add(p.getDecimalValue().toString());
+                }
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+}
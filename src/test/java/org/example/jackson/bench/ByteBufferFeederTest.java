@@ -0,0 +1,172 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.util.JsonParserDelegate;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that {@link V1NonBlockingByteBufferJsonParser} fed in chunks reads content
+ * like the stock stream parser, from direct buffers and from heap buffers whose
+ * content starts at non-zero positions and array offsets; also when chunks are
+ * fed at once, before earlier ones have been consumed.
+ */
+public class ByteBufferFeederTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+
+    private final static byte[] DOC = (ParserEquivalenceTest.MIXED_DOC + " "
+            + JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 20)).getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testChunkedBuffersMatchStock() throws Exception {
+        final List<String> expected = ParserEquivalenceTest.tokens(ParserVariant.UTF8_STREAM, DOC);
+        for (boolean direct : new boolean[] { false, true }) {
+            for (int chunkSize : new int[] { 1, 7, 500, DOC.length }) {
+                final String msg = (direct ? "direct" : "heap") + " chunks of " + chunkSize;
+                try (JsonParser p = createParser()) {
+                    assertEquals(expected, tokens(p, direct, chunkSize), msg);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testQueuedBuffersMatchStock() throws Exception {
+        final List<String> expected = ParserEquivalenceTest.tokens(ParserVariant.UTF8_STREAM, DOC);
+        for (boolean direct : new boolean[] { false, true }) {
+            for (int chunkSize : new int[] { 1, 7, 500 }) {
+                final String msg = (direct ? "direct" : "heap") + " chunks of " + chunkSize;
+                final ByteBuffer[] buffers = new ByteBuffer[(DOC.length + chunkSize - 1) / chunkSize];
+                for (int i = 0; i < buffers.length; ++i) {
+                    final int offset = i * chunkSize;
+                    buffers[i] = buffer(DOC, offset, Math.min(chunkSize, DOC.length - offset), direct);
+                }
+                try (V1NonBlockingByteBufferJsonParser p = createParser()) {
+                    // half of them at once, then the rest one by one after some tokens
+                    final int half = buffers.length / 2;
+                    p.feedInput(Arrays.copyOf(buffers, half));
+                    final List<String> actual = new ArrayList<>();
+                    for (int i = 0; i < 3; ++i) {
+                        actual.add(ParserEquivalenceTest.describe(p.nextToken(), p));
+                    }
+                    for (int i = half; i < buffers.length; ++i) {
+                        p.feedInput(buffers[i]);
+                    }
+                    p.endOfInput();
+                    actual.addAll(ParserEquivalenceTest.tokens(p));
+                    assertEquals(expected, actual, msg);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testReleaseBuffered() throws Exception {
+        final byte[] doc = "[1,2] {\"a\":3}".getBytes(StandardCharsets.UTF_8);
+        try (V1NonBlockingByteBufferJsonParser p = createParser()) {
+            final ByteBuffer buffer = buffer(doc, 0, doc.length, true);
+            final int position = buffer.position();
+            p.feedInput(buffer);
+            for (int i = 0; i < 4; ++i) {
+                p.nextToken();
+            }
+            // input is read in place, buffer position is left as is
+            assertEquals(position, buffer.position());
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(doc.length - 5, p.releaseBuffered(out));
+            assertArrayEquals(" {\"a\":3}".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        }
+    }
+
+    @Test
+    void testReleaseBufferedWithQueuedBuffers() throws Exception {
+        final byte[] doc = "[1,2] {\"a\":3}".getBytes(StandardCharsets.UTF_8);
+        try (V1NonBlockingByteBufferJsonParser p = createParser()) {
+            p.feedInput(buffer(doc, 0, 4, false), buffer(doc, 4, 3, true), buffer(doc, 7, doc.length - 7, false));
+            for (int i = 0; i < 4; ++i) {
+                p.nextToken();
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            assertEquals(doc.length - 5, p.releaseBuffered(out));
+            assertArrayEquals(" {\"a\":3}".getBytes(StandardCharsets.UTF_8), out.toByteArray());
+        }
+    }
+
+    private static V1NonBlockingByteBufferJsonParser createParser() {
+        return new V1NonBlockingByteBufferJsonParser(
+                JsonUtil.createContext(JsonUtil.createContentReference(DOC), true), FACTORY.getParserFeatures(),
+                ByteQuadsCanonicalizer.createRoot().makeChild(JsonFactory.Feature.collectDefaults()));
+    }
+
+    private static List<String> tokens(JsonParser p, boolean direct, int chunkSize) throws Exception {
+        final V1NonBlockingByteBufferJsonParser parser = (V1NonBlockingByteBufferJsonParser) p;
+        final NotAvailableAsEnd tokenSource = new NotAvailableAsEnd(p);
+        final List<String> result = new ArrayList<>();
+        int fed = 0;
+        while (true) {
+            result.addAll(ParserEquivalenceTest.tokens(tokenSource));
+            if (!tokenSource.needsInput) {
+                return result;
+            }
+            if (fed < DOC.length) {
+                final int len = Math.min(chunkSize, DOC.length - fed);
+                parser.feedInput(buffer(DOC, fed, len, direct));
+                fed += len;
+            } else {
+                parser.endOfInput();
+            }
+        }
+    }
+
+    /**
+     * @return Buffer with given content between its position and limit; heap ones
+     *    also have a non-zero array offset
+     */
+    private static ByteBuffer buffer(byte[] content, int offset, int len, boolean direct) {
+        if (direct) {
+            ByteBuffer buffer = ByteBuffer.allocateDirect(len + 3);
+            buffer.position(3);
+            buffer.put(content, offset, len);
+            buffer.position(3);
+            return buffer;
+        }
+        // 2 bytes before the slice, 3 before content within it
+        byte[] array = new byte[len + 5];
+        System.arraycopy(content, offset, array, 5, len);
+        ByteBuffer buffer = ByteBuffer.wrap(array, 2, len + 3).slice();
+        buffer.position(3);
+        return buffer;
+    }
+
+    /**
+     * Delegate that ends iteration when the parser needs more input, so that
+     * tokens can be collected between feeds.
+     */
+    private static class NotAvailableAsEnd extends JsonParserDelegate {
+        boolean needsInput;
+
+        NotAvailableAsEnd(JsonParser p) {
+            super(p);
+        }
+
+        @Override
+        public JsonToken nextToken() throws IOException {
+            final JsonToken t = delegate.nextToken();
+            needsInput = (t == JsonToken.NOT_AVAILABLE);
+            return needsInput ? null : t;
+        }
+    }
+}
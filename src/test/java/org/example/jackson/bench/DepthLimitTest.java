@@ -0,0 +1,58 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that every in-tree parser accepts nesting up to exactly the maximum
+ * depth, and rejects one level more; both for the
+ * {@link NewStreamReadConstraints#validateDepth(int)} check in {@link V1ParserBase}
+ * and the cached check in {@link V2ParserBase}.
+ */
+public class DepthLimitTest {
+    private final static int MAX_DEPTH = 50;
+
+    private final static StreamReadConstraints CONSTRAINTS =
+            StreamReadConstraints.builder().maxNestingDepth(MAX_DEPTH).build();
+
+    @Test
+    void testLimitEnforcedAtMaxDepth() throws Exception {
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (!variant.isInTree()) {
+                continue;
+            }
+            for (JsonUtil.NestingShape shape : new JsonUtil.NestingShape[] {
+                    JsonUtil.NestingShape.ARRAYS, JsonUtil.NestingShape.OBJECTS, JsonUtil.NestingShape.ALTERNATING }) {
+                final byte[] atLimit = JsonUtil.createNestedDoc(shape, MAX_DEPTH).getBytes(StandardCharsets.UTF_8);
+                final byte[] overLimit = JsonUtil.createNestedDoc(shape, MAX_DEPTH + 1).getBytes(StandardCharsets.UTF_8);
+                assertDoesNotThrow(() -> parseAll(variant, atLimit));
+                assertThrows(IllegalStateException.class, () -> parseAll(variant, overLimit),
+                        variant + " " + shape);
+            }
+        }
+    }
+
+    @Test
+    void testDepthReleasedOnClose() throws Exception {
+        // siblings at the limit must not accumulate depth
+        final String sibling = JsonUtil.createNestedDoc(JsonUtil.NestingShape.ARRAYS, MAX_DEPTH - 1);
+        final byte[] doc = ("[" + sibling + "," + sibling + "," + sibling + "]").getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (variant.isInTree()) {
+                assertDoesNotThrow(() -> parseAll(variant, doc));
+            }
+        }
+    }
+
+    private static void parseAll(ParserVariant variant, byte[] doc) throws Exception {
+        try (JsonParser p = variant.createParser(doc, CONSTRAINTS)) {
+            while (p.nextToken() != null) { }
+        }
+    }
+}
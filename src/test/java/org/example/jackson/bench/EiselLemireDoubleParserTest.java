@@ -0,0 +1,129 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that {@link EiselLemireDoubleParser} decodes exactly like
+ * {@link Double#parseDouble} (including what it does not accept), from
+ * characters, bytes and Strings; and that in-tree parsers report the same double
+ * values as stock ones.
+ */
+public class EiselLemireDoubleParserTest {
+    @Test
+    void testMatchesJdk() {
+        final Random rnd = new Random(123);
+        for (int i = 0; i < 100_000; ++i) {
+            // shortest representations of all kinds of doubles
+            assertParsed(Double.toString(Double.longBitsToDouble(rnd.nextLong())));
+            // coordinates, as typically written
+            final double coord = rnd.nextDouble() * 360.0 - 180.0;
+            assertParsed(String.format(Locale.ROOT, "%.6f", coord));
+            assertParsed(Double.toString(coord));
+            // arbitrary digits, up to beyond mantissa of 19 digits, and exponents
+            // beyond the range of doubles
+            final StringBuilder sb = new StringBuilder(rnd.nextBoolean() ? "-" : "");
+            final int digits = 1 + rnd.nextInt(25);
+            for (int j = 0; j < digits; ++j) {
+                sb.append((char) ('0' + rnd.nextInt(10)));
+            }
+            if (rnd.nextBoolean()) {
+                sb.insert(sb.length() - rnd.nextInt(digits), '.');
+            }
+            if (rnd.nextBoolean()) {
+                sb.append(rnd.nextBoolean() ? 'e' : 'E').append(rnd.nextInt(700) - 350);
+            }
+            assertParsed(sb.toString());
+        }
+        final String[] special = {
+                "0", "-0", "-0.0", "0e99999999999", "00001.5000", ".5", "5.", "+1.5",
+                "0.000000000000000000000000000001234", "123456789012345678901234567890e-10",
+                // extremes, subnormals and overflow
+                "4.9e-324", "2.4703282292062327e-324", "2.2250738585072011e-308", "2.2250738585072014e-308",
+                "1.7976931348623157e308", "1.7976931348623158e308", "1e400", "-1e400", "1e-400",
+                // halfway between two doubles, and either side of it
+                "9007199254740993", "9007199254740993.0000000000000000001", "7.2057594037927933e16",
+                "1.00000000000000011102230246251565404236316680908203125",
+                "1.00000000000000011102230246251565404236316680908203124",
+                "1.00000000000000011102230246251565404236316680908203126",
+                // not in number syntax; some accepted by the JDK
+                "", "-", ".", "1e", "e5", "1e+", "1.2.3", "NaN", "Infinity", "0x1p3", " 1", "1 ", "1d", "1_0"
+        };
+        for (String s : special) {
+            assertParsed(s);
+        }
+    }
+
+    @Test
+    void testParserValuesMatchStock() throws Exception {
+        final Random rnd = new Random(7);
+        final StringBuilder sb = new StringBuilder("{\"type\":\"LineString\",\"coordinates\":[");
+        for (int i = 0; i < 2000; ++i) {
+            sb.append((i > 0) ? "," : "").append('[').append(rnd.nextDouble() * 360.0 - 180.0)
+                    .append(',').append(String.format(Locale.ROOT, "%.7f", rnd.nextDouble() * 180.0 - 90.0))
+                    .append(',').append(rnd.nextInt(100)).append(".0e").append(rnd.nextInt(40) - 20).append(']');
+        }
+        sb.append("],\"extremes\":[1e400,-4.9e-324,1.7976931348623157e308,")
+                .append("9007199254740993.0000000000000000001,-0.0]}");
+        final byte[] doc = sb.toString().getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (variant.stockCounterpart() != null) {
+                assertEquals(doubles(variant.stockCounterpart().createParser(doc)),
+                        doubles(variant.createParser(doc)), variant.name());
+            }
+        }
+    }
+
+    private static void assertParsed(String s) {
+        final String expected = parsed(() -> Double.parseDouble(s));
+        final char[] chars = ("[" + s + "]").toCharArray();
+        assertEquals(expected, parsed(() -> EiselLemireDoubleParser.parseDouble(chars, 1, s.length())), s);
+        final byte[] bytes = ("[" + s + "]").getBytes(StandardCharsets.ISO_8859_1);
+        assertEquals(expected, parsed(() -> EiselLemireDoubleParser.parseDouble(bytes, 1, s.length())), s);
+        assertEquals(expected, parsed(() -> EiselLemireDoubleParser.parseDouble(s)), s);
+    }
+
+    private interface Parse {
+        double parse();
+    }
+
+    /**
+     * @return Bits of parsed value; or exception type if not parsed
+     */
+    private static String parsed(Parse parse) {
+        try {
+            return Long.toHexString(Double.doubleToRawLongBits(parse.parse()));
+        } catch (NumberFormatException e) {
+            return e.getClass().getName();
+        }
+    }
+
+    /**
+     * @return Values of floating-point numbers: double values (accessed first)
+     *    with text, and as BigDecimals
+     */
+    private static List<String> doubles(JsonParser p) throws Exception {
+        final List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.VALUE_NUMBER_FLOAT) {
+                    result.add(Double.doubleToRawLongBits(p.getDoubleValue()) + " " + p.getText() + " "
+                            + p.getDecimalValue());
+                }
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,59 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import com.fasterxml.jackson.core.sym.CharsToNameCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.StringReader;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+public class FieldNameModeTest {
+    @Test
+    void testCanonicalizedButNotInterned() throws Exception {
+        for (boolean utf8 : new boolean[] { true, false }) {
+            final String name = "name-" + UUID.randomUUID();
+            final String jvmCanonical = new String(name).intern();
+            final FieldNameMode mode = FieldNameMode.CANONICALIZE;
+            final ByteQuadsCanonicalizer byteRoot = mode.createBytesRoot();
+            final CharsToNameCanonicalizer charRoot = mode.createCharsRoot();
+
+            String first = parseName(mode, utf8, name, byteRoot, charRoot);
+            String second = parseName(mode, utf8, name, byteRoot, charRoot);
+            assertEquals(name, first);
+            // shared across parsers through the root symbol table...
+            assertSame(first, second);
+            // ... but not the JVM-interned instance
+            assertNotSame(jvmCanonical, first);
+
+            final FieldNameMode intern = FieldNameMode.INTERN;
+            assertSame(jvmCanonical, parseName(intern, utf8, name,
+                    intern.createBytesRoot(), intern.createCharsRoot()));
+        }
+    }
+
+    private static String parseName(FieldNameMode mode, boolean utf8, String name,
+            ByteQuadsCanonicalizer byteRoot, CharsToNameCanonicalizer charRoot) throws Exception {
+        final String doc = "{\"" + name + "\":1}";
+        final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+        try (JsonParser p = utf8
+                ? new V1UTF8StreamJsonParser(JsonUtil.createContext(JsonUtil.createContentReference(bytes), true),
+                        mode.getFactory().getParserFeatures(), new ByteArrayInputStream(bytes), null,
+                        mode.makeChild(byteRoot), new byte[1024], 0, 0, false)
+                : new V1ReaderBasedJsonParser(JsonUtil.createContext(JsonUtil.createContentReference(doc), true),
+                        mode.getFactory().getParserFeatures(), new StringReader(doc), null, mode.makeChild(charRoot))) {
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+            String result = p.getCurrentName();
+            while (p.nextToken() != null) { }
+            return result;
+        }
+    }
+}
@@ -0,0 +1,154 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.async.NonBlockingJsonParser;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that integer values accumulated while scanning digits are the same
+ * as those stock parsers decode from text: for all lengths up to and beyond
+ * {@code long}, at {@code int} and {@code long} boundaries, with value accessed
+ * before and after text, and with numbers split across input buffers and chunks.
+ */
+public class IntegerValueTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+
+    @Test
+    void testValuesMatchStock() throws Exception {
+        final byte[] doc = createDoc();
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (variant.stockCounterpart() != null) {
+                for (boolean valueFirst : new boolean[] { true, false }) {
+                    assertEquals(integers(variant.stockCounterpart().createParser(doc), valueFirst),
+                            integers(variant.createParser(doc), valueFirst), variant + ", value first " + valueFirst);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testRootValuesMatchStock() throws Exception {
+        for (String number : numbers()) {
+            // trailing space, as DataInput parsers cannot detect end of input
+            final byte[] doc = (number + " ").getBytes(StandardCharsets.UTF_8);
+            for (ParserVariant variant : ParserVariant.values()) {
+                if (variant.stockCounterpart() != null) {
+                    assertEquals(integers(variant.stockCounterpart().createParser(doc), true),
+                            integers(variant.createParser(doc), true), variant + ", " + number);
+                }
+            }
+        }
+    }
+
+    @Test
+    void testChunkedValuesMatchStock() throws Exception {
+        final byte[] doc = createDoc();
+        for (int chunkSize : new int[] { 1, 2, 3, 5, 7, 13 }) {
+            // stock parser drops sign of "-0" split from its digit, so compare with it fed alike
+            final NonBlockingJsonParser expected = new NonBlockingJsonParser(
+                    JsonUtil.createContext(JsonUtil.createContentReference(doc), true),
+                    FACTORY.getParserFeatures(),
+                    ByteQuadsCanonicalizer.createRoot().makeChild(JsonFactory.Feature.collectDefaults()));
+            final V1NonBlockingJsonParser actual = new V1NonBlockingJsonParser(
+                    JsonUtil.createContext(JsonUtil.createContentReference(doc), true),
+                    FACTORY.getParserFeatures(),
+                    ByteQuadsCanonicalizer.createRoot().makeChild(JsonFactory.Feature.collectDefaults()));
+            assertEquals(integers(new ChunkedInputFeeder(expected, doc, chunkSize)),
+                    integers(new ChunkedInputFeeder(actual, doc, chunkSize)), "chunks of " + chunkSize);
+        }
+    }
+
+    /**
+     * @return Integers of all lengths, both signs, at type boundaries
+     */
+    private static List<String> numbers() {
+        final List<String> result = new ArrayList<>();
+        final String digits = "98765432109876543210987654321";
+        for (int len = 1; len <= 22; ++len) {
+            result.add(digits.substring(0, len));
+            result.add("-" + digits.substring(0, len));
+            result.add("1" + "0".repeat(len - 1));
+            result.add("9".repeat(len));
+        }
+        for (long boundary : new long[] { Integer.MAX_VALUE, Integer.MIN_VALUE, Long.MAX_VALUE, Long.MIN_VALUE }) {
+            result.add(Long.toString(boundary - 1));
+            result.add(Long.toString(boundary));
+            result.add(Long.toString(boundary + 1));
+        }
+        result.add("0");
+        result.add("-0");
+        return result;
+    }
+
+    /**
+     * @return Array and Object of all {@link #numbers()}, repeated with varying
+     *   padding so that numbers are split at all places across input buffers
+     */
+    private static byte[] createDoc() {
+        final List<String> numbers = numbers();
+        final StringBuilder sb = new StringBuilder("[");
+        for (int round = 0; round < 40; ++round) {
+            sb.append("[");
+            for (int i = 0; i < numbers.size(); ++i) {
+                sb.append((i > 0) ? "," : "").append(" ".repeat(round % 3)).append(numbers.get(i));
+            }
+            sb.append("],{");
+            for (int i = 0; i < numbers.size(); ++i) {
+                sb.append((i > 0) ? "," : "").append("\"n\":").append(numbers.get(i));
+            }
+            sb.append("},\"").append("x".repeat(round)).append("\",");
+        }
+        return sb.append("1.5]").toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private static List<String> integers(JsonParser p, boolean valueFirst) throws Exception {
+        final List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.VALUE_NUMBER_INT) {
+                    result.add(integer(p, valueFirst));
+                }
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    private static List<String> integers(ChunkedInputFeeder feeder) throws Exception {
+        final List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = feeder.nextToken()) != null) {
+                if (t == JsonToken.VALUE_NUMBER_INT) {
+                    result.add(integer(feeder.getParser(), true));
+                }
+            }
+        } finally {
+            feeder.getParser().close();
+        }
+        return result;
+    }
+
+    /**
+     * @return Number type, value and text of current integer, in given order
+     */
+    private static String integer(JsonParser p, boolean valueFirst) throws Exception {
+        if (valueFirst) {
+            final String value = p.getNumberType() + " " + p.getNumberValue();
+            return value + " " + p.getText();
+        }
+        final String text = p.getText();
+        return p.getNumberType() + " " + p.getNumberValue() + " " + text;
+    }
+}
@@ -0,0 +1,231 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that {@link JsonPointerExtractor} reports the same values as walking
+ * all content with a stock parser and matching paths; and that
+ * {@link QuadNameSet} quads match those assembled by the parser.
+ */
+public class JsonPointerExtractorTest {
+    private final static String EVENTS = "{\"meta\":{\"id\":17,\"type\":\"order\"},\"items\":["
+            + "{\"sku\":\"a\",\"price\":1.5,\"qty\":2},{\"price\":-3,\"sku\":\"b\\u00e9\"},{\"qty\":[1,{\"price\":0}]}],"
+            + "\"payload\":" + JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 300)
+            + ",\"0\":\"zero\",\"\":[\"empty\"],\"a/b\":{\"m~n\":true}}\n"
+            + "{\"meta\":{\"type\":\"quote\",\"id\":18},\"items\":[],\"trailer\":" + ParserEquivalenceTest.MIXED_DOC + "}";
+
+    @Test
+    void testMatchesStockWalk() throws Exception {
+        final String[][] pointerSets = {
+                { "/meta/id", "/items/*/price" },
+                { "/meta", "/meta/id", "/items/0" },
+                { "/items/*/qty/1/price", "/items/1/sku", "/items/*/sku" },
+                { "/payload/250/id", "/payload/*/flag", "/trailer/nested/deeper/1/y/1/0" },
+                { "/0", "/", "/a~1b/m~0n", "/trailer/aVeryLongFieldNameThatSpansMultipleQuadsOfInput" },
+                { "/trailer/name", "/trailer/escaped", "/trailer/ints/5", "/trailer/floats/*" },
+                { "", "/meta/id" },
+                { "/*/*" },
+                { "/missing", "/items/7/price", "/meta/id/deeper" },
+        };
+        final byte[] doc = EVENTS.getBytes(StandardCharsets.UTF_8);
+        for (String[] pointers : pointerSets) {
+            for (boolean readContainers : new boolean[] { false, true }) {
+                final List<String> expected = stockWalk(pointers, doc, readContainers);
+                for (boolean validateSkipped : new boolean[] { false, true }) {
+                    final List<String> actual = new ArrayList<>();
+                    final JsonPointerExtractor extractor = new JsonPointerExtractor(Arrays.asList(pointers),
+                            validateSkipped);
+                    try (V1UTF8StreamJsonParser p = (V1UTF8StreamJsonParser) ParserVariant.V1_UTF8_STREAM
+                            .createParser(doc)) {
+                        extractor.extract(p, (ix, parser) -> actual.add(ix + " " + value(parser, readContainers)));
+                    }
+                    assertEquals(expected, actual, Arrays.toString(pointers));
+                }
+            }
+        }
+    }
+
+    @Test
+    void testUnvalidatedSkipMatchesStock() throws Exception {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int i = 0; i < 200; ++i) {
+            sb.append((i > 0) ? ",\r\n" : "").append("{\"s\":\"]}[{\\\"\\\\\",\n\"a\":[[], {\"b\":\"\u00e9\"}],")
+                    .append("\r\"n\":").append(i).append('}');
+        }
+        final byte[] doc = sb.append("]\n").toString().getBytes(StandardCharsets.UTF_8);
+        for (int skipAt = 0; skipAt < 60; ++skipAt) {
+            assertEquals(skipped(false, doc, skipAt), skipped(true, doc, skipAt), "skip at " + skipAt);
+        }
+        for (String invalid : new String[] { "[[1,{]]", "[{\"a\":[}]", "[[\"a\u0001\"]]", "[[\"abc]]", "[[1]" }) {
+            final byte[] bytes = invalid.getBytes(StandardCharsets.UTF_8);
+            assertThrows(JsonParseException.class, () -> skipped(true, bytes, 1), invalid);
+        }
+    }
+
+    @Test
+    void testInvalidPointer() {
+        assertThrows(IllegalArgumentException.class, () -> new JsonPointerExtractor(Arrays.asList("meta/id")));
+    }
+
+    @Test
+    void testQuadsMatchParser() throws Exception {
+        final List<String> names = new ArrayList<>();
+        final StringBuilder doc = new StringBuilder("{");
+        for (int len = 0; len < 40; ++len) {
+            final StringBuilder name = new StringBuilder();
+            for (int i = 0; i < len; ++i) {
+                name.append((char) ('a' + ((i * 7 + len) % 26)));
+            }
+            names.add(name.toString());
+            doc.append((len > 0) ? "," : "").append('"').append(name).append("\":").append(len);
+        }
+        doc.append(",\"unknown\":0,\"\\u0061\":1}");
+        final QuadNameSet set = new QuadNameSet(names);
+        final List<Integer> matches = new ArrayList<>();
+        try (V1UTF8StreamJsonParser p = (V1UTF8StreamJsonParser) ParserVariant.V1_UTF8_STREAM.createParser(
+                doc.toString().getBytes(StandardCharsets.UTF_8))) {
+            p.setLazyDecoding(true);
+            p.nextToken();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                matches.add(p.matchCurrentName(set));
+                p.nextToken();
+            }
+        }
+        final List<Integer> expected = new ArrayList<>();
+        for (int i = 0; i < names.size(); ++i) {
+            expected.add(i);
+        }
+        // not in set; and escaped name, matched as String
+        expected.add(-1);
+        expected.add(names.indexOf("a"));
+        assertEquals(expected, matches);
+    }
+
+    /**
+     * @return Description of tokens (with locations) after skipping the value at
+     *    given token index, and of the following token
+     */
+    private static List<String> skipped(boolean unvalidated, byte[] doc, int skipAt) throws Exception {
+        final List<String> result = new ArrayList<>();
+        try (V1UTF8StreamJsonParser p = (V1UTF8StreamJsonParser) ParserVariant.V1_UTF8_STREAM.createParser(doc)) {
+            for (int i = 0; i <= skipAt && p.nextToken() != null; ++i) { }
+            if (unvalidated) {
+                p.skipChildrenUnvalidated();
+            } else {
+                p.skipChildren();
+            }
+            for (int i = 0; i < 2 && p.currentToken() != null; ++i) {
+                result.add(describe(p.currentToken(), p) + " " + p.currentTokenLocation() + " " + p.currentLocation());
+                p.nextToken();
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Values matched by walking all content with a stock parser, tracking
+     *    the path of each value
+     */
+    private static List<String> stockWalk(String[] pointers, byte[] doc, boolean readContainers) throws Exception {
+        final List<List<String>> patterns = new ArrayList<>();
+        for (String pointer : pointers) {
+            final List<String> segments = new ArrayList<>();
+            for (JsonPointer ptr = JsonPointer.compile(pointer); !ptr.matches(); ptr = ptr.tail()) {
+                segments.add(ptr.getMatchingProperty());
+            }
+            patterns.add(segments);
+        }
+        final List<String> result = new ArrayList<>();
+        try (JsonParser p = ParserVariant.UTF8_STREAM.createParser(doc)) {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                walk(p, t, new ArrayList<>(), patterns, result, readContainers);
+            }
+        }
+        return result;
+    }
+
+    private static void walk(JsonParser p, JsonToken t, List<String> path, List<List<String>> patterns,
+            List<String> result, boolean readContainers) throws Exception {
+        for (int i = 0; i < patterns.size(); ++i) {
+            if (matches(patterns.get(i), path)) {
+                result.add(i + " " + value(p, readContainers));
+                if (p.currentToken().isStructStart()) {
+                    p.skipChildren();
+                }
+                return;
+            }
+        }
+        if (t == JsonToken.START_OBJECT) {
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                path.add(p.getCurrentName());
+                walk(p, p.nextToken(), path, patterns, result, readContainers);
+                path.remove(path.size() - 1);
+            }
+        } else if (t == JsonToken.START_ARRAY) {
+            int index = 0;
+            JsonToken value;
+            while ((value = p.nextToken()) != JsonToken.END_ARRAY) {
+                path.add(Integer.toString(index++));
+                walk(p, value, path, patterns, result, readContainers);
+                path.remove(path.size() - 1);
+            }
+        }
+    }
+
+    private static boolean matches(List<String> pattern, List<String> path) {
+        if (pattern.size() != path.size()) {
+            return false;
+        }
+        for (int i = 0; i < path.size(); ++i) {
+            if (!pattern.get(i).equals("*") && !pattern.get(i).equals(path.get(i))) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * @return Description of current value: text of scalars, tokens of Arrays and
+     *    Objects if they are to be read
+     */
+    private static String value(JsonParser p, boolean readContainers) throws IOException {
+        final JsonToken t = p.currentToken();
+        if (t.isScalarValue()) {
+            return describe(t, p);
+        }
+        if (!readContainers) {
+            return t.name();
+        }
+        final StringBuilder sb = new StringBuilder();
+        int depth = 0;
+        JsonToken curr = t;
+        do {
+            sb.append(describe(curr, p)).append('|');
+            if (curr.isStructStart()) {
+                ++depth;
+            } else if (curr.isStructEnd()) {
+                --depth;
+            }
+        } while (depth > 0 && (curr = p.nextToken()) != null);
+        return sb.toString();
+    }
+
+    private static String describe(JsonToken t, JsonParser p) throws IOException {
+        final String text = (t.isScalarValue() || t == JsonToken.FIELD_NAME) ? (" " + p.getText()) : "";
+        return t + " " + p.getCurrentName() + " " + p.getParsingContext().pathAsPointer() + text;
+    }
+}
@@ -0,0 +1,252 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadFeature;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies on-demand decoding of {@link V1UTF8StreamJsonParser} and
+ * {@link V1ReaderBasedJsonParser} where it matters: names accessed only after
+ * their value (which may have needed input buffer to be refilled), number
+ * accessors, names and numbers spanning input buffers (decoded as read), and
+ * errors. (Token streams with everything accessed right away are
+ * compared with those of stock parsers by {@link ParserEquivalenceTest}.)
+ */
+public class LazyDecodingTest {
+    private final static ParserVariant[] VARIANTS = { ParserVariant.V1_UTF8_STREAM_LAZY,
+            ParserVariant.V1_READER_LAZY };
+
+    @Test
+    void testNamesAccessedAfterValuesMatchStock() throws Exception {
+        List<byte[]> docs = new ArrayList<>();
+        docs.add(ParserEquivalenceTest.MIXED_DOC.getBytes(StandardCharsets.UTF_8));
+        docs.add(JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 300).getBytes(StandardCharsets.UTF_8));
+        // names and numbers at, and across, every position around input buffer boundaries
+        for (int pad = 0; pad < 24; ++pad) {
+            StringBuilder sb = new StringBuilder("{\"");
+            for (int i = 0; i < 1000 + pad; ++i) {
+                sb.append('x');
+            }
+            sb.append("\":0");
+            for (int i = 0; i < 400; ++i) {
+                sb.append(",\"n").append(i).append("\":").append(i % 3 == 0 ? "-1.5e3" : Integer.toString(i * 7919))
+                        .append(",\"s").append(i).append("\":\"").append(i % 2 == 0 ? "value" : "v\\u00e9")
+                        .append("\",\"o").append(i).append("\":{\"a\":[1,{\"b\":2}]}");
+            }
+            docs.add(sb.append('}').toString().getBytes(StandardCharsets.UTF_8));
+        }
+        for (ParserVariant variant : VARIANTS) {
+            for (byte[] doc : docs) {
+                assertEquals(valuesThenNames(variant.stockCounterpart().createParser(doc)),
+                        valuesThenNames(variant.createParser(doc)), variant.name());
+            }
+        }
+    }
+
+    @Test
+    void testSkippedNamesMatchStock() throws Exception {
+        final byte[] doc = ("{\"header\":{\"type\":\"order\",\"id\":42},"
+                + "\"payload\":" + JsonUtil.createNestedDoc(JsonUtil.NestingShape.OBJECTS, 200)
+                + ",\"trailer\":[1,2,3],\"last\":true}").getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : VARIANTS) {
+            assertEquals(topLevelNames(variant.stockCounterpart().createParser(doc)),
+                    topLevelNames(variant.createParser(doc)), variant.name());
+        }
+    }
+
+    @Test
+    void testNumbersMatchStock() throws Exception {
+        final byte[] doc = ("[0, -0, 0.5, -0.0, 0e1, 7, -12, 2147483648, -9223372036854775809, 1.5, -0.25e-3, 6E+23, 1e2 ,"
+                + "123456789012345678901234567890.5] 17 -3.5 ").getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : VARIANTS) {
+            assertEquals(numbers(variant.stockCounterpart().createParser(doc)),
+                    numbers(variant.createParser(doc)), variant.name());
+        }
+    }
+
+    @Test
+    void testBoundaryTokensDecodedAsRead() throws Exception {
+        final StringBuilder sb = new StringBuilder("{\"");
+        for (int i = 0; i < 5000; ++i) {
+            sb.append('x');
+        }
+        sb.append("\":[");
+        for (int i = 0; i < 1500; ++i) {
+            sb.append(i % 2 == 0 ? "0.5" : "1234567").append(',');
+        }
+        final byte[] doc = sb.append("0],\"last\":1}").toString().getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : VARIANTS) {
+            try (JsonParser p = variant.createParser(doc)) {
+                final int bufferLength = inputBufferLength(p);
+                p.nextToken();
+                // name spanning input buffers is decoded as read
+                assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+                assertEquals(-1, lazyNameStart(p), variant.name());
+                p.nextToken();
+                int located = 0;
+                while (p.nextToken().isNumeric()) {
+                    final boolean numberLocated = numberLocated(p);
+                    final long start = p.currentTokenLocation().getByteOffset() >= 0
+                            ? p.currentTokenLocation().getByteOffset() : p.currentTokenLocation().getCharOffset();
+                    // number is located if it and the following separator are in one buffer
+                    final long end = start + p.getTextLength();
+                    final boolean inBuffer = (start / bufferLength) == (end / bufferLength);
+                    assertEquals(inBuffer, numberLocated, variant + " at " + start);
+                    located += inBuffer ? 1 : 0;
+                }
+                assertTrue(located > 1400, variant.name());
+                assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+                assertTrue(lazyNameStart(p) >= 0, variant.name());
+                assertEquals("last", p.currentName());
+            }
+        }
+    }
+
+    @Test
+    void testInvalidContentFailsAsStock() throws Exception {
+        for (String doc : new String[] { "[01]", "[-]", "[1.]", "[1e]", "[1.5e+]", "[1x]", "12x",
+                "{\"a\u0001\":1}", "{\"a\":1,\"a\" 2}", "{\"abc:1}" }) {
+            final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            for (ParserVariant variant : VARIANTS) {
+                JsonParseException expected = assertThrows(JsonParseException.class,
+                        () -> valuesThenNames(variant.stockCounterpart().createParser(bytes)), doc);
+                JsonParseException actual = assertThrows(JsonParseException.class,
+                        () -> valuesThenNames(variant.createParser(bytes)), doc);
+                assertEquals(expected.getOriginalMessage(), actual.getOriginalMessage(), doc);
+            }
+        }
+    }
+
+    @Test
+    void testLeadingZeroAtBufferEndFailsAsStock() throws Exception {
+        for (ParserVariant variant : new ParserVariant[] { ParserVariant.V1_UTF8_STREAM,
+                ParserVariant.V1_UTF8_STREAM_LAZY, ParserVariant.V1_READER_LAZY }) {
+            final int bufferLength;
+            try (JsonParser p = variant.createParser(new byte[0])) {
+                bufferLength = inputBufferLength(p);
+            }
+            for (String sign : new String[] { "", "-" }) {
+                // zero is the last character of first buffer, digit the first of next
+                final StringBuilder sb = new StringBuilder("[");
+                while (sb.length() < bufferLength - 1 - sign.length()) {
+                    sb.append(' ');
+                }
+                final byte[] doc = sb.append(sign).append("01]").toString().getBytes(StandardCharsets.UTF_8);
+                JsonParseException expected = assertThrows(JsonParseException.class,
+                        () -> numbers(variant.stockCounterpart().createParser(doc)), variant.name());
+                JsonParseException actual = assertThrows(JsonParseException.class,
+                        () -> numbers(variant.createParser(doc)), variant.name());
+                assertEquals(expected.getOriginalMessage(), actual.getOriginalMessage(), variant.name());
+            }
+        }
+    }
+
+    @Test
+    void testDuplicatesDetected() throws Exception {
+        final byte[] doc = "{\"a\":1,\"b\":2,\"a\":3}".getBytes(StandardCharsets.UTF_8);
+        final JsonFactory f = JsonFactory.builder().enable(StreamReadFeature.STRICT_DUPLICATE_DETECTION).build();
+        V1UTF8StreamJsonParser p = new V1UTF8StreamJsonParser(
+                JsonUtil.createContext(JsonUtil.createContentReference(doc), true), f.getParserFeatures(),
+                new ByteArrayInputStream(doc), null, ByteQuadsCanonicalizer.createRoot().makeChild(
+                        JsonFactory.Feature.collectDefaults()), new byte[1024], 0, 0, false);
+        p.setLazyDecoding(true);
+        assertThrows(JsonParseException.class, () -> ParserEquivalenceTest.tokens(p));
+    }
+
+    private static int inputBufferLength(JsonParser p) {
+        if (p instanceof V1UTF8StreamJsonParser) {
+            return ((V1UTF8StreamJsonParser) p)._inputBuffer.length;
+        }
+        return ((V1ReaderBasedJsonParser) p)._inputBuffer.length;
+    }
+
+    private static int lazyNameStart(JsonParser p) {
+        if (p instanceof V1UTF8StreamJsonParser) {
+            return ((V1UTF8StreamJsonParser) p)._lazyNameStart;
+        }
+        return ((V1ReaderBasedJsonParser) p)._lazyNameStart;
+    }
+
+    /**
+     * @return Whether text of current number is only located in the input buffer
+     *    (shared with text buffer, for the Reader parser), rather than copied
+     */
+    private static boolean numberLocated(JsonParser p) throws Exception {
+        if (p instanceof V1UTF8StreamJsonParser) {
+            return ((V1UTF8StreamJsonParser) p)._lazyNumberStart >= 0;
+        }
+        return p.getTextCharacters() == ((V1ReaderBasedJsonParser) p)._inputBuffer;
+    }
+
+    /**
+     * @return Scalar values with their names (and paths), names only accessed
+     *    after their value, which is accessed fully
+     */
+    private static List<String> valuesThenNames(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t.isScalarValue()) {
+                    final String text = p.getText();
+                    final String number = t.isNumeric() ? (" " + p.getNumberValue()) : "";
+                    result.add(t + " " + text + number + " " + p.currentName()
+                            + " " + p.getParsingContext().pathAsPointer());
+                } else if (t == JsonToken.END_OBJECT) {
+                    result.add(t + " " + p.currentName());
+                }
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    /**
+     * @return Names of entries of the root Object, with contents of other values
+     *    skipped without accessing them
+     */
+    private static List<String> topLevelNames(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            p.nextToken();
+            while (p.nextToken() == JsonToken.FIELD_NAME) {
+                result.add(p.currentName());
+                p.nextToken();
+                p.skipChildren();
+                result.add(p.currentToken() + " " + p.currentName());
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    private static List<String> numbers(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t.isNumeric()) {
+                    result.add(p.getNumberValueDeferred() + " " + p.getNumberType());
+                }
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,87 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+
+/**
+ * Verifies that {@link V1MappedFileJsonParser} reads files like stock parsers read
+ * their content, also when tokens are split between mapped segments; and that it
+ * closes the channel when done.
+ */
+public class MappedFileParserTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+
+    @Test
+    void testSegmentedFileMatchesStock() throws Exception {
+        final byte[] doc = (ParserEquivalenceTest.MIXED_DOC + "\n"
+                + JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 20)).getBytes(StandardCharsets.UTF_8);
+        final Path file = Files.createTempFile("mapped", ".json");
+        try {
+            Files.write(file, doc);
+            final List<String> expected = ParserEquivalenceTest.tokens(ParserVariant.UTF8_STREAM, doc);
+            // token offsets are those of non-blocking parsers (which may differ by one)
+            final List<Long> expectedOffsets = tokenOffsets(ParserVariant.ASYNC.createParser(doc));
+            for (int segmentSize : new int[] { 1, 7, 64, 1000, V1MappedFileJsonParser.DEFAULT_SEGMENT_SIZE }) {
+                final String msg = "segments of " + segmentSize;
+                try (JsonParser p = createParser(file, segmentSize)) {
+                    assertEquals(expected, ParserEquivalenceTest.tokens(p), msg);
+                }
+            }
+            // (start offsets of tokens split between segments are approximate, as with
+            // any chunked non-blocking input, so only checked for a single segment)
+            assertEquals(expectedOffsets,
+                    tokenOffsets(createParser(file, V1MappedFileJsonParser.DEFAULT_SEGMENT_SIZE)));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testClosesChannel() throws Exception {
+        final Path file = Files.createTempFile("mapped", ".json");
+        try {
+            Files.write(file, "[1,2,3]".getBytes(StandardCharsets.UTF_8));
+            final FileChannel channel = FileChannel.open(file, StandardOpenOption.READ);
+            JsonParser p = new V1MappedFileJsonParser(
+                    JsonUtil.createContext(JsonUtil.createContentReference(file), true),
+                    FACTORY.getParserFeatures(),
+                    ByteQuadsCanonicalizer.createRoot().makeChild(JsonFactory.Feature.collectDefaults()), channel);
+            while (p.nextToken() != null) { }
+            assertFalse(channel.isOpen());
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private static JsonParser createParser(Path file, int segmentSize) throws Exception {
+        return new V1MappedFileJsonParser(JsonUtil.createContext(JsonUtil.createContentReference(file), true),
+                FACTORY.getParserFeatures(),
+                ByteQuadsCanonicalizer.createRoot().makeChild(JsonFactory.Feature.collectDefaults()),
+                FileChannel.open(file, StandardOpenOption.READ), segmentSize);
+    }
+
+    private static List<Long> tokenOffsets(JsonParser p) throws Exception {
+        List<Long> result = new ArrayList<>();
+        try {
+            while (p.nextToken() != null) {
+                result.add(p.currentTokenLocation().getByteOffset());
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+}
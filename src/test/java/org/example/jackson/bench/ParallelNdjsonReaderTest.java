@@ -0,0 +1,175 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Consumer;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies that {@link ParallelNdjsonReader} passes the same records as a single
+ * stock parser reads, in order if asked to, for all kinds of content sources and
+ * chunk sizes (down to one record per chunk); and that parse errors are reported.
+ */
+public class ParallelNdjsonReaderTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+
+    private final static byte[] DOC;
+    static {
+        final StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 300; ++i) {
+            switch (i % 4) {
+            case 0:
+                sb.append(JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, i % 50));
+                break;
+            case 1:
+                sb.append(ParserEquivalenceTest.MIXED_DOC);
+                break;
+            case 2:
+                sb.append(i).append("\r\n\n  \"scalar ").append(i).append('"');
+                break;
+            default:
+                sb.append(JsonUtil.createNestedDoc(JsonUtil.NestingShape.ALTERNATING, i % 20));
+            }
+            sb.append('\n');
+        }
+        DOC = sb.toString().getBytes(StandardCharsets.UTF_8);
+    }
+
+    private final static ParallelNdjsonReader.RecordMapper<String> TOKENS = p -> {
+        final StringBuilder sb = new StringBuilder();
+        JsonToken t = p.currentToken();
+        int depth = 0;
+        while (true) {
+            sb.append(t).append(' ').append(t.isScalarValue() || t == JsonToken.FIELD_NAME ? p.getText() : "")
+                    .append('|');
+            if (t.isStructStart()) {
+                ++depth;
+            } else if (t.isStructEnd()) {
+                --depth;
+            }
+            if (depth == 0) {
+                return sb.toString();
+            }
+            t = p.nextToken();
+        }
+    };
+
+    @Test
+    void testRecordsMatchStock() throws Exception {
+        final List<String> expected = stockRecords(DOC);
+        final ForkJoinPool pool = new ForkJoinPool(4);
+        try {
+            for (int chunkSize : new int[] { 1, 100, 4000, 1 << 20 }) {
+                final ParallelNdjsonReader reader = new ParallelNdjsonReader(pool, FACTORY.getParserFeatures(),
+                        chunkSize);
+                for (boolean ordered : new boolean[] { true, false }) {
+                    final String msg = "chunk size " + chunkSize + (ordered ? ", ordered" : ", unordered");
+                    // content in the middle of a larger array
+                    final byte[] data = new byte[DOC.length + 10];
+                    System.arraycopy(DOC, 0, data, 5, DOC.length);
+                    assertRecords(expected, ordered, msg, consumer -> reader.read(data, 5, DOC.length,
+                            ordered, TOKENS, consumer));
+                    final ByteBuffer direct = ByteBuffer.allocateDirect(DOC.length + 10);
+                    direct.position(3);
+                    direct.put(DOC).flip().position(3);
+                    assertRecords(expected, ordered, msg, consumer -> reader.read(direct, ordered, TOKENS, consumer));
+                    assertEquals(3, direct.position());
+                }
+            }
+        } finally {
+            pool.shutdown();
+        }
+    }
+
+    @Test
+    void testFileSegmentsMatchStock() throws Exception {
+        final List<String> expected = stockRecords(DOC);
+        final Path file = Files.createTempFile("ndjson-test", ".json");
+        final ForkJoinPool pool = new ForkJoinPool(3);
+        try {
+            Files.write(file, DOC);
+            final ParallelNdjsonReader reader = new ParallelNdjsonReader(pool, FACTORY.getParserFeatures(), 700);
+            for (int segmentSize : new int[] { 3500, 8000, 1 << 20 }) {
+                try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                    assertRecords(expected, true, "segment size " + segmentSize,
+                            consumer -> reader.read(channel, segmentSize, true, TOKENS, consumer));
+                }
+            }
+            try (FileChannel channel = FileChannel.open(file, StandardOpenOption.READ)) {
+                // a line longer than the segment
+                assertThrows(IOException.class, () -> reader.read(channel, 100, true, TOKENS, r -> { }));
+            }
+        } finally {
+            pool.shutdown();
+            Files.delete(file);
+        }
+    }
+
+    @Test
+    void testNullResultsNotPassed() throws Exception {
+        final ParallelNdjsonReader reader = new ParallelNdjsonReader(ForkJoinPool.commonPool(),
+                FACTORY.getParserFeatures(), 50);
+        final List<Object> results = new ArrayList<>();
+        // records not read by mapper are skipped
+        assertEquals(stockRecords(DOC).size(), reader.read(DOC, 0, DOC.length, true, p -> null, results::add));
+        assertEquals(Collections.emptyList(), results);
+    }
+
+    @Test
+    void testErrorsReported() throws Exception {
+        final byte[] doc = ("{\"a\":1}\n{\"b\":[1,2}\n" + new String(DOC, StandardCharsets.UTF_8))
+                .getBytes(StandardCharsets.UTF_8);
+        final ParallelNdjsonReader reader = new ParallelNdjsonReader(ForkJoinPool.commonPool(),
+                FACTORY.getParserFeatures(), 10);
+        for (boolean ordered : new boolean[] { true, false }) {
+            assertThrows(JsonParseException.class, () -> reader.read(doc, 0, doc.length, ordered, TOKENS, r -> { }));
+        }
+        // and reader (with workers that failed) can still be used
+        assertEquals(stockRecords(DOC).size(), reader.read(DOC, 0, DOC.length, true, TOKENS, r -> { }));
+    }
+
+    private interface Read {
+        long read(Consumer<String> consumer) throws Exception;
+    }
+
+    private static void assertRecords(List<String> expected, boolean ordered, String msg, Read read)
+            throws Exception {
+        final List<String> actual = new ArrayList<>();
+        assertEquals(expected.size(), read.read(actual::add), msg);
+        if (ordered) {
+            assertEquals(expected, actual, msg);
+        } else {
+            final List<String> sortedExpected = new ArrayList<>(expected);
+            Collections.sort(sortedExpected);
+            Collections.sort(actual);
+            assertEquals(sortedExpected, actual, msg);
+        }
+    }
+
+    private static List<String> stockRecords(byte[] doc) throws Exception {
+        final List<String> result = new ArrayList<>();
+        try (JsonParser p = FACTORY.createParser(doc)) {
+            while (p.nextToken() != null) {
+                result.add(TOKENS.map(p));
+            }
+        }
+        return result;
+    }
+}
@@ -10,6 +10,10 @@ import org.junit.jupiter.api.Test;
 
 import java.io.ByteArrayInputStream;
 import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
 
 public class ParseTest {
     @Test
@@ -27,4 +31,31 @@ public class ParseTest {
             }
         }
     }
+
+    @Test
+    void testChunkedAsyncParse() throws Exception {
+        final JsonFactory factory = new JsonFactory();
+        final byte[] doc = JsonUtil.createDeepNestedDoc(50).getBytes(StandardCharsets.UTF_8);
+        final ByteQuadsCanonicalizer byteQuadsCanonicalizer = ByteQuadsCanonicalizer.createRoot();
+        final List<JsonToken> expected = new ArrayList<>();
+        try (JsonParser jp = factory.createParser(doc)) {
+            JsonToken jt;
+            while ((jt = jp.nextToken()) != null) {
+                expected.add(jt);
+            }
+        }
+        for (int chunkSize : new int[] { 1, 7, 64, doc.length }) {
+            IOContext ctxt = JsonUtil.createContext(JsonUtil.createContentReference(doc), true);
+            try (JsonParser jp = new V1NonBlockingJsonParser(ctxt, factory.getParserFeatures(),
+                    byteQuadsCanonicalizer.makeChild(JsonFactory.Feature.collectDefaults()))) {
+                ChunkedInputFeeder feeder = new ChunkedInputFeeder(jp, doc, chunkSize);
+                List<JsonToken> actual = new ArrayList<>();
+                JsonToken jt;
+                while ((jt = feeder.nextToken()) != null) {
+                    actual.add(jt);
+                }
+                assertEquals(expected, actual, "chunk size " + chunkSize);
+            }
+        }
+    }
 }
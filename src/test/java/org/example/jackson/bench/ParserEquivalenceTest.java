@@ -0,0 +1,125 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.exc.StreamReadException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Callable;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that each in-tree parser produces the same token stream as the stock
+ * Jackson parser it is benchmarked against.
+ */
+public class ParserEquivalenceTest {
+    final static String MIXED_DOC = "{\"name\":\"caf\\u00e9 \u00e9t\u00e9 \u4e2d\u6587 \ud83d\ude00\","
+            + "\"escaped\":\"a\\\"b\\\\c\\nd\\te\","
+            + "\"ints\":[0,-1,12345,2147483648,-9223372036854775808,123456789012345678901234567890],"
+            + "\"floats\":[0.5,-1.25e-3,6.02E23,1e400],"
+            + "\"flags\":[true,false,null],"
+            + "\"nested\":{\"empty\":{},\"emptyArr\":[],\"deeper\":[{\"x\":1},{\"y\":[2,[3]]}]},"
+            + "\"aVeryLongFieldNameThatSpansMultipleQuadsOfInput\":\"" + repeat("0123456789", 300) + "\"}";
+
+    @Test
+    void testTokenStreamsMatchStock() throws Exception {
+        List<byte[]> docs = new ArrayList<>();
+        docs.add(MIXED_DOC.getBytes(StandardCharsets.UTF_8));
+        for (JsonUtil.NestingShape shape : JsonUtil.NestingShape.values()) {
+            for (int depth : new int[] { 1, 10, 1000 }) {
+                docs.add(JsonUtil.createNestedDoc(shape, depth).getBytes(StandardCharsets.UTF_8));
+            }
+        }
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (!variant.isInTree()) {
+                continue;
+            }
+            for (byte[] doc : docs) {
+                assertEquals(tokens(variant.stockCounterpart(), doc), tokens(variant, doc), variant.name());
+            }
+        }
+    }
+
+    @Test
+    void testNumberAccessorsOnFieldNameMatchStock() throws Exception {
+        // values are scanned ahead of names, but are not accessible until current
+        final byte[] doc = "{\"a\":12,\"b\":-3,\"c\":12345678901,\"d\":1.5}".getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : ParserVariant.values()) {
+            if (!variant.isInTree()) {
+                continue;
+            }
+            assertEquals(numberAccesses(variant.stockCounterpart(), doc), numberAccesses(variant, doc),
+                    variant.name());
+        }
+    }
+
+    private static List<String> numberAccesses(ParserVariant variant, byte[] doc) throws Exception {
+        List<String> result = new ArrayList<>();
+        try (JsonParser p = variant.createParser(doc)) {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.FIELD_NAME) {
+                    result.add(numberAccess(p::getIntValue));
+                    result.add(numberAccess(p::getNumberType));
+                } else if (t.isNumeric()) {
+                    result.add(describe(t, p));
+                }
+            }
+        }
+        return result;
+    }
+
+    private static String numberAccess(Callable<?> accessor) throws Exception {
+        try {
+            return String.valueOf(accessor.call());
+        } catch (StreamReadException e) {
+            return e.getOriginalMessage();
+        }
+    }
+
+    static List<String> tokens(ParserVariant variant, byte[] doc) throws Exception {
+        try (JsonParser p = variant.createParser(doc)) {
+            return tokens(p);
+        }
+    }
+
+    /**
+     * @return Remaining tokens of given parser, with name, path, text and number details
+     */
+    static List<String> tokens(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        JsonToken t;
+        while ((t = p.nextToken()) != null) {
+            result.add(describe(t, p));
+        }
+        return result;
+    }
+
+    /**
+     * @return Description of given token, current token of given parser
+     */
+    static String describe(JsonToken t, JsonParser p) throws Exception {
+        StringBuilder sb = new StringBuilder(t.name());
+        sb.append(' ').append(p.getCurrentName())
+                .append(' ').append(p.getParsingContext().pathAsPointer());
+        if (t.isScalarValue() || t == JsonToken.FIELD_NAME) {
+            sb.append(' ').append(p.getText());
+        }
+        if (t.isNumeric()) {
+            sb.append(' ').append(p.getNumberType()).append(' ').append(p.getNumberValue());
+        }
+        return sb.toString();
+    }
+
+    private static String repeat(String str, int count) {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < count; i++) {
+            sb.append(str);
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,115 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.StreamReadConstraints;
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.io.DataInputStream;
+import java.io.StringReader;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+
+/**
+ * Verifies that parsers reused through their {@code reset} methods produce the same
+ * tokens as new stock parsers, whether or not the earlier content was fully parsed,
+ * and that nesting depth is not carried over; and that parsing contexts are rewound
+ * without allocating.
+ */
+public class ParserResetTest {
+    private final static int MAX_DEPTH = 50;
+
+    private final static StreamReadConstraints CONSTRAINTS =
+            StreamReadConstraints.builder().maxNestingDepth(MAX_DEPTH).build();
+
+    @Test
+    void testResetMatchesNewParser() throws Exception {
+        List<byte[]> docs = new ArrayList<>();
+        docs.add(ParserEquivalenceTest.MIXED_DOC.getBytes(StandardCharsets.UTF_8));
+        for (JsonUtil.NestingShape shape : JsonUtil.NestingShape.values()) {
+            docs.add(JsonUtil.createNestedDoc(shape, MAX_DEPTH - 10).getBytes(StandardCharsets.UTF_8));
+        }
+        for (ParserVariant variant : new ParserVariant[] {
+                ParserVariant.V1_UTF8_STREAM, ParserVariant.V1_READER, ParserVariant.V1_DATA_INPUT }) {
+            JsonParser p = variant.createParser(docs.get(0), CONSTRAINTS);
+            while (p.nextToken() != null) { }
+            for (int i = 0; i < 4 * docs.size(); ++i) {
+                final byte[] doc = docs.get(i % docs.size());
+                // alternate between direct content and streams
+                final boolean direct = ((i / docs.size()) & 1) == 0;
+                if (i >= 2 * docs.size()) {
+                    // stop half way, leaving scopes open and parser not closed
+                    reset(p, doc, direct);
+                    for (int j = 0; j < MAX_DEPTH - 15; ++j) {
+                        p.nextToken();
+                    }
+                    assertFalse(p.isClosed());
+                }
+                reset(p, doc, direct);
+                assertNull(p.currentToken());
+                assertEquals(ParserEquivalenceTest.tokens(variant.stockCounterpart(), doc),
+                        ParserEquivalenceTest.tokens(p), variant + " round " + i);
+            }
+            p.close();
+        }
+    }
+
+    @Test
+    void testResetAllocatesNothing() throws Exception {
+        final com.sun.management.ThreadMXBean threads =
+                (com.sun.management.ThreadMXBean) ManagementFactory.getThreadMXBean();
+        final long tid = Thread.currentThread().getId();
+        // WIDE left out: its string values are scanned with vectors, boxed until compiled
+        for (JsonUtil.NestingShape shape : new JsonUtil.NestingShape[] {
+                JsonUtil.NestingShape.ARRAYS, JsonUtil.NestingShape.OBJECTS, JsonUtil.NestingShape.ALTERNATING }) {
+            final byte[] doc = JsonUtil.createNestedDoc(shape, MAX_DEPTH - 10).getBytes(StandardCharsets.UTF_8);
+            JsonParser p = ParserVariant.V1_UTF8_STREAM.createParser(doc, CONSTRAINTS);
+            // first rounds fill in symbol table and context children
+            for (int i = 0; i < 10; ++i) {
+                skipTokens(p, doc);
+            }
+            final JsonStreamContext root = p.getParsingContext();
+            final long before = threads.getThreadAllocatedBytes(tid);
+            for (int i = 0; i < 100; ++i) {
+                skipTokens(p, doc);
+            }
+            assertEquals(0L, threads.getThreadAllocatedBytes(tid) - before, shape + " bytes allocated");
+            assertSame(root, p.getParsingContext());
+            p.close();
+        }
+    }
+
+    private static void skipTokens(JsonParser p, byte[] doc) throws Exception {
+        reset(p, doc, true);
+        while (p.nextToken() != null) { }
+    }
+
+    private static void reset(JsonParser p, byte[] doc, boolean direct) throws Exception {
+        if (p instanceof V1UTF8StreamJsonParser) {
+            V1UTF8StreamJsonParser utf8 = (V1UTF8StreamJsonParser) p;
+            if (direct) {
+                utf8.reset(doc, 0, doc.length);
+            } else {
+                utf8.reset(new ByteArrayInputStream(doc));
+            }
+        } else if (p instanceof V1ReaderBasedJsonParser) {
+            V1ReaderBasedJsonParser reader = (V1ReaderBasedJsonParser) p;
+            String str = new String(doc, StandardCharsets.UTF_8);
+            if (direct) {
+                reader.reset(str.toCharArray(), 0, str.length());
+            } else {
+                reader.reset(new StringReader(str));
+            }
+        } else {
+            ((V1UTF8DataInputJsonParser) p).reset(new DataInputStream(new ByteArrayInputStream(doc)));
+        }
+    }
+}
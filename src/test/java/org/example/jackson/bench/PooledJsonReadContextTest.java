@@ -0,0 +1,130 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonStreamContext;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.DupDetector;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PooledJsonReadContextTest {
+    private final static byte[] DOC = "{\"a\":[1,{\"b\":2}],\"c\":3}".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testRecycledAcrossParsers() throws Exception {
+        PooledJsonReadContext.Levels first;
+        try (JsonParser p = pooled(ParserVariant.V1_UTF8_STREAM, DOC)) {
+            first = ((PooledJsonReadContext) p.getParsingContext()).levels();
+            while (p.nextToken() != null) { }
+        }
+        try (JsonParser p = pooled(ParserVariant.V1_DATA_INPUT, DOC)) {
+            assertSame(first, ((PooledJsonReadContext) p.getParsingContext()).levels());
+        }
+    }
+
+    @Test
+    void testDetachedWhenReleased() throws Exception {
+        final byte[] doc = "{\"a\":[1,2]} ".getBytes(StandardCharsets.UTF_8);
+        JsonStreamContext ctxt;
+        try (JsonParser p = pooled(ParserVariant.V1_UTF8_STREAM, doc)) {
+            assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            assertEquals(JsonToken.FIELD_NAME, p.nextToken());
+            assertEquals(JsonToken.START_ARRAY, p.nextToken());
+            ctxt = p.getParsingContext();
+            p.close();
+            assertNull(((PooledJsonReadContext) ctxt).levels());
+        }
+        // next parser of the thread gets the arrays, but not the released context
+        try (JsonParser p = pooled(ParserVariant.V1_UTF8_STREAM, DOC)) {
+            assertNotSame(ctxt, p.getParsingContext());
+            while (p.nextToken() != JsonToken.END_ARRAY) { }
+            assertEquals("/a", ctxt.pathAsPointer().toString());
+            assertEquals(2, ctxt.getNestingDepth());
+            assertEquals("a", ctxt.getParent().getCurrentName());
+        }
+        // and when released on reaching the end of input, still at the root level
+        try (JsonParser p = pooled(ParserVariant.V1_UTF8_STREAM, doc)) {
+            while (p.nextToken() != null) { }
+            ctxt = p.getParsingContext();
+            assertTrue(p.isClosed());
+            try (JsonParser p2 = pooled(ParserVariant.V1_UTF8_STREAM, DOC)) {
+                p2.nextToken();
+                p2.nextToken();
+                assertTrue(ctxt.inRoot());
+                assertNull(ctxt.getCurrentName());
+            }
+        }
+    }
+
+    @Test
+    void testKeptWhenReset() throws Exception {
+        try (JsonParser p = pooled(ParserVariant.V1_UTF8_STREAM, DOC)) {
+            final JsonStreamContext ctxt = p.getParsingContext();
+            final PooledJsonReadContext.Levels levels = ((PooledJsonReadContext) ctxt).levels();
+            // reset with levels still open
+            while (p.nextToken() != JsonToken.VALUE_NUMBER_INT) { }
+            ((V1UTF8StreamJsonParser) p).reset(DOC, 0, DOC.length);
+            assertSame(ctxt, p.getParsingContext());
+            assertSame(levels, ((PooledJsonReadContext) ctxt).levels());
+            assertTrue(ctxt.inRoot());
+            assertEquals(0, ctxt.getNestingDepth());
+            assertNull(ctxt.getCurrentName());
+            while (p.nextToken() != null) { }
+        }
+    }
+
+    @Test
+    void testDupDetectorsKept() throws Exception {
+        final byte[] doc = "{\"a\":{\"b\":1,\"c\":{}},\"d\":2}".getBytes(StandardCharsets.UTF_8);
+        DupDetector[] first = null;
+        for (int i = 0; i < 2; ++i) {
+            try (JsonParser p = pooled(ParserVariant.V1_UTF8_STREAM, doc)) {
+                p.enable(JsonParser.Feature.STRICT_DUPLICATE_DETECTION);
+                final PooledJsonReadContext.Levels levels = ((PooledJsonReadContext) p.getParsingContext()).levels();
+                while (p.nextToken() != null) { }
+                if (first == null) {
+                    first = levels.dups;
+                } else {
+                    assertSame(first, levels.dups);
+                }
+            }
+            // detectors refer to their parser, so are not kept
+            assertNull(first[0]);
+            assertNull(first[2]);
+        }
+    }
+
+    @Test
+    void testNotSharedWhileInUse() throws Exception {
+        try (JsonParser p1 = pooled(ParserVariant.V1_UTF8_STREAM, DOC);
+             JsonParser p2 = pooled(ParserVariant.V1_UTF8_STREAM, DOC)) {
+            assertNotSame(p1.getParsingContext(), p2.getParsingContext());
+            // interleave to make sure state is not shared
+            assertEquals(JsonToken.START_OBJECT, p1.nextToken());
+            assertEquals(JsonToken.FIELD_NAME, p1.nextToken());
+            assertEquals(JsonToken.START_ARRAY, p1.nextToken());
+            assertEquals(JsonToken.START_OBJECT, p2.nextToken());
+            assertEquals(JsonToken.FIELD_NAME, p2.nextToken());
+            assertEquals("a", p1.getCurrentName());
+            assertEquals("/a", p1.getParsingContext().pathAsPointer().toString());
+            assertEquals("/a", p2.getParsingContext().pathAsPointer().toString());
+            assertEquals("a", p2.getCurrentName());
+        }
+    }
+
+    /**
+     * @return Parser of given variant, switched to pooled contexts (not the default)
+     */
+    private static JsonParser pooled(ParserVariant variant, byte[] doc) throws Exception {
+        final JsonParser p = variant.createParser(doc);
+        ((V2ParserBase) p).setPooledContexts(true);
+        return p;
+    }
+}
@@ -0,0 +1,181 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+/**
+ * Verifies that all available {@link StringScanner}s find the same ends of ASCII
+ * content (vector one is only tested if {@code jdk.incubator.vector} is added), and
+ * that {@link V1UTF8StreamJsonParser} and {@link V1NonBlockingJsonParser} using them
+ * read String values like stock parsers, including ones longer than input buffers.
+ * Also covers names, which {@link V1UTF8StreamJsonParser} assembles into quads
+ * a word at a time.
+ */
+public class StringScannerTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+    private final static byte[] STOPS = "\"\\\n\u0001".getBytes(StandardCharsets.UTF_8);
+
+    @Test
+    void testScannersAgree() {
+        final Random rnd = new Random(123);
+        final StringScanner scalar = StringScanner.scalar();
+        for (StringScanner scanner : scanners()) {
+            for (int round = 0; round < 2000; ++round) {
+                byte[] input = new byte[1 + rnd.nextInt(300)];
+                for (int i = 0; i < input.length; ++i) {
+                    input[i] = (byte) (0x20 + rnd.nextInt(0x5F));
+                }
+                // a few stops, or none at all
+                for (int i = rnd.nextInt(3); i > 0; --i) {
+                    input[rnd.nextInt(input.length)] = rnd.nextBoolean()
+                            ? STOPS[rnd.nextInt(STOPS.length)] : (byte) (0x80 + rnd.nextInt(0x80));
+                }
+                final int ptr = rnd.nextInt(input.length);
+                final int end = ptr + rnd.nextInt(input.length - ptr + 1);
+                final String msg = scanner + " round " + round;
+                assertEquals(scalar.scan(input, ptr, end), scanner.scan(input, ptr, end), msg);
+
+                char[] expected = new char[input.length + 3];
+                char[] actual = new char[input.length + 3];
+                assertEquals(scalar.scanAndCopy(input, ptr, end, expected, 3),
+                        scanner.scanAndCopy(input, ptr, end, actual, 3), msg);
+                assertArrayEquals(expected, actual, msg);
+            }
+        }
+    }
+
+    @Test
+    void testParserStringsMatchStock() throws Exception {
+        final StringBuilder sb = new StringBuilder("[");
+        for (int len : new int[] { 0, 1, 15, 16, 17, 31, 33, 63, 64, 65, 500, 7999, 8000, 8001, 20000 }) {
+            final String ascii = ascii(len);
+            sb.append('"').append(ascii).append("\",");
+            // stops at the start, in the middle and at the end
+            sb.append("\"\\n").append(ascii).append("\",");
+            sb.append('"').append(ascii).append("caf\u00e9\\t").append(ascii).append("\",");
+            sb.append('"').append(ascii).append("\\\"\",");
+        }
+        sb.append("{\"").append(ascii(100)).append("\":\"x\"}]");
+        final byte[] doc = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        final List<String> expected = ParserEquivalenceTest.tokens(ParserVariant.UTF8_STREAM, doc);
+        final List<JsonToken> expectedSkipped = skippedTokens(ParserVariant.UTF8_STREAM.createParser(doc));
+        for (StringScanner scanner : scanners()) {
+            try (JsonParser p = ParserVariant.V1_UTF8_STREAM.createParser(doc)) {
+                ((V1UTF8StreamJsonParser) p).setStringScanner(scanner);
+                assertEquals(expected, ParserEquivalenceTest.tokens(p), scanner.toString());
+            }
+            JsonParser p = ParserVariant.V1_UTF8_STREAM.createParser(doc);
+            ((V1UTF8StreamJsonParser) p).setStringScanner(scanner);
+            assertEquals(expectedSkipped, skippedTokens(p), scanner.toString());
+
+            // all input at once, and in chunks splitting values at various places
+            try (JsonParser ap = ParserVariant.V1_ASYNC.createParser(doc)) {
+                ((V1NonBlockingJsonParser) ap).setStringScanner(scanner);
+                assertEquals(expected, ParserEquivalenceTest.tokens(ap), scanner.toString());
+            }
+            for (int chunkSize : new int[] { 7, 1000 }) {
+                V1NonBlockingJsonParser ap = new V1NonBlockingJsonParser(
+                        JsonUtil.createContext(JsonUtil.createContentReference(doc), true),
+                        FACTORY.getParserFeatures(),
+                        ByteQuadsCanonicalizer.createRoot().makeChild(JsonFactory.Feature.collectDefaults()));
+                ap.setStringScanner(scanner);
+                assertEquals(texts(ParserVariant.UTF8_STREAM.createParser(doc)),
+                        texts(new ChunkedInputFeeder(ap, doc, chunkSize)), scanner + " chunks of " + chunkSize);
+            }
+        }
+    }
+
+    @Test
+    void testNamesMatchStock() throws Exception {
+        // names of all lengths up to a few words, and long ones, each with a stop
+        // (or a byte of a multi-byte character) at every position
+        final String[] stops = { "\\\\", "\\\"", "\\u0041", "\\n", "\u00e9", "\u4e2d" };
+        final StringBuilder sb = new StringBuilder("{");
+        for (int len : new int[] { 0, 1, 3, 4, 5, 8, 9, 12, 13, 16, 17, 20, 21, 24, 25, 29, 40, 100, 1000 }) {
+            final String ascii = ascii(len);
+            sb.append('"').append(ascii).append("\":").append(len).append(',');
+            for (int i = 0; i <= len; ++i) {
+                final String stop = stops[(len + i) % stops.length];
+                sb.append('"').append(ascii, 0, i).append(stop).append(ascii, i, len).append("\":").append(i)
+                        .append(',');
+            }
+        }
+        sb.append("\"end\":true}");
+        final byte[] doc = sb.toString().getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(ParserEquivalenceTest.tokens(ParserVariant.UTF8_STREAM, doc),
+                ParserEquivalenceTest.tokens(ParserVariant.V1_UTF8_STREAM, doc));
+    }
+
+    private static List<StringScanner> scanners() {
+        List<StringScanner> result = new ArrayList<>(Arrays.asList(StringScanner.scalar(), StringScanner.swar()));
+        if (StringScanner.vector() != null) {
+            result.add(StringScanner.vector());
+        }
+        return result;
+    }
+
+    /**
+     * @return Tokens read without accessing text, so that String values are skipped
+     */
+    private static List<JsonToken> skippedTokens(JsonParser p) throws Exception {
+        List<JsonToken> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                result.add(t);
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    /**
+     * @return Text of all tokens of given parser
+     */
+    private static List<String> texts(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            while (p.nextToken() != null) {
+                result.add(p.getText());
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    private static List<String> texts(ChunkedInputFeeder feeder) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            while (feeder.nextToken() != null) {
+                result.add(feeder.getParser().getText());
+            }
+        } finally {
+            feeder.getParser().close();
+        }
+        return result;
+    }
+
+    private static String ascii(int len) {
+        StringBuilder sb = new StringBuilder(len);
+        for (int i = 0; i < len; ++i) {
+            sb.append((char) ('a' + (i % 26)));
+        }
+        return sb.toString();
+    }
+}
@@ -0,0 +1,54 @@
+package org.example.jackson.bench;
+
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class StripedInternCacheTest {
+    @Test
+    void testReturnsInterned() {
+        StripedInternCache cache = new StripedInternCache(64, 4);
+        String name = new String("fieldName");
+        assertSame("fieldName", cache.intern(name));
+        assertSame("fieldName", cache.intern(new String("fieldName")));
+        assertEquals(1, cache.size());
+    }
+
+    @Test
+    void testBoundedWithoutFlush() {
+        StripedInternCache cache = new StripedInternCache(256, 4);
+        for (int i = 0; i < 10_000; ++i) {
+            cache.intern("key" + i);
+            assertTrue(cache.size() <= cache.capacity());
+        }
+        // full flushes would leave far fewer entries behind
+        assertEquals(cache.capacity(), cache.size());
+    }
+
+    @Test
+    void testStripesAtMostCapacity() {
+        assertEquals(2, new StripedInternCache(3, 16).stripes());
+        assertEquals(4, new StripedInternCache(4, 3).stripes());
+        assertEquals(1, new StripedInternCache(1, 16).stripes());
+        assertEquals(16, new StripedInternCache(4096, 9).stripes());
+        assertTrue(new StripedInternCache(3, 16).capacity() >= 3);
+    }
+
+    @Test
+    void testHotEntriesSurviveEviction() {
+        StripedInternCache cache = new StripedInternCache(256, 1);
+        for (int round = 0; round < 100; ++round) {
+            for (int hot = 0; hot < 16; ++hot) {
+                cache.intern("hot" + hot);
+            }
+            for (int cold = 0; cold < 100; ++cold) {
+                cache.intern("cold" + round + "_" + cold);
+            }
+        }
+        for (int hot = 0; hot < 16; ++hot) {
+            assertTrue(cache.contains("hot" + hot), "hot" + hot);
+        }
+    }
+}
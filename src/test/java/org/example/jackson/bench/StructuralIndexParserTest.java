@@ -0,0 +1,173 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.json.JsonReadFeature;
+import com.fasterxml.jackson.core.sym.ByteQuadsCanonicalizer;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+/**
+ * Verifies {@link V1StructuralIndexJsonParser} where it differs most from the stream
+ * parser: String values skipped by the index, token offsets, non-standard features
+ * and invalid content. (Token streams of valid documents are compared with those of
+ * stock parsers by {@link ParserEquivalenceTest}.)
+ */
+public class StructuralIndexParserTest {
+    private final static String[] VALID_DOCS = {
+            ParserEquivalenceTest.MIXED_DOC,
+            "[\"a\\\"\" , \"\\\\\",\"\\\\\\\"\"\n,\t\"x\"  ]",
+            " {\"a\" : \"b\" , \"c\":[ \"d\" ,{\"e\":\"\\u0041\"} ] } \"root\"\n12 true ",
+            "\"\"", "0", "-1.5e3", "null", "[]", "{}",
+            JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 30),
+    };
+
+    private final static String[] INVALID_DOCS = {
+            "[1 2]", "[1x]", "[\"a\"1]", "{\"a\" 1}", "{\"a\":1,}", "[1,]", "[1", "{\"a\":", "[\"abc",
+            "[\"abc\\\"]", "[truex]", "1x", "{\"a\":1]", "[}", "[\u0001]", "[,1]", "{\"a\"}",
+    };
+
+    @Test
+    void testSkippedStringsMatchStock() throws Exception {
+        for (String doc : VALID_DOCS) {
+            final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            assertEquals(structure(new JsonFactory().createParser(bytes)), structure(createParser(doc)), doc);
+        }
+    }
+
+    @Test
+    void testOffsetsMatchStock() throws Exception {
+        for (String doc : VALID_DOCS) {
+            final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            assertEquals(offsets(ParserVariant.UTF8_STREAM.createParser(bytes)), offsets(createParser(doc)), doc);
+        }
+    }
+
+    @Test
+    void testFeaturesMatchStock() throws Exception {
+        assertMatchesStock("[1,2,]", JsonReadFeature.ALLOW_TRAILING_COMMA);
+        assertMatchesStock("{\"a\":1,}", JsonReadFeature.ALLOW_TRAILING_COMMA);
+        assertMatchesStock("[1,,2,]", JsonReadFeature.ALLOW_MISSING_VALUES);
+        assertMatchesStock("{a:1, b_2 : [3]}", JsonReadFeature.ALLOW_UNQUOTED_FIELD_NAMES);
+        assertMatchesStock("[NaN, -Infinity ,Infinity]", JsonReadFeature.ALLOW_NON_NUMERIC_NUMBERS);
+        assertMatchesStock("[+1, .5]", JsonReadFeature.ALLOW_LEADING_PLUS_SIGN_FOR_NUMBERS,
+                JsonReadFeature.ALLOW_LEADING_DECIMAL_POINT_FOR_NUMBERS);
+    }
+
+    @Test
+    void testUnsupportedFeatures() throws Exception {
+        for (JsonReadFeature f : new JsonReadFeature[] { JsonReadFeature.ALLOW_JAVA_COMMENTS,
+                JsonReadFeature.ALLOW_YAML_COMMENTS, JsonReadFeature.ALLOW_SINGLE_QUOTES }) {
+            try (JsonParser p = createParser("[1]", f)) {
+                assertThrows(UnsupportedOperationException.class, p::nextToken, f.name());
+            }
+        }
+    }
+
+    @Test
+    void testInvalidContentFails() throws Exception {
+        for (String doc : INVALID_DOCS) {
+            final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            // stock parser must fail too, for the doc to be a valid test
+            assertThrows(JsonParseException.class, () -> ParserEquivalenceTest.tokens(
+                    ParserVariant.UTF8_STREAM.createParser(bytes)), doc);
+            assertThrows(JsonParseException.class, () -> structure(createParser(doc)), doc);
+        }
+    }
+
+    @Test
+    void testSkippedChildrenMatchStreamParser() throws Exception {
+        for (String doc : VALID_DOCS) {
+            final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            assertEquals(skipped(ParserVariant.V1_UTF8_STREAM.createParser(bytes)), skipped(createParser(doc)), doc);
+        }
+        for (String doc : new String[] { "[[1,{\"a\":[2]}}]", "{\"a\":[1]]}", "[[1,[2]]" }) {
+            final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+            assertThrows(JsonParseException.class, () -> skipped(ParserVariant.V1_UTF8_STREAM.createParser(bytes)), doc);
+            assertThrows(JsonParseException.class, () -> skipped(createParser(doc)), doc);
+        }
+    }
+
+    private static void assertMatchesStock(String doc, JsonReadFeature... features) throws Exception {
+        final JsonFactory f = JsonFactory.builder().enable(features[0], features).build();
+        assertEquals(ParserEquivalenceTest.tokens(f.createParser(doc.getBytes(StandardCharsets.UTF_8))),
+                ParserEquivalenceTest.tokens(createParser(doc, features)), doc);
+    }
+
+    private static JsonParser createParser(String doc, JsonReadFeature... features) {
+        final byte[] bytes = doc.getBytes(StandardCharsets.UTF_8);
+        // content in the middle of a larger buffer
+        final byte[] buffer = new byte[bytes.length + 4];
+        System.arraycopy(bytes, 0, buffer, 2, bytes.length);
+        int parserFeatures = new JsonFactory().getParserFeatures();
+        for (JsonReadFeature f : features) {
+            parserFeatures |= f.mappedFeature().getMask();
+        }
+        return new V1StructuralIndexJsonParser(JsonUtil.createContext(JsonUtil.createContentReference(bytes), true),
+                parserFeatures, null, ByteQuadsCanonicalizer.createRoot().makeChild(
+                        JsonFactory.Feature.collectDefaults()), buffer, 2, bytes.length);
+    }
+
+    /**
+     * @return Tokens with names and numbers, but without text of String values
+     *    (which are thereby skipped)
+     */
+    private static List<String> structure(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            while ((t = p.nextToken()) != null) {
+                if (t == JsonToken.FIELD_NAME || t.isNumeric()) {
+                    result.add(t + " " + p.getText());
+                } else {
+                    result.add(t.name());
+                }
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    /**
+     * @return Tokens read when children of each other Array and Object are skipped
+     *    (without validation), with their offsets
+     */
+    private static List<String> skipped(JsonParser p) throws Exception {
+        List<String> result = new ArrayList<>();
+        try {
+            JsonToken t;
+            boolean skip = false;
+            while ((t = p.nextToken()) != null) {
+                if (t.isStructStart() && (skip = !skip)) {
+                    ((V1UTF8StreamJsonParser) p).skipChildrenUnvalidated();
+                    t = p.currentToken();
+                }
+                result.add(t + " " + p.currentTokenLocation().getByteOffset() + " " + p.getParsingContext().getNestingDepth());
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+
+    private static List<Long> offsets(JsonParser p) throws Exception {
+        List<Long> result = new ArrayList<>();
+        try {
+            while (p.nextToken() != null) {
+                result.add(p.currentTokenLocation().getByteOffset());
+            }
+        } finally {
+            p.close();
+        }
+        return result;
+    }
+}
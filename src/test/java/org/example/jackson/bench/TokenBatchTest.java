@@ -0,0 +1,205 @@
+package org.example.jackson.bench;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonLocation;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Verifies that token batches of {@link V1UTF8StreamJsonParser#nextTokens} and
+ * {@link V1ReaderBasedJsonParser#nextTokens} match tokens of stock parsers, with
+ * offsets and lengths that point to token text in content; and that batches can be
+ * mixed with {@code nextToken()} calls.
+ */
+public class TokenBatchTest {
+    private final static JsonFactory FACTORY = new JsonFactory();
+
+    // a few root-level values, so that content spans several input buffers
+    private final static byte[] DOC = (ParserEquivalenceTest.MIXED_DOC + "\n"
+            + ParserEquivalenceTest.MIXED_DOC + " 42 \"root\" [true] "
+            + JsonUtil.createNestedDoc(JsonUtil.NestingShape.WIDE, 200) + " "
+            + JsonUtil.createNestedDoc(JsonUtil.NestingShape.OBJECTS, 200)).getBytes(StandardCharsets.UTF_8);
+
+    private final static ParserVariant[] VARIANTS = { ParserVariant.V1_UTF8_STREAM, ParserVariant.V1_READER,
+            ParserVariant.V1_UTF8_STREAM_LAZY, ParserVariant.V1_READER_LAZY, ParserVariant.V1_STRUCTURAL_INDEX };
+
+    @Test
+    void testBatchesMatchStock() throws Exception {
+        for (ParserVariant variant : VARIANTS) {
+            final List<String> expected = ParserEquivalenceTest.tokens(variant.stockCounterpart(), DOC);
+            final List<Long> expectedOffsets = tokenOffsets(variant.stockCounterpart(), DOC);
+            final String content = new String(DOC, StandardCharsets.UTF_8);
+            for (int max : new int[] { 2, 3, 7, 64 }) {
+                final String msg = variant + " batches of " + max;
+                final int[] ids = new int[max];
+                final int[] offsets = new int[max];
+                final int[] lengths = new int[max];
+                int index = 0;
+                try (JsonParser p = variant.createParser(DOC)) {
+                    int count;
+                    while ((count = nextTokens(p, ids, offsets, lengths, max)) > 0) {
+                        for (int i = 0; i < count; ++i, ++index) {
+                            final String token = expected.get(index);
+                            assertEquals(token.substring(0, token.indexOf(' ')),
+                                    token(ids[i]).name(), msg);
+                            assertEquals(expectedOffsets.get(index).intValue(), offsets[i], msg);
+                            final String text = (variant.stockCounterpart() == ParserVariant.READER)
+                                    ? content.substring(offsets[i], offsets[i] + lengths[i])
+                                    : new String(DOC, offsets[i], lengths[i], StandardCharsets.UTF_8);
+                            assertEquals(expectedText(token), decode(ids[i], text), msg);
+                        }
+                        // last token of batch is current one, unless at end of content
+                        if (index < expected.size()) {
+                            assertEquals(expected.get(index - 1),
+                                    ParserEquivalenceTest.describe(p.currentToken(), p), msg);
+                        }
+                    }
+                }
+                assertEquals(expected.size(), index, msg);
+            }
+        }
+    }
+
+    @Test
+    void testBatchesMixWithNextToken() throws Exception {
+        for (ParserVariant variant : VARIANTS) {
+            final List<String> expected = ParserEquivalenceTest.tokens(variant.stockCounterpart(), DOC);
+            final List<String> actual = new ArrayList<>();
+            final int[] ids = new int[3];
+            try (JsonParser p = variant.createParser(DOC)) {
+                int count = 0;
+                do {
+                    final JsonToken t = p.nextToken();
+                    if (t == null) {
+                        break;
+                    }
+                    actual.add(ParserEquivalenceTest.describe(t, p));
+                    count = nextTokens(p, ids, new int[3], new int[3], 3);
+                    for (int i = 0; i < count - 1; ++i) {
+                        actual.add(token(ids[i]).name());
+                    }
+                    if (count > 0) {
+                        actual.add((p.currentToken() == null) ? token(ids[count - 1]).name()
+                                : ParserEquivalenceTest.describe(p.currentToken(), p));
+                    }
+                } while (count > 0);
+            }
+            assertEquals(expected.size(), actual.size(), variant.name());
+            for (int i = 0; i < expected.size(); ++i) {
+                final String token = actual.get(i);
+                assertEquals(token.contains(" ") ? expected.get(i) : expected.get(i).substring(0,
+                        expected.get(i).indexOf(' ')), token, variant.name());
+            }
+        }
+    }
+
+    @Test
+    void testRejectsSmallBatches() throws Exception {
+        for (ParserVariant variant : VARIANTS) {
+            try (JsonParser p = variant.createParser(DOC)) {
+                assertThrows(IllegalArgumentException.class,
+                        () -> nextTokens(p, new int[1], new int[1], new int[1], 1));
+                assertThrows(IllegalArgumentException.class,
+                        () -> nextTokens(p, new int[8], new int[8], new int[4], 8));
+                assertEquals(JsonToken.START_OBJECT, p.nextToken());
+            }
+        }
+    }
+
+    @Test
+    void testNamesOnlyLocated() throws Exception {
+        final byte[] doc = "{\"first\":1,\"second\":\"x\",\"third\":{\"fourth\":2}}"
+                .getBytes(StandardCharsets.UTF_8);
+        for (ParserVariant variant : VARIANTS) {
+            try (JsonParser p = variant.createParser(doc)) {
+                final int[] ids = new int[5];
+                assertEquals(5, nextTokens(p, ids, new int[5], new int[5], 5));
+                // "second" not decoded until accessed
+                assertEquals(JsonToken.VALUE_STRING, p.currentToken());
+                assertTrue(lazyNameStart(p) >= 0, variant.name());
+                assertEquals("second", p.getCurrentName());
+                // name of an Object is decoded, as parent name of its entries
+                assertEquals(4, nextTokens(p, ids, new int[5], new int[5], 5));
+                assertEquals(JsonToken.VALUE_NUMBER_INT, p.currentToken());
+                assertEquals("/third/fourth", p.getParsingContext().pathAsPointer().toString());
+            }
+        }
+    }
+
+    private static int nextTokens(JsonParser p, int[] ids, int[] offsets, int[] lengths, int max)
+            throws Exception {
+        if (p instanceof V1UTF8StreamJsonParser) {
+            return ((V1UTF8StreamJsonParser) p).nextTokens(ids, offsets, lengths, max);
+        }
+        return ((V1ReaderBasedJsonParser) p).nextTokens(ids, offsets, lengths, max);
+    }
+
+    private static int lazyNameStart(JsonParser p) {
+        if (p instanceof V1UTF8StreamJsonParser) {
+            return ((V1UTF8StreamJsonParser) p)._lazyNameStart;
+        }
+        return ((V1ReaderBasedJsonParser) p)._lazyNameStart;
+    }
+
+    private static List<Long> tokenOffsets(ParserVariant variant, byte[] doc) throws Exception {
+        List<Long> result = new ArrayList<>();
+        try (JsonParser p = variant.createParser(doc)) {
+            while (p.nextToken() != null) {
+                final JsonLocation loc = p.currentTokenLocation();
+                result.add((variant == ParserVariant.READER) ? loc.getCharOffset() : loc.getByteOffset());
+            }
+        }
+        return result;
+    }
+
+    /**
+     * @return Text of token in description of {@link ParserEquivalenceTest#describe}
+     */
+    private static String expectedText(String token) {
+        final String[] parts = token.split(" ", 4);
+        final JsonToken t = JsonToken.valueOf(parts[0]);
+        if (t.isScalarValue() || t == JsonToken.FIELD_NAME) {
+            String text = token.substring(parts[0].length() + parts[1].length() + parts[2].length() + 3);
+            if (t.isNumeric()) { // followed by number type and value
+                text = text.substring(0, text.indexOf(' '));
+            }
+            return text;
+        }
+        return t.asString();
+    }
+
+    /**
+     * @return Text of token as given in content, with quotes and escapes of names
+     *    and String values decoded
+     */
+    private static String decode(int id, String text) throws Exception {
+        final JsonToken t = token(id);
+        if (t == JsonToken.VALUE_STRING || t == JsonToken.FIELD_NAME) {
+            try (JsonParser p = FACTORY.createParser(text)) {
+                assertEquals(JsonToken.VALUE_STRING, p.nextToken());
+                final String value = p.getText();
+                assertEquals(text.length(), p.currentLocation().getCharOffset());
+                return value;
+            }
+        }
+        return text;
+    }
+
+    private static JsonToken token(int id) {
+        for (JsonToken t : JsonToken.values()) {
+            if (t.id() == id) {
+                return t;
+            }
+        }
+        throw new IllegalArgumentException("No token with id " + id);
+    }
+}